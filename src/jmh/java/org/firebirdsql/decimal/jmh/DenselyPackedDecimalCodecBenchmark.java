@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal.jmh;
+
+import org.firebirdsql.decimal.DenselyPackedDecimalCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DenselyPackedDecimalCodec#decodeValue(int, int, byte[])} and
+ * {@link DenselyPackedDecimalCodec#encodeValue(BigInteger, byte[])} for the coefficient sizes of Decimal64 (16 digits)
+ * and Decimal128 (34 digits).
+ *
+ * @author Mark Rotteveel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DenselyPackedDecimalCodecBenchmark {
+
+    @Param
+    public ValueSet valueSet;
+
+    @Param({ "16", "34" })
+    public int digits;
+
+    private DenselyPackedDecimalCodec codec;
+    private BigInteger[] coefficients;
+    private int[] signums;
+    private int[] firstDigits;
+    private byte[][] encodedBytes;
+    private byte[] scratchBytes;
+
+    @Setup
+    public void setUp() {
+        codec = new DenselyPackedDecimalCodec(digits);
+        int byteLength = digits == 16 ? 8 : 16;
+        MathContext mathContext = new MathContext(digits);
+        BigDecimal[] bigDecimals = valueSet.bigDecimals();
+        coefficients = new BigInteger[ValueSet.SIZE];
+        signums = new int[ValueSet.SIZE];
+        firstDigits = new int[ValueSet.SIZE];
+        encodedBytes = new byte[ValueSet.SIZE][];
+        for (int idx = 0; idx < ValueSet.SIZE; idx++) {
+            BigInteger coefficient = bigDecimals[idx].round(mathContext).unscaledValue();
+            coefficients[idx] = coefficient;
+            signums[idx] = coefficient.signum() < 0 ? -1 : 1;
+            encodedBytes[idx] = new byte[byteLength];
+            firstDigits[idx] = codec.encodeValue(coefficient, encodedBytes[idx]);
+        }
+        scratchBytes = new byte[byteLength];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decodeValue(Blackhole bh) {
+        for (int idx = 0; idx < ValueSet.SIZE; idx++) {
+            bh.consume(codec.decodeValue(signums[idx], firstDigits[idx], encodedBytes[idx]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void encodeValue(Blackhole bh) {
+        final byte[] scratchBytes = this.scratchBytes;
+        for (BigInteger coefficient : coefficients) {
+            Arrays.fill(scratchBytes, (byte) 0);
+            bh.consume(codec.encodeValue(coefficient, scratchBytes));
+        }
+        bh.consume(scratchBytes);
+    }
+
+}
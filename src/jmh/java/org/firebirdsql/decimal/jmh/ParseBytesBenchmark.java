@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal.jmh;
+
+import org.firebirdsql.decimal.Decimal128;
+import org.firebirdsql.decimal.Decimal32;
+import org.firebirdsql.decimal.Decimal64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks decoding of IEEE-754 byte representations with {@code parseBytes(byte[])}.
+ *
+ * @author Mark Rotteveel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBytesBenchmark {
+
+    @Param
+    public ValueSet valueSet;
+
+    private byte[][] decimal32Bytes;
+    private byte[][] decimal64Bytes;
+    private byte[][] decimal128Bytes;
+
+    @Setup
+    public void setUp() {
+        decimal32Bytes = new byte[ValueSet.SIZE][];
+        decimal64Bytes = new byte[ValueSet.SIZE][];
+        decimal128Bytes = new byte[ValueSet.SIZE][];
+        Decimal32[] decimal32s = valueSet.decimal32s();
+        Decimal64[] decimal64s = valueSet.decimal64s();
+        Decimal128[] decimal128s = valueSet.decimal128s();
+        for (int idx = 0; idx < ValueSet.SIZE; idx++) {
+            decimal32Bytes[idx] = decimal32s[idx].toBytes();
+            decimal64Bytes[idx] = decimal64s[idx].toBytes();
+            decimal128Bytes[idx] = decimal128s[idx].toBytes();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal32(Blackhole bh) {
+        for (byte[] bytes : decimal32Bytes) {
+            bh.consume(Decimal32.parseBytes(bytes));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal64(Blackhole bh) {
+        for (byte[] bytes : decimal64Bytes) {
+            bh.consume(Decimal64.parseBytes(bytes));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal128(Blackhole bh) {
+        for (byte[] bytes : decimal128Bytes) {
+            bh.consume(Decimal128.parseBytes(bytes));
+        }
+    }
+
+}
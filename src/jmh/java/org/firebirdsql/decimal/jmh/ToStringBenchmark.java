@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal.jmh;
+
+import org.firebirdsql.decimal.Decimal128;
+import org.firebirdsql.decimal.Decimal32;
+import org.firebirdsql.decimal.Decimal64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks formatting to strings with {@code toString()}, {@code appendTo(StringBuilder)} and
+ * {@code writeAscii(byte[], int)}.
+ *
+ * @author Mark Rotteveel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ToStringBenchmark {
+
+    @Param
+    public ValueSet valueSet;
+
+    private Decimal32[] decimal32s;
+    private Decimal64[] decimal64s;
+    private Decimal128[] decimal128s;
+    private final StringBuilder sb = new StringBuilder();
+    private final byte[] ascii = new byte[64];
+
+    @Setup
+    public void setUp() {
+        decimal32s = valueSet.decimal32s();
+        decimal64s = valueSet.decimal64s();
+        decimal128s = valueSet.decimal128s();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal32(Blackhole bh) {
+        for (Decimal32 decimal : decimal32s) {
+            bh.consume(decimal.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal64(Blackhole bh) {
+        for (Decimal64 decimal : decimal64s) {
+            bh.consume(decimal.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal128(Blackhole bh) {
+        for (Decimal128 decimal : decimal128s) {
+            bh.consume(decimal.toString());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal64_appendTo(Blackhole bh) {
+        for (Decimal64 decimal : decimal64s) {
+            sb.setLength(0);
+            bh.consume(decimal.appendTo(sb));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal128_appendTo(Blackhole bh) {
+        for (Decimal128 decimal : decimal128s) {
+            sb.setLength(0);
+            bh.consume(decimal.appendTo(sb));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal64_writeAscii(Blackhole bh) {
+        for (Decimal64 decimal : decimal64s) {
+            bh.consume(decimal.writeAscii(ascii, 0));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal128_writeAscii(Blackhole bh) {
+        for (Decimal128 decimal : decimal128s) {
+            bh.consume(decimal.writeAscii(ascii, 0));
+        }
+    }
+
+}
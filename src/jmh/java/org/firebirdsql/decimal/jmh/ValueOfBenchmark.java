@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal.jmh;
+
+import org.firebirdsql.decimal.Decimal128;
+import org.firebirdsql.decimal.Decimal32;
+import org.firebirdsql.decimal.Decimal64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks creation of decimals with {@code valueOf(String)}, {@code valueOf(BigDecimal)} and
+ * {@code valueOf(double)}.
+ *
+ * @author Mark Rotteveel
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueOfBenchmark {
+
+    @Param
+    public ValueSet valueSet;
+
+    private String[] strings;
+    private byte[][] asciiStrings;
+    private BigDecimal[] bigDecimals;
+    private double[] doubles;
+
+    @Setup
+    public void setUp() {
+        strings = valueSet.strings();
+        asciiStrings = new byte[strings.length][];
+        for (int i = 0; i < strings.length; i++) {
+            asciiStrings[i] = strings[i].getBytes(StandardCharsets.US_ASCII);
+        }
+        bigDecimals = valueSet.bigDecimals();
+        doubles = valueSet.doubles();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal32_string(Blackhole bh) {
+        for (String value : strings) {
+            bh.consume(Decimal32.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal64_string(Blackhole bh) {
+        for (String value : strings) {
+            bh.consume(Decimal64.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal128_string(Blackhole bh) {
+        for (String value : strings) {
+            bh.consume(Decimal128.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal32_ascii(Blackhole bh) {
+        for (byte[] value : asciiStrings) {
+            bh.consume(Decimal32.valueOf(value, 0, value.length));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal64_ascii(Blackhole bh) {
+        for (byte[] value : asciiStrings) {
+            bh.consume(Decimal64.valueOf(value, 0, value.length));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal128_ascii(Blackhole bh) {
+        for (byte[] value : asciiStrings) {
+            bh.consume(Decimal128.valueOf(value, 0, value.length));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal32_bigDecimal(Blackhole bh) {
+        for (BigDecimal value : bigDecimals) {
+            bh.consume(Decimal32.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal64_bigDecimal(Blackhole bh) {
+        for (BigDecimal value : bigDecimals) {
+            bh.consume(Decimal64.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal128_bigDecimal(Blackhole bh) {
+        for (BigDecimal value : bigDecimals) {
+            bh.consume(Decimal128.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal32_double(Blackhole bh) {
+        for (double value : doubles) {
+            bh.consume(Decimal32.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal64_double(Blackhole bh) {
+        for (double value : doubles) {
+            bh.consume(Decimal64.valueOf(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ValueSet.SIZE)
+    public void decimal128_double(Blackhole bh) {
+        for (double value : doubles) {
+            bh.consume(Decimal128.valueOf(value));
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal.jmh;
+
+import org.firebirdsql.decimal.Decimal;
+import org.firebirdsql.decimal.Decimal128;
+import org.firebirdsql.decimal.Decimal32;
+import org.firebirdsql.decimal.Decimal64;
+import org.firebirdsql.decimal.DecimalInconvertibleException;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * Sets of values used by the benchmarks.
+ * <p>
+ * Each set is repeated to {@link #SIZE} values, so benchmarks can use a fixed
+ * {@link org.openjdk.jmh.annotations.OperationsPerInvocation}.
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+public enum ValueSet {
+
+    /**
+     * Currency amounts, typical for DECFLOAT columns in ledger and invoice data.
+     */
+    CURRENCY("0.00", "1.00", "12.34", "-45.10", "199.99", "1234.56", "-0.01", "100000.00", "7.50", "98765.43",
+            "0.05", "-2500.00", "19.95", "3.1416", "250", "-0.00"),
+    /**
+     * Values using (close to) the full 34 digits precision of Decimal128, and values near the exponent limits.
+     * <p>
+     * These values are rounded when converted to Decimal32 or Decimal64.
+     * </p>
+     */
+    HIGH_PRECISION("3.141592653589793238462643383279503", "-2.718281828459045235360287471352662",
+            "1234567890123456789012345678901234", "-0.1234567890123456789012345678901234",
+            "9.999999999999999999999999999999999E+6144", "1.000000000000000000000000000000001E-6143",
+            "6.02214076E+23", "1.602176634E-19", "9999999999999999", "-1234567.890123456",
+            "0.3333333333333333333333333333333333", "2.000000000000000000000000000000000"),
+    /**
+     * Infinity and NaN values, and signed zeroes.
+     */
+    SPECIALS("+Infinity", "-Infinity", "+NaN", "-NaN", "+sNaN", "-sNaN", "0", "-0"),
+    /**
+     * Mix of the other sets.
+     */
+    MIXED("12.34", "3.141592653589793238462643383279503", "+NaN", "-45.10", "1.602176634E-19", "0", "199.99",
+            "-Infinity", "1234567890123456789012345678901234", "0.00", "-0", "9999999999999999");
+
+    /**
+     * Number of values in each set.
+     */
+    public static final int SIZE = 16;
+
+    private final String[] values;
+
+    ValueSet(String... values) {
+        this.values = new String[SIZE];
+        for (int idx = 0; idx < SIZE; idx++) {
+            this.values[idx] = values[idx % values.length];
+        }
+    }
+
+    /**
+     * @return the values of this set as strings (new array on each call)
+     */
+    public String[] strings() {
+        return values.clone();
+    }
+
+    /**
+     * @return the finite values of this set as {@code BigDecimal} (specials are replaced by {@code BigDecimal.ZERO})
+     */
+    public BigDecimal[] bigDecimals() {
+        BigDecimal[] result = new BigDecimal[SIZE];
+        Decimal128[] decimals = decimal128s();
+        for (int idx = 0; idx < SIZE; idx++) {
+            try {
+                result[idx] = decimals[idx].toBigDecimal();
+            } catch (DecimalInconvertibleException e) {
+                result[idx] = BigDecimal.ZERO;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the values of this set as {@code double} (values are rounded to the nearest double)
+     */
+    public double[] doubles() {
+        double[] result = new double[SIZE];
+        Decimal128[] decimals = decimal128s();
+        for (int idx = 0; idx < SIZE; idx++) {
+            result[idx] = decimals[idx].doubleValue();
+        }
+        return result;
+    }
+
+    public Decimal32[] decimal32s() {
+        return convert(Decimal32::valueOf, new Decimal32[SIZE]);
+    }
+
+    public Decimal64[] decimal64s() {
+        return convert(Decimal64::valueOf, new Decimal64[SIZE]);
+    }
+
+    public Decimal128[] decimal128s() {
+        return convert(Decimal128::valueOf, new Decimal128[SIZE]);
+    }
+
+    private <T extends Decimal<T>> T[] convert(Function<String, T> valueOf, T[] target) {
+        for (int idx = 0; idx < SIZE; idx++) {
+            target[idx] = valueOf.apply(values[idx]);
+        }
+        return target;
+    }
+
+}
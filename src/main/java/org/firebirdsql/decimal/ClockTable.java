@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, set-associative table of entries with CLOCK (second chance) eviction, shared by {@link DecimalInterner}
+ * and {@link DecimalParseCache}.
+ * <p>
+ * Each key hash maps to a set of {@value #WAYS} entries, and a full set evicts an entry using the CLOCK policy, so
+ * entries that were not used since the hand last passed them are evicted first. The table is thread-safe without
+ * locking; concurrent misses may evict entries that were just added, or add the same key twice, which only affects
+ * the hit rate.
+ * </p>
+ * <p>
+ * The owner of the table finds entries by iterating over the ways of a set and comparing its keys, and reports the
+ * result with {@link #hit(Entry)} or {@link #miss()}.
+ * </p>
+ *
+ * @param <E>
+ *         Entry type
+ * @author Mark Rotteveel
+ */
+final class ClockTable<E extends ClockTable.Entry> {
+
+    /**
+     * Number of entries per set.
+     */
+    static final int WAYS = 8;
+    /**
+     * Maximum of {@link #maximumSize()}, limited by the bits of the hash used to select a set.
+     */
+    static final int MAXIMUM_SIZE = 1 << 24;
+
+    private final @Nullable Entry[] entries;
+    private final int[] hands;
+    private final int setShift;
+    private final int setMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates a table.
+     *
+     * @param maximumSize
+     *         Requested maximum number of entries, rounded up to a power of two (and at least {@value #WAYS})
+     * @throws IllegalArgumentException
+     *         If {@code maximumSize} is less than {@code 1} or more than {@value #MAXIMUM_SIZE}
+     */
+    ClockTable(final int maximumSize) {
+        if (maximumSize < 1 || maximumSize > MAXIMUM_SIZE) {
+            throw new IllegalArgumentException(
+                    "maximumSize must be between 1 and " + MAXIMUM_SIZE + ", was: " + maximumSize);
+        }
+        final int sets = Math.max(1, Integer.highestOneBit((maximumSize + WAYS - 1) / WAYS - 1) << 1);
+        entries = new Entry[sets * WAYS];
+        hands = new int[sets];
+        // With a single set the shift is 32, which Java treats as 0, but the mask is then 0 as well
+        setShift = Integer.SIZE - Integer.numberOfTrailingZeros(sets);
+        setMask = sets - 1;
+    }
+
+    /**
+     * Selects the set of a key.
+     *
+     * @param hash
+     *         Hash of the key, its most significant bits select the set, so it should be well spread
+     * @return Set of the key
+     */
+    int set(final int hash) {
+        return hash >>> setShift & setMask;
+    }
+
+    /**
+     * @param set
+     *         Set (from {@link #set(int)})
+     * @param way
+     *         Way within the set ({@code 0} to {@value #WAYS} - 1)
+     * @return Entry, or {@code null} if there is no entry
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable E get(final int set, final int way) {
+        return (E) entries[set * WAYS + way];
+    }
+
+    /**
+     * Marks {@code entry} as used, and counts the lookup as a hit.
+     *
+     * @param entry
+     *         Entry found by the lookup
+     * @return {@code entry}
+     */
+    E hit(final E entry) {
+        final Entry clockEntry = entry;
+        if (!clockEntry.referenced) {
+            clockEntry.referenced = true;
+        }
+        hitCount.increment();
+        return entry;
+    }
+
+    /**
+     * Counts a lookup as a miss.
+     */
+    void miss() {
+        missCount.increment();
+    }
+
+    /**
+     * Adds an entry to a set, evicting an entry of the set if it is full.
+     *
+     * @param set
+     *         Set (from {@link #set(int)})
+     * @param newEntry
+     *         Entry to add
+     */
+    void put(final int set, final E newEntry) {
+        final int base = set * WAYS;
+        final int hand = hands[set];
+        // Referenced entries get a second chance; after one round all bits are cleared, unless concurrently set again
+        int way = hand;
+        for (int step = 0; step < 2 * WAYS; step++) {
+            way = hand + step & WAYS - 1;
+            final Entry entry = entries[base + way];
+            if (entry == null || !entry.referenced) {
+                break;
+            }
+            entry.referenced = false;
+        }
+        // Entries are immutable except for the referenced bit, so a plain write safely publishes the entry
+        entries[base + way] = newEntry;
+        hands[set] = way + 1 & WAYS - 1;
+    }
+
+    /**
+     * @return Maximum number of entries
+     */
+    int maximumSize() {
+        return entries.length;
+    }
+
+    /**
+     * @return Number of lookups that found an entry
+     */
+    long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return Number of lookups that did not find an entry
+     */
+    long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return Ratio of lookups that found an entry, or {@code 0.0} if there were no lookups yet
+     */
+    double hitRate() {
+        final long hits = hitCount.sum();
+        final long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Base class of table entries; subclasses must only have final fields.
+     */
+    abstract static class Entry {
+
+        /**
+         * CLOCK reference bit, races only affect the choice of the evicted entry.
+         */
+        private boolean referenced;
+
+    }
+
+}
@@ -21,64 +21,93 @@
  */
 package org.firebirdsql.decimal;
 
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.ByteOrder;
 import java.util.Objects;
 
-import static java.util.Objects.requireNonNull;
+import static org.firebirdsql.decimal.UnsignedInt128.TEN_POW_18;
 
 /**
  * Abstract base class for IEEE-754 decimals.
+ * <p>
+ * Implementations store the (canonical) IEEE-754 bits of the decimal. The value as a {@code BigDecimal} is only
+ * decoded &mdash; and then cached &mdash; on the first call to {@link #toBigDecimal()}.
+ * </p>
  *
  * @author Mark Rotteveel
  */
 public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, Decimal64, Decimal128 {
 
-    private final int signum;
-    private final DecimalType type;
-    private final BigDecimal bigDecimal;
-
-    Decimal(int signum, DecimalType type) {
-        //noinspection ConstantValue
-        assert type != null : "Type should not be null";
-        assert type != DecimalType.FINITE : "Constructor only suitable for non-FINITE";
-        assert -1 == signum || signum == 1 : "Invalid signum, " + signum;
-        this.signum = signum;
-        this.type = type;
-        bigDecimal = BigDecimal.ZERO;
-    }
+    // Racy single-check: BigDecimal is immutable, so at worst concurrent callers each decode and cache the value
+    private @Nullable BigDecimal bigDecimal;
 
-    Decimal(int signum, BigDecimal bigDecimal) {
-        assert -1 <= signum && signum <= 1 : "Invalid signum, " + signum;
-        this.type = DecimalType.FINITE;
-        this.signum = signum != 0 ? signum : Signum.POSITIVE;
-        this.bigDecimal = requireNonNull(bigDecimal, "bigDecimal");
-        if (bigDecimal.compareTo(BigDecimal.ZERO) != 0 && this.signum != bigDecimal.signum()) {
-            throw new IllegalArgumentException("Signum value not consistent with big decimal value, was: "
-                                               + signum + ", expected: " + bigDecimal.signum());
-        }
+    Decimal() {
     }
 
     /**
      * Converts this decimal to a {@code BigDecimal}.
+     * <p>
+     * The value is decoded on the first call, and cached for subsequent calls.
+     * </p>
      *
      * @return Value as BigDecimal
      * @throws DecimalInconvertibleException
      *         If this value is a NaN, sNaN or Infinity, which can't be represented as a {@code BigDecimal}.
      */
+    @SuppressWarnings("unchecked")
     public final BigDecimal toBigDecimal() {
-        if (type != DecimalType.FINITE) {
-            throw new DecimalInconvertibleException(
-                    "Value " + this + " cannot be converted to a BigDecimal", type, signum);
+        BigDecimal bigDecimal = this.bigDecimal;
+        if (bigDecimal == null) {
+            final DecimalType type = getType();
+            if (type != DecimalType.FINITE) {
+                throw new DecimalInconvertibleException(
+                        "Value " + this + " cannot be converted to a BigDecimal", type, signum());
+            }
+            this.bigDecimal = bigDecimal = getDecimalCodec().decodeValue((T) this);
         }
         return bigDecimal;
     }
 
+    /**
+     * Converts this decimal to a {@code BigDecimal}, or returns {@code null} if this value is a NaN, sNaN or Infinity.
+     * <p>
+     * Same as {@link #toBigDecimal()}, but without throwing an exception for values that can't be represented as a
+     * {@code BigDecimal}. If needed, {@link #doubleValue()} distinguishes these values (as NaN or +/-Infinity).
+     * </p>
+     *
+     * @return Value as BigDecimal, or {@code null} if this value is not finite
+     */
+    public final @Nullable BigDecimal tryToBigDecimal() {
+        return getType() == DecimalType.FINITE ? toBigDecimal() : null;
+    }
+
+    /**
+     * Value of this finite decimal, without caching it if it was not already cached.
+     *
+     * @return Value as BigDecimal
+     */
+    @SuppressWarnings("unchecked")
+    private BigDecimal finiteValue() {
+        final BigDecimal bigDecimal = this.bigDecimal;
+        return bigDecimal != null ? bigDecimal : getDecimalCodec().decodeValue((T) this);
+    }
+
     /**
      * Converts this decimal to a double value.
      * <p>
-     * For normal, finite, decimal values, see {@link BigDecimal#doubleValue()}.
+     * For normal, finite, decimal values, see {@link BigDecimal#doubleValue()}. The nearest double is computed
+     * directly from the coefficient and exponent, only in rare cases (coefficients of more than 19 digits) this
+     * falls back to {@code BigDecimal}.
      * </p>
      * <p>
      * For type INFINITY, returns {@code Double.POSITIVE_INFINITY} or {@code Double.NEGATIVE_INFINITY}. For all
@@ -88,19 +117,28 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
      * @return this decimal converted to a {@code double}
      */
     public final double doubleValue() {
-        return switch (type) {
-            case FINITE -> bigDecimal.doubleValue();
-            case INFINITY -> signum == Signum.NEGATIVE ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        return switch (getType()) {
+            case FINITE -> finiteDoubleValue();
+            case INFINITY -> signum() == Signum.NEGATIVE ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
             // No differentiation between positive/negative and signaling/normal
             case NAN, SIGNALING_NAN -> Double.NaN;
         };
     }
 
+    @SuppressWarnings("unchecked")
+    private double finiteDoubleValue() {
+        final DecimalCodec<T> codec = getDecimalCodec();
+        final T decimal = (T) this;
+        final double value = DecimalToDouble.toDouble(signum(), codec.upperCoefficient(decimal),
+                codec.lowerCoefficient(decimal), codec.exponent(decimal));
+        return Double.isNaN(value) ? finiteValue().doubleValue() : value;
+    }
+
     /**
      * Converts this decimal to its IEEE-754 byte encoding in network byte-order (aka big-endian).
      * <p>
-     * This method returns network byte-order (aka big-endian). When you need little-endian order, you will need to
-     * reverse the bytes in the array.
+     * This method returns network byte-order (aka big-endian). When you need little-endian order, use
+     * {@link #toBytes(ByteOrder)}.
      * </p>
      *
      * @return byte array
@@ -110,6 +148,74 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
         return getDecimalCodec().encodeDecimal((T) this);
     }
 
+    /**
+     * Converts this decimal to its IEEE-754 byte encoding in the specified byte order.
+     *
+     * @param byteOrder
+     *         Byte order of the byte encoding
+     * @return byte array
+     */
+    @SuppressWarnings("unchecked")
+    public final byte[] toBytes(ByteOrder byteOrder) {
+        return getDecimalCodec().encodeDecimal((T) this, byteOrder);
+    }
+
+    /**
+     * Writes the IEEE-754 byte encoding of this decimal in network byte-order (aka big-endian) into {@code dest},
+     * starting at {@code offset}.
+     *
+     * @param dest
+     *         Target byte array
+     * @param offset
+     *         Offset in {@code dest} for the first byte
+     * @return Number of bytes written (4, 8 or 16, depending on the type)
+     * @throws IndexOutOfBoundsException
+     *         When {@code offset} is negative, or {@code dest} has no room for the byte length of this type from
+     *         {@code offset} (nothing is written)
+     */
+    public final int toBytes(byte[] dest, int offset) {
+        return toBytes(dest, offset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Writes the IEEE-754 byte encoding of this decimal in the specified byte order into {@code dest}, starting at
+     * {@code offset}.
+     *
+     * @param dest
+     *         Target byte array
+     * @param offset
+     *         Offset in {@code dest} for the first byte
+     * @param byteOrder
+     *         Byte order of the byte encoding
+     * @return Number of bytes written (4, 8 or 16, depending on the type)
+     * @throws IndexOutOfBoundsException
+     *         When {@code offset} is negative, or {@code dest} has no room for the byte length of this type from
+     *         {@code offset} (nothing is written)
+     */
+    @SuppressWarnings("unchecked")
+    public final int toBytes(byte[] dest, int offset, ByteOrder byteOrder) {
+        return getDecimalCodec().encodeDecimal((T) this, dest, offset, byteOrder);
+    }
+
+    /**
+     * Writes the IEEE-754 byte encoding of this decimal at the current position of {@code buffer}.
+     * <p>
+     * The bytes are written in the byte order of the buffer (see {@link ByteBuffer#order()}), and the position of the
+     * buffer is advanced by the byte length of this type (4, 8 or 16).
+     * </p>
+     *
+     * @param buffer
+     *         Target byte buffer
+     * @throws java.nio.BufferOverflowException
+     *         When {@code buffer} has fewer bytes remaining than the byte length of this type
+     * @throws java.nio.ReadOnlyBufferException
+     *         When {@code buffer} is read-only
+     */
+    @SuppressWarnings("unchecked")
+    public final void writeTo(ByteBuffer buffer) {
+        getDecimalCodec().encodeDecimal((T) this, buffer);
+    }
+
     /**
      * Converts this decimal to the requested decimal type, rounding when necessary.
      *
@@ -155,21 +261,37 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
     }
 
     final DecimalType getType() {
-        return type;
+        return DecimalType.fromFirstByte(firstByte());
     }
 
     final int signum() {
-        return signum;
+        return -1 * (firstByte() >>> 7) | 1;
     }
 
     /**
      * @return {@code true} if this value is zero (ignoring scale), {@code false} if this is a special, or not zero.
      */
+    @SuppressWarnings("unchecked")
     final boolean isEquivalentToZero() {
-        return type == DecimalType.FINITE
-               && BigDecimal.ZERO.compareTo(bigDecimal) == 0;
+        return getDecimalCodec().isEquivalentToZero((T) this);
     }
 
+    /**
+     * @return First (most significant) byte of the IEEE-754 bits, holding the sign and the combination field
+     */
+    abstract int firstByte();
+
+    /**
+     * @return Most significant 64 bits of the IEEE-754 bits of a Decimal128, {@code 0} for smaller decimal types
+     */
+    abstract long highBits();
+
+    /**
+     * @return Least significant 64 bits of the IEEE-754 bits of a Decimal128, or the IEEE-754 bits of smaller decimal
+     * types (right-aligned)
+     */
+    abstract long lowBits();
+
     /**
      * @return The codec for this decimal type.
      */
@@ -185,27 +307,202 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
      *
      * @return Negated value
      */
+    @SuppressWarnings("unchecked")
     final T negate() {
-        final DecimalFactory<T> decimalFactory = getDecimalFactory();
+        final DecimalType type = getType();
         if (type != DecimalType.FINITE) {
-            return decimalFactory.getSpecialConstant(-1 * signum, type);
+            return getDecimalFactory().getSpecialConstant(-1 * signum(), type);
         }
-        return decimalFactory.createDecimal(-1 * signum, bigDecimal.negate());
+        return getDecimalCodec().negate((T) this);
     }
 
+    /**
+     * Returns the string representation of this decimal.
+     * <p>
+     * Finite values use the IEEE-754 <i>to-scientific-string</i> format, which is the same as
+     * {@link BigDecimal#toString()}, except that negative zero is prefixed with {@code -}. Special values are
+     * represented as {@code +Infinity}, {@code -Infinity}, {@code +NaN}, {@code -NaN}, {@code +sNaN} and
+     * {@code -sNaN}.
+     * </p>
+     *
+     * @return String representation of this decimal
+     */
     @Override
     public final String toString() {
-        return switch (type) {
-            case FINITE -> {
-                if (signum == Signum.NEGATIVE && isEquivalentToZero()) {
-                    yield "-" + bigDecimal;
-                }
-                yield bigDecimal.toString();
-            }
-            case INFINITY -> signum == Signum.NEGATIVE ? "-Infinity" : "+Infinity";
-            case NAN -> signum == Signum.NEGATIVE ? "-NaN" : "+NaN";
-            case SIGNALING_NAN -> signum == Signum.NEGATIVE ? "-sNaN" : "+sNaN";
-        };
+        final DecimalType type = getType();
+        if (type != DecimalType.FINITE) {
+            return DecimalFormatter.formatSpecial(signum(), type);
+        }
+        final byte[] buf = new byte[DecimalFormatter.MAX_SCIENTIFIC_LENGTH];
+        return new String(buf, 0, formatScientific(buf, 0), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Appends the string representation of this decimal (see {@link #toString()}) to {@code sb}.
+     *
+     * @param sb
+     *         String builder to append to
+     * @return {@code sb}
+     */
+    public final StringBuilder appendTo(StringBuilder sb) {
+        final DecimalType type = getType();
+        if (type != DecimalType.FINITE) {
+            return sb.append(DecimalFormatter.formatSpecial(signum(), type));
+        }
+        final byte[] buf = new byte[DecimalFormatter.MAX_SCIENTIFIC_LENGTH];
+        DecimalFormatter.appendAscii(buf, 0, formatScientific(buf, 0), sb);
+        return sb;
+    }
+
+    /**
+     * Appends the string representation of this decimal (see {@link #toString()}) to {@code appendable}.
+     *
+     * @param appendable
+     *         Appendable to append to
+     * @param <A>
+     *         Type of appendable
+     * @return {@code appendable}
+     * @throws IOException
+     *         If {@code appendable} throws an {@code IOException}
+     */
+    public final <A extends Appendable> A appendTo(A appendable) throws IOException {
+        if (appendable instanceof StringBuilder sb) {
+            appendTo(sb);
+            return appendable;
+        }
+        final DecimalType type = getType();
+        if (type != DecimalType.FINITE) {
+            appendable.append(DecimalFormatter.formatSpecial(signum(), type));
+            return appendable;
+        }
+        final byte[] buf = new byte[DecimalFormatter.MAX_SCIENTIFIC_LENGTH];
+        final int length = formatScientific(buf, 0);
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) buf[i];
+        }
+        if (appendable instanceof Writer writer) {
+            writer.write(chars, 0, length);
+        } else {
+            appendable.append(CharBuffer.wrap(chars, 0, length));
+        }
+        return appendable;
+    }
+
+    /**
+     * Returns the string representation of this decimal without an exponent field.
+     * <p>
+     * Finite values use the same format as {@link BigDecimal#toPlainString()}, except that negative zero is prefixed
+     * with {@code -}. Special values are represented the same as in {@link #toString()}.
+     * </p>
+     * <p>
+     * Be aware that values with a large exponent can produce very long strings (up to 6000+ characters).
+     * </p>
+     *
+     * @return String representation of this decimal without an exponent field
+     */
+    public final String toPlainString() {
+        final DecimalType type = getType();
+        if (type != DecimalType.FINITE) {
+            return DecimalFormatter.formatSpecial(signum(), type);
+        }
+        return appendPlainTo(new StringBuilder()).toString();
+    }
+
+    /**
+     * Appends the string representation of this decimal without an exponent field (see {@link #toPlainString()})
+     * to {@code sb}.
+     *
+     * @param sb
+     *         String builder to append to
+     * @return {@code sb}
+     */
+    @SuppressWarnings("unchecked")
+    public final StringBuilder appendPlainTo(StringBuilder sb) {
+        final DecimalType type = getType();
+        if (type != DecimalType.FINITE) {
+            return sb.append(DecimalFormatter.formatSpecial(signum(), type));
+        }
+        final DecimalCodec<T> codec = getDecimalCodec();
+        final T decimal = (T) this;
+        return DecimalFormatter.appendPlain(signum(), codec.upperCoefficient(decimal), codec.lowerCoefficient(decimal),
+                codec.exponent(decimal), sb);
+    }
+
+    /**
+     * Writes the string representation of this decimal (see {@link #toString()}) as ASCII bytes to {@code dest}.
+     * <p>
+     * This produces the same bytes as {@code toString().getBytes(StandardCharsets.US_ASCII)}, without creating
+     * intermediate objects.
+     * </p>
+     *
+     * @param dest
+     *         Destination byte array
+     * @param offset
+     *         Offset in {@code dest} to start writing
+     * @return Number of bytes written
+     * @throws IndexOutOfBoundsException
+     *         When {@code offset} is negative, or {@code dest} does not have enough space from {@code offset}; in
+     *         that case nothing is written
+     */
+    @SuppressWarnings("unchecked")
+    public final int writeAscii(byte[] dest, int offset) {
+        final DecimalType type = getType();
+        final int signum = signum();
+        if (type != DecimalType.FINITE) {
+            final String special = DecimalFormatter.formatSpecial(signum, type);
+            Objects.checkFromIndexSize(offset, special.length(), dest.length);
+            return DecimalFormatter.writeSpecial(special, dest, offset) - offset;
+        }
+        final DecimalCodec<T> codec = getDecimalCodec();
+        final T decimal = (T) this;
+        final long upper = codec.upperCoefficient(decimal);
+        final long lower = codec.lowerCoefficient(decimal);
+        final int exponent = codec.exponent(decimal);
+        Objects.checkFromIndexSize(offset, DecimalFormatter.scientificLength(signum, upper, lower, exponent),
+                dest.length);
+        return DecimalFormatter.formatScientific(signum, upper, lower, exponent, dest, offset) - offset;
+    }
+
+    /**
+     * Writes the string representation of this decimal (see {@link #toString()}) as ASCII bytes to {@code buffer}.
+     * <p>
+     * The bytes are written at the current position of the buffer, and the position of the buffer is advanced by
+     * the number of bytes written.
+     * </p>
+     *
+     * @param buffer
+     *         Target byte buffer
+     * @return Number of bytes written
+     * @throws java.nio.BufferOverflowException
+     *         When {@code buffer} has fewer bytes remaining than needed; in that case nothing is written
+     * @throws java.nio.ReadOnlyBufferException
+     *         When {@code buffer} is read-only
+     */
+    public final int writeAscii(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.remaining() >= DecimalFormatter.MAX_SCIENTIFIC_LENGTH) {
+            final int position = buffer.position();
+            final int length = writeAscii(buffer.array(), buffer.arrayOffset() + position);
+            buffer.position(position + length);
+            return length;
+        }
+        final byte[] buf = new byte[DecimalFormatter.MAX_SCIENTIFIC_LENGTH];
+        final int length = writeAscii(buf, 0);
+        buffer.put(buf, 0, length);
+        return length;
+    }
+
+    /**
+     * Formats this finite decimal in scientific format into {@code buf}.
+     *
+     * @return Position after the last byte written
+     */
+    @SuppressWarnings("unchecked")
+    private int formatScientific(final byte[] buf, final int offset) {
+        final DecimalCodec<T> codec = getDecimalCodec();
+        final T decimal = (T) this;
+        return DecimalFormatter.formatScientific(signum(), codec.upperCoefficient(decimal),
+                codec.lowerCoefficient(decimal), codec.exponent(decimal), buf, offset);
     }
 
     @Override
@@ -215,21 +512,26 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
 
         Decimal<?> decimal = (Decimal<?>) o;
 
-        if (signum != decimal.signum) return false;
-        if (type != decimal.type) return false;
-        return Objects.equals(bigDecimal, decimal.bigDecimal);
+        // Bits are canonical, so equal bits means equal value and scale
+        return highBits() == decimal.highBits() && lowBits() == decimal.lowBits();
     }
 
     @Override
     public final int hashCode() {
-        int result = signum;
-        result = 31 * result + type.hashCode();
-        result = 31 * result + bigDecimal.hashCode();
-        return result;
+        return 31 * Long.hashCode(highBits()) + Long.hashCode(lowBits());
     }
 
     abstract static class AbstractDecimalFactory<T extends Decimal<T>> implements DecimalFactory<T> {
 
+        /**
+         * Coefficients of at most this bit length are less than {@code 10^36}, and can be rounded directly.
+         */
+        private static final int MAX_COEFFICIENT_BITS = 119;
+        /**
+         * Truncates to one digit more than the precision of Decimal128.
+         */
+        private static final MathContext TRUNCATE_MATH_CONTEXT = new MathContext(35, RoundingMode.DOWN);
+
         private final Class<T> type;
         private final DecimalFormat decimalFormat;
         private final T positiveInfinity;
@@ -258,20 +560,6 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
             return decimalFormat;
         }
 
-        /**
-         * @return Math context for the decimal type constructed.
-         */
-        private MathContext getMathContext() {
-            return decimalFormat.getMathContext();
-        }
-
-        /**
-         * @see DecimalFormat#validate(BigDecimal)
-         */
-        final BigDecimal validateRange(BigDecimal value) {
-            return decimalFormat.validate(value);
-        }
-
         /**
          * Creates a decimal from {@code value}, applying rounding where necessary.
          * <p>
@@ -286,14 +574,28 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
          * @throws DecimalOverflowException
          *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
          */
-        final T valueOf(BigDecimal value, OverflowHandling overflowHandling) {
-            final BigDecimal roundedValue = decimalFormat.tryRound(value);
-            if (overflowHandling == OverflowHandling.ROUND_TO_INFINITY && decimalFormat.isOutOfRange(roundedValue)) {
-                return getSpecialConstant(roundedValue.signum(), DecimalType.INFINITY);
+        @Override
+        public final T valueOf(BigDecimal value, OverflowHandling overflowHandling) {
+            BigInteger unscaledValue = value.unscaledValue();
+            if (unscaledValue.bitLength() < Long.SIZE) {
+                return valueOf(unscaledValue.longValue(), value.scale(), overflowHandling);
             }
-            // OverflowHandling.THROW_EXCEPTION is handled implicitly in createDecimal
             // Using value.signum() as rounding may round to zero, which would lose the signum information
-            return createDecimal(value.signum(), roundedValue);
+            final int signum = value.signum();
+            long exponent = -(long) value.scale();
+            boolean sticky = false;
+            if (unscaledValue.bitLength() > MAX_COEFFICIENT_BITS) {
+                // Truncate to one digit more than the precision of Decimal128, and remember if non-zero digits
+                // were dropped, so the value is still rounded once
+                final BigDecimal truncatedValue = value.round(TRUNCATE_MATH_CONTEXT);
+                sticky = truncatedValue.compareTo(value) != 0;
+                unscaledValue = truncatedValue.unscaledValue();
+                exponent = -(long) truncatedValue.scale();
+            }
+            final UnsignedInt128 magnitude = UnsignedInt128.valueOf(unscaledValue);
+            final long upper = magnitude.upperDecimalPart();
+            return DecimalParser.roundCoefficient(this, signum, upper, magnitude.low - upper * TEN_POW_18, exponent,
+                    sticky, overflowHandling);
         }
 
         /**
@@ -315,7 +617,7 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
          * @see #valueOfExact(BigInteger)
          */
         final T valueOf(BigInteger value, OverflowHandling overflowHandling) {
-            return valueOf(new BigDecimal(value, getMathContext()), overflowHandling);
+            return valueOf(new BigDecimal(value), overflowHandling);
         }
 
         /**
@@ -329,8 +631,8 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
          * @see #valueOf(BigInteger, OverflowHandling)
          */
         final T valueOfExact(BigInteger value) {
-            final BigDecimal bigDecimal = new BigDecimal(decimalFormat.validateCoefficient(value));
-            return createDecimal(value.signum(), bigDecimal);
+            // A coefficient in range is never rounded, and exponent 0 is in range for all types
+            return valueOf(new BigDecimal(decimalFormat.validateCoefficient(value)), OverflowHandling.THROW_EXCEPTION);
         }
 
         /**
@@ -340,7 +642,9 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
          * </p>
          * <p>
          * For normal, finite, values, this is equivalent to
-         * {@code valueOf(BigDecimal.valueOf(value), overflowHandling)}.
+         * {@code valueOf(BigDecimal.valueOf(value), overflowHandling)} with the shortest representation of
+         * {@link Double#toString(double)} (as used since Java 19). The shortest decimal is determined directly (see
+         * {@link DoubleToDecimal}) and rounded once to fit this decimal type.
          * </p>
          *
          * @param value
@@ -360,7 +664,32 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
                 return getSpecialConstant(Signum.NEGATIVE, DecimalType.INFINITY);
             }
 
-            return valueOf(new BigDecimal(Double.toString(value), getMathContext()), overflowHandling);
+            return DoubleToDecimal.valueOf(this, value, overflowHandling);
+        }
+
+        /**
+         * Creates a decimal from {@code unscaledValue * 10^-scale}, applying rounding where necessary.
+         * <p>
+         * This is equivalent to {@code valueOf(BigDecimal.valueOf(unscaledValue, scale), overflowHandling)}, but the
+         * coefficient and exponent are rounded half-even once, without creating intermediate objects.
+         * </p>
+         *
+         * @param unscaledValue
+         *         Unscaled value
+         * @param scale
+         *         Scale
+         * @param overflowHandling
+         *         Handling of overflows
+         * @return Decimal equivalent
+         * @throws DecimalOverflowException
+         *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
+         */
+        final T valueOf(long unscaledValue, int scale, OverflowHandling overflowHandling) {
+            final int signum = unscaledValue < 0 ? Signum.NEGATIVE : Signum.POSITIVE;
+            // Unsigned, as the magnitude of Long.MIN_VALUE does not fit in a long
+            final long magnitude = Math.abs(unscaledValue);
+            return DecimalParser.roundCoefficient(this, signum, Long.divideUnsigned(magnitude, TEN_POW_18),
+                    Long.remainderUnsigned(magnitude, TEN_POW_18), -(long) scale, false, overflowHandling);
         }
 
         /**
@@ -381,11 +710,12 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
         final T valueOf(Decimal<?> decimal, OverflowHandling overflowHandling) {
             if (decimal.getClass() == type) {
                 return type.cast(decimal);
-            } else if (decimal.type == DecimalType.FINITE) {
-                return valueOf(decimal.bigDecimal, overflowHandling);
-            } else {
-                return getSpecialConstant(decimal.signum, decimal.type);
             }
+            final DecimalType decimalType = decimal.getType();
+            if (decimalType == DecimalType.FINITE) {
+                return valueOf(decimal.finiteValue(), overflowHandling);
+            }
+            return getSpecialConstant(decimal.signum(), decimalType);
         }
 
         /**
@@ -410,25 +740,159 @@ public abstract sealed class Decimal<T extends Decimal<T>> permits Decimal32, De
          *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
          */
         final T valueOf(String value, OverflowHandling overflowHandling) {
-            if (value.length() > 2) {
-                char checkChar = value.charAt(0);
+            return valueOf(value, 0, value.length(), overflowHandling);
+        }
+
+        /**
+         * Creates a decimal from the characters of {@code value} from {@code start} to {@code end}, applying rounding
+         * where necessary.
+         * <p>
+         * See {@link #valueOf(String, OverflowHandling)} for the accepted syntax. The value is parsed directly to the
+         * coefficient and exponent of this type, and rounded half-even once.
+         * </p>
+         *
+         * @param value
+         *         Character sequence containing the value to convert
+         * @param start
+         *         Start of the value in {@code value} (inclusive)
+         * @param end
+         *         End of the value in {@code value} (exclusive)
+         * @param overflowHandling
+         *         Handling of overflows
+         * @return Decimal equivalent
+         * @throws IndexOutOfBoundsException
+         *         If {@code start} or {@code end} is out of bounds, or {@code start > end}
+         * @throws NumberFormatException
+         *         If the characters in the range are not a valid numeric string.
+         * @throws DecimalOverflowException
+         *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
+         */
+        final T valueOf(CharSequence value, int start, int end, OverflowHandling overflowHandling) {
+            Objects.checkFromToIndex(start, end, value.length());
+            if (isSpecial(value, start, end)) {
+                return valueOfSpecial(value.subSequence(start, end).toString());
+            }
+            return DecimalParser.parse(this, value, start, end, overflowHandling);
+        }
+
+        /**
+         * @return {@code true} if the characters from {@code start} to {@code end} are a special value (infinity or
+         * NaN), based on the first character (after the sign)
+         */
+        private static boolean isSpecial(CharSequence value, int start, int end) {
+            if (end - start > 2) {
+                char checkChar = value.charAt(start);
                 if (checkChar == '+' || checkChar == '-') {
-                    checkChar = value.charAt(1);
+                    checkChar = value.charAt(start + 1);
+                }
+                return checkChar == 'i' || checkChar == 'I'
+                       || checkChar == 'n' || checkChar == 'N'
+                       || checkChar == 's' || checkChar == 'S';
+            }
+            return false;
+        }
+
+        /**
+         * Creates a decimal from the ASCII bytes of {@code ascii} from {@code offset} to {@code offset + length},
+         * applying rounding where necessary.
+         * <p>
+         * See {@link #valueOf(String, OverflowHandling)} for the accepted syntax, except that only ASCII digits are
+         * accepted. The value is parsed directly to the coefficient and exponent of this type, and rounded half-even
+         * once.
+         * </p>
+         *
+         * @param ascii
+         *         Byte array containing the ASCII value to convert
+         * @param offset
+         *         Start of the value in {@code ascii}
+         * @param length
+         *         Length of the value in bytes
+         * @param overflowHandling
+         *         Handling of overflows
+         * @return Decimal equivalent
+         * @throws IndexOutOfBoundsException
+         *         If {@code offset} or {@code length} is out of bounds of {@code ascii}
+         * @throws NumberFormatException
+         *         If the bytes in the range are not a valid numeric string.
+         * @throws DecimalOverflowException
+         *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
+         */
+        final T valueOf(byte[] ascii, int offset, int length, OverflowHandling overflowHandling) {
+            Objects.checkFromIndexSize(offset, length, ascii.length);
+            if (length > 2) {
+                byte checkChar = ascii[offset];
+                if (checkChar == '+' || checkChar == '-') {
+                    checkChar = ascii[offset + 1];
                 }
                 if (checkChar == 'i' || checkChar == 'I'
                     || checkChar == 'n' || checkChar == 'N'
                     || checkChar == 's' || checkChar == 'S') {
-                    return valueOfSpecial(value);
+                    return valueOfSpecial(new String(ascii, offset, length, StandardCharsets.US_ASCII));
                 }
             }
-            BigDecimal bdValue = new BigDecimal(value, getMathContext());
-            T decimalValue = valueOf(bdValue, overflowHandling);
-            if (decimalValue.isEquivalentToZero()
-                && value.charAt(0) == '-'
-                && bdValue.signum() != Signum.NEGATIVE) {
-                return decimalValue.negate();
+            return DecimalParser.parseAscii(this, ascii, offset, length, overflowHandling);
+        }
+
+        /**
+         * Creates a decimal from {@code value}, applying rounding where necessary, or {@code null} if the value is
+         * out of range.
+         *
+         * @param value
+         *         Big decimal value to convert
+         * @return Decimal equivalent, or {@code null} on overflow
+         */
+        final @Nullable T tryValueOf(BigDecimal value) {
+            return finiteOrNull(valueOf(value, OverflowHandling.ROUND_TO_INFINITY));
+        }
+
+        /**
+         * Creates a decimal from {@code value}, applying rounding where necessary, or {@code null} if the value is
+         * out of range.
+         *
+         * @param value
+         *         Big integer value to convert
+         * @return Decimal equivalent, or {@code null} on overflow
+         */
+        final @Nullable T tryValueOf(BigInteger value) {
+            return finiteOrNull(valueOf(value, OverflowHandling.ROUND_TO_INFINITY));
+        }
+
+        /**
+         * Creates a decimal from {@code value}, applying rounding where necessary, or {@code null} if the value is
+         * out of range.
+         *
+         * @param value
+         *         Double value to convert
+         * @return Decimal equivalent (infinity and NaN map to their equivalent), or {@code null} on overflow
+         */
+        final @Nullable T tryValueOf(double value) {
+            final T result = valueOf(value, OverflowHandling.ROUND_TO_INFINITY);
+            return Double.isInfinite(value) ? result : finiteOrNull(result);
+        }
+
+        /**
+         * Creates a decimal from {@code value}, applying rounding where necessary, or {@code null} if the value is
+         * out of range.
+         *
+         * @param value
+         *         String value to convert
+         * @return Decimal equivalent (special values map to their equivalent), or {@code null} on overflow
+         * @throws NumberFormatException
+         *         If the provided string is not valid numeric string.
+         */
+        final @Nullable T tryValueOf(String value) {
+            if (isSpecial(value, 0, value.length())) {
+                return valueOfSpecial(value);
             }
-            return decimalValue;
+            return finiteOrNull(
+                    DecimalParser.parse(this, value, 0, value.length(), OverflowHandling.ROUND_TO_INFINITY));
+        }
+
+        /**
+         * @return {@code value}, or {@code null} if a finite value was rounded to infinity (overflow)
+         */
+        private @Nullable T finiteOrNull(T value) {
+            return value.getType() == DecimalType.INFINITY ? null : value;
         }
 
         private T valueOfSpecial(String special) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -21,8 +21,12 @@
  */
 package org.firebirdsql.decimal;
 
+import org.jspecify.annotations.Nullable;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * An IEEE-754 Decimal32.
@@ -40,13 +44,116 @@ public final class Decimal32 extends Decimal<Decimal32> {
 
     private static final Decimal32Factory DECIMAL_32_FACTORY = new Decimal32Factory();
     private static final DecimalCodec<Decimal32> DECIMAL_32_CODEC = new DecimalCodec<>(DECIMAL_32_FACTORY);
+    private static final DecimalCache<Decimal32> DECIMAL_32_CACHE = new DecimalCache<>(DecimalFormat.Decimal32,
+            (signum, coefficient, exponent) ->
+                    new Decimal32((int) DECIMAL_32_CODEC.encodeFinite(signum, coefficient, exponent)));
+
+    private final int bits;
 
     private Decimal32(int signum, DecimalType decimalType) {
-        super(signum, decimalType);
+        this((signum == Signum.NEGATIVE ? Integer.MIN_VALUE : 0) | decimalType.getSpecialBits() << Integer.SIZE - 8);
+    }
+
+    private Decimal32(int bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Returns the IEEE-754 bit representation of this decimal.
+     * <p>
+     * This is the equivalent of {@link #toBytes()} as an {@code int} instead of a byte array. As with
+     * {@link #toBytes()}, the encoding is canonical: it does not necessarily reproduce the bits this value was created
+     * from with {@link #fromRawBits(int)}.
+     * </p>
+     *
+     * @return IEEE-754 Decimal32 bits
+     */
+    public int toRawBits() {
+        return bits;
     }
 
-    private Decimal32(int signum, BigDecimal bigDecimal) {
-        super(signum, bigDecimal);
+    /**
+     * Returns a {@code Decimal32} whose value is {@code (this + augend)}.
+     * <p>
+     * The result is the exact sum rounded (half-even) to 7 digits, and overflows to +/-Infinity, as specified by
+     * IEEE-754 for the {@code addition} operation. The exponent of an exact result is the smaller exponent of the two
+     * operands. An exact zero sum of two operands with opposite signs is positive zero. If either operand is a NaN,
+     * the result is a NaN (a signaling NaN is returned as a quiet NaN), and {@code Infinity + -Infinity} is NaN.
+     * </p>
+     *
+     * @param augend
+     *         Value to add to this {@code Decimal32}
+     * @return {@code this + augend}
+     */
+    public Decimal32 add(final Decimal32 augend) {
+        return DecimalArithmetic.add(this, augend, false);
+    }
+
+    /**
+     * Returns a {@code Decimal32} whose value is {@code (this - subtrahend)}.
+     * <p>
+     * Same as {@link #add(Decimal32)} with the sign of {@code subtrahend} reversed, except that a NaN operand is
+     * passed through with its own sign, not negated.
+     * </p>
+     *
+     * @param subtrahend
+     *         Value to subtract from this {@code Decimal32}
+     * @return {@code this - subtrahend}
+     */
+    public Decimal32 subtract(final Decimal32 subtrahend) {
+        return DecimalArithmetic.add(this, subtrahend, true);
+    }
+
+    /**
+     * Returns a {@code Decimal32} whose value is {@code (this * multiplicand)}.
+     * <p>
+     * The result is the exact product rounded (half-even) to 7 digits, and overflows to +/-Infinity, as specified
+     * by IEEE-754 for the {@code multiplication} operation. The exponent of an exact result is the sum of the
+     * exponents of the operands, and the sign is negative if the operands have different signs (also for zero and
+     * Infinity). If either operand is a NaN, the result is a NaN (a signaling NaN is returned as a quiet NaN), and
+     * {@code Infinity * 0} is NaN.
+     * </p>
+     *
+     * @param multiplicand
+     *         Value to multiply with this {@code Decimal32}
+     * @return {@code this * multiplicand}
+     */
+    public Decimal32 multiply(final Decimal32 multiplicand) {
+        return DecimalArithmetic.multiply(this, multiplicand);
+    }
+
+    /**
+     * Returns a {@code Decimal32} whose value is {@code (this / divisor)}.
+     * <p>
+     * The result is the exact quotient rounded (half-even) to 7 digits, and overflows to +/-Infinity, as
+     * specified by IEEE-754 for the {@code division} operation. An exact quotient has the exponent closest to the
+     * exponent of this value minus the exponent of {@code divisor}, and the sign is negative if the operands have
+     * different signs. Division of a non-zero value by zero is +/-Infinity, and a finite value divided by
+     * infinity is zero. If either operand is a NaN, the result is a NaN (a signaling NaN is returned as a quiet NaN),
+     * and {@code 0 / 0} and {@code Infinity / Infinity} are NaN.
+     * </p>
+     *
+     * @param divisor
+     *         Value to divide this {@code Decimal32} by
+     * @return {@code this / divisor}
+     */
+    public Decimal32 divide(final Decimal32 divisor) {
+        return DecimalArithmetic.divide(this, divisor);
+    }
+
+    @Override
+    int firstByte() {
+        return bits >>> Integer.SIZE - 8;
+    }
+
+    @Override
+    long highBits() {
+        return 0L;
+    }
+
+    @Override
+    long lowBits() {
+        return bits & 0xFFFF_FFFFL;
     }
 
     @Override
@@ -62,8 +169,8 @@ public final class Decimal32 extends Decimal<Decimal32> {
     /**
      * Parses the provided byte array to a {@code Decimal32}.
      * <p>
-     * This method parses network byte-order (aka big-endian). When using little-endian order, you will need to
-     * reverse the bytes in the array first.
+     * This method parses network byte-order (aka big-endian). When using little-endian order, use
+     * {@link #parseBytes(byte[], ByteOrder)}.
      * </p>
      *
      * @param decBytes
@@ -76,6 +183,184 @@ public final class Decimal32 extends Decimal<Decimal32> {
         return DECIMAL_32_CODEC.parseBytes(decBytes);
     }
 
+    /**
+     * Parses the provided byte array in the specified byte order to a {@code Decimal32}.
+     *
+     * @param decBytes
+     *         Bytes of the Decimal32 value in {@code byteOrder}
+     * @param byteOrder
+     *         Byte order of {@code decBytes}
+     * @return Instance of {@code Decimal32}
+     * @throws IllegalArgumentException
+     *         When {@code decBytes} is not 4 bytes long
+     */
+    public static Decimal32 parseBytes(final byte[] decBytes, final ByteOrder byteOrder) {
+        return DECIMAL_32_CODEC.parseBytes(decBytes, byteOrder);
+    }
+
+    /**
+     * Parses 4 bytes of {@code src} starting at {@code offset} to a {@code Decimal32}.
+     * <p>
+     * This method parses network byte-order (aka big-endian).
+     * </p>
+     *
+     * @param src
+     *         Byte array containing the bytes of the Decimal32 value in network byte-order (aka big-endian)
+     * @param offset
+     *         Offset of the first byte of the Decimal32 value in {@code src}
+     * @return Instance of {@code Decimal32}
+     * @throws IndexOutOfBoundsException
+     *         When {@code offset} is negative, or {@code src} has fewer than 4 bytes from {@code offset}
+     */
+    public static Decimal32 parseBytes(final byte[] src, final int offset) {
+        return parseBytes(src, offset, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Parses 4 bytes of {@code src} starting at {@code offset} in the specified byte order to a
+     * {@code Decimal32}.
+     *
+     * @param src
+     *         Byte array containing the bytes of the Decimal32 value in {@code byteOrder}
+     * @param offset
+     *         Offset of the first byte of the Decimal32 value in {@code src}
+     * @param byteOrder
+     *         Byte order of the Decimal32 value in {@code src}
+     * @return Instance of {@code Decimal32}
+     * @throws IndexOutOfBoundsException
+     *         When {@code offset} is negative, or {@code src} has fewer than 4 bytes from {@code offset}
+     */
+    public static Decimal32 parseBytes(final byte[] src, final int offset, final ByteOrder byteOrder) {
+        return DECIMAL_32_CODEC.parseBytes(src, offset, byteOrder);
+    }
+
+    /**
+     * Parses 4 bytes from the current position of {@code buffer} to a {@code Decimal32}.
+     * <p>
+     * The bytes are read in the byte order of the buffer (see {@link ByteBuffer#order()}), and the position of the
+     * buffer is advanced by 4.
+     * </p>
+     *
+     * @param buffer
+     *         Byte buffer with the bytes of the Decimal32 value at its current position
+     * @return Instance of {@code Decimal32}
+     * @throws java.nio.BufferUnderflowException
+     *         When {@code buffer} has fewer than 4 bytes remaining
+     */
+    public static Decimal32 parseBytes(final ByteBuffer buffer) {
+        return DECIMAL_32_CODEC.parseBytes(buffer);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from its IEEE-754 bit representation.
+     * <p>
+     * This is the equivalent of {@link #parseBytes(byte[])} for the bits in an {@code int} instead of a byte array.
+     * </p>
+     *
+     * @param bits
+     *         IEEE-754 Decimal32 bits
+     * @return Instance of {@code Decimal32}
+     * @see #toRawBits()
+     */
+    public static Decimal32 fromRawBits(final int bits) {
+        return DECIMAL_32_CODEC.decodeBits(bits & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Parses {@code count} consecutive 4-byte Decimal32 values from {@code packed}, starting at {@code offset}.
+     * <p>
+     * This method parses network byte-order (aka big-endian). The bounds of {@code packed} and {@code out} are
+     * checked once for the whole batch.
+     * </p>
+     *
+     * @param packed
+     *         Byte array containing the Decimal32 values in network byte-order (aka big-endian)
+     * @param offset
+     *         Offset of the first byte of the first Decimal32 value in {@code packed}
+     * @param count
+     *         Number of values to parse
+     * @param out
+     *         Target array, the parsed values are stored at index {@code 0} to {@code count - 1}
+     * @throws IndexOutOfBoundsException
+     *         When {@code packed} has fewer than {@code count * 4} bytes from {@code offset}, or {@code out} is
+     *         shorter than {@code count}
+     */
+    public static void parseAll(final byte[] packed, final int offset, final int count, final Decimal32[] out) {
+        DECIMAL_32_CODEC.parseAll(packed, offset, count, out);
+    }
+
+    /**
+     * Parses {@code count} consecutive 4-byte Decimal32 values from {@code packed}, starting at {@code offset},
+     * to big decimals.
+     * <p>
+     * This method parses network byte-order (aka big-endian). The bounds of {@code packed} and {@code out} are
+     * checked once for the whole batch. Negative zero is parsed as {@link BigDecimal} zero.
+     * </p>
+     *
+     * @param packed
+     *         Byte array containing the Decimal32 values in network byte-order (aka big-endian)
+     * @param offset
+     *         Offset of the first byte of the first Decimal32 value in {@code packed}
+     * @param count
+     *         Number of values to parse
+     * @param out
+     *         Target array, the parsed values are stored at index {@code 0} to {@code count - 1}
+     * @throws IndexOutOfBoundsException
+     *         When {@code packed} has fewer than {@code count * 4} bytes from {@code offset}, or {@code out} is
+     *         shorter than {@code count}
+     * @throws DecimalInconvertibleException
+     *         If a value is a NaN, sNaN or Infinity, which can't be represented as a {@code BigDecimal}
+     */
+    public static void parseAll(final byte[] packed, final int offset, final int count, final BigDecimal[] out) {
+        DECIMAL_32_CODEC.parseAll(packed, offset, count, out);
+    }
+
+    /**
+     * Encodes {@code values} consecutively into {@code dest}, starting at {@code offset}.
+     * <p>
+     * This method writes network byte-order (aka big-endian). The bounds of {@code dest} are checked once for the
+     * whole batch.
+     * </p>
+     *
+     * @param values
+     *         Values to encode
+     * @param dest
+     *         Target byte array
+     * @param offset
+     *         Offset in {@code dest} for the first byte of the first value
+     * @return Number of bytes written ({@code values.length * 4})
+     * @throws IndexOutOfBoundsException
+     *         When {@code dest} has fewer than {@code values.length * 4} bytes from {@code offset} (nothing is
+     *         written)
+     */
+    public static int encodeAll(final Decimal32[] values, final byte[] dest, final int offset) {
+        return DECIMAL_32_CODEC.encodeAll(values, dest, offset);
+    }
+
+    /**
+     * Converts {@code values} to Decimal32 and encodes them consecutively into {@code dest}, starting at
+     * {@code offset}.
+     * <p>
+     * Each value is converted as by {@link #valueOf(BigDecimal)}, so rounding is applied where necessary, and
+     * values exceeding the range of this type are encoded as +/-Infinity. This method writes network byte-order
+     * (aka big-endian). The bounds of {@code dest} are checked once for the whole batch.
+     * </p>
+     *
+     * @param values
+     *         Big decimal values to encode
+     * @param dest
+     *         Target byte array
+     * @param offset
+     *         Offset in {@code dest} for the first byte of the first value
+     * @return Number of bytes written ({@code values.length * 4})
+     * @throws IndexOutOfBoundsException
+     *         When {@code dest} has fewer than {@code values.length * 4} bytes from {@code offset} (nothing is
+     *         written)
+     */
+    public static int encodeAll(final BigDecimal[] values, final byte[] dest, final int offset) {
+        return DECIMAL_32_CODEC.encodeAll(values, dest, offset);
+    }
+
     /**
      * Creates a {@code Decimal32} from {@code value}, applying rounding where necessary.
      * <p>
@@ -163,7 +448,9 @@ public final class Decimal32 extends Decimal<Decimal32> {
      * {@code Double.NaN} is mapped to positive NaN, the infinities to their equivalent +/- infinity.
      * </p>
      * <p>
-     * For normal, finite, values, this is equivalent to {@code valueOf(BigDecimal.valueOf(value))}.
+     * For normal, finite, values, this is equivalent to {@code valueOf(BigDecimal.valueOf(value))} with the
+     * shortest representation of {@link Double#toString(double)} (as used since Java 19), but without creating
+     * intermediate objects.
      * </p>
      *
      * @param value
@@ -180,7 +467,9 @@ public final class Decimal32 extends Decimal<Decimal32> {
      * {@code Double.NaN} is mapped to positive NaN, the infinities to their equivalent +/- infinity.
      * </p>
      * <p>
-     * For normal, finite, values, this is equivalent to {@code valueOf(BigDecimal.valueOf(value), overflowHandling)}.
+     * For normal, finite, values, this is equivalent to {@code valueOf(BigDecimal.valueOf(value), overflowHandling)}
+     * with the shortest representation of {@link Double#toString(double)} (as used since Java 19), but without
+     * creating intermediate objects.
      * </p>
      *
      * @param value
@@ -195,6 +484,47 @@ public final class Decimal32 extends Decimal<Decimal32> {
         return DECIMAL_32_FACTORY.valueOf(value, overflowHandling);
     }
 
+    /**
+     * Creates a {@code Decimal32} from {@code unscaledValue * 10^-scale}, applying rounding where necessary.
+     * <p>
+     * This is equivalent to {@code valueOf(BigDecimal.valueOf(unscaledValue, scale))}, but without creating
+     * intermediate objects. Small integers and common values (e.g. {@code 0.00} to {@code 1.00}) return a shared
+     * instance.
+     * </p>
+     *
+     * @param unscaledValue
+     *         Unscaled value
+     * @param scale
+     *         Scale
+     * @return Decimal equivalent
+     */
+    public static Decimal32 valueOf(final long unscaledValue, final int scale) {
+        return valueOf(unscaledValue, scale, OverflowHandling.ROUND_TO_INFINITY);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from {@code unscaledValue * 10^-scale}, applying rounding where necessary.
+     * <p>
+     * This is equivalent to {@code valueOf(BigDecimal.valueOf(unscaledValue, scale), overflowHandling)}, but without
+     * creating intermediate objects. Small integers and common values (e.g. {@code 0.00} to {@code 1.00}) return a
+     * shared instance.
+     * </p>
+     *
+     * @param unscaledValue
+     *         Unscaled value
+     * @param scale
+     *         Scale
+     * @param overflowHandling
+     *         Overflow handling to apply
+     * @return Decimal equivalent
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
+     */
+    public static Decimal32 valueOf(final long unscaledValue, final int scale,
+            final OverflowHandling overflowHandling) {
+        return DECIMAL_32_FACTORY.valueOf(unscaledValue, scale, overflowHandling);
+    }
+
     /**
      * Converts a decimal to Decimal32.
      * <p>
@@ -278,6 +608,222 @@ public final class Decimal32 extends Decimal<Decimal32> {
         return DECIMAL_32_FACTORY.valueOf(value, overflowHandling);
     }
 
+    /**
+     * Creates a {@code Decimal32} from the characters of {@code value} from {@code start} to {@code end},
+     * applying rounding where necessary.
+     * <p>
+     * This is equivalent to {@code valueOf(value.subSequence(start, end).toString())}, see
+     * {@link #valueOf(String)}, but parses the characters directly without creating intermediate objects.
+     * </p>
+     * <p>
+     * Values exceeding the range of this type will be returned as +/-Infinity.
+     * </p>
+     *
+     * @param value
+     *         Character sequence containing the value to convert
+     * @param start
+     *         Start of the value in {@code value} (inclusive)
+     * @param end
+     *         End of the value in {@code value} (exclusive)
+     * @return Decimal equivalent
+     * @throws IndexOutOfBoundsException
+     *         When {@code start} or {@code end} is out of bounds of {@code value}, or {@code start > end}
+     * @throws NumberFormatException
+     *         If the characters from {@code start} to {@code end} are not a valid numeric string.
+     */
+    public static Decimal32 valueOf(final CharSequence value, final int start, final int end) {
+        return valueOf(value, start, end, OverflowHandling.ROUND_TO_INFINITY);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from the characters of {@code value} from {@code start} to {@code end},
+     * applying rounding where necessary.
+     * <p>
+     * This is equivalent to {@code valueOf(value.subSequence(start, end).toString(), overflowHandling)}, see
+     * {@link #valueOf(String, OverflowHandling)}, but parses the characters directly without creating
+     * intermediate objects.
+     * </p>
+     *
+     * @param value
+     *         Character sequence containing the value to convert
+     * @param start
+     *         Start of the value in {@code value} (inclusive)
+     * @param end
+     *         End of the value in {@code value} (exclusive)
+     * @param overflowHandling
+     *         Overflow handling to apply
+     * @return Decimal equivalent
+     * @throws IndexOutOfBoundsException
+     *         When {@code start} or {@code end} is out of bounds of {@code value}, or {@code start > end}
+     * @throws NumberFormatException
+     *         If the characters from {@code start} to {@code end} are not a valid numeric string.
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
+     */
+    public static Decimal32 valueOf(final CharSequence value, final int start, final int end,
+            final OverflowHandling overflowHandling) {
+        return DECIMAL_32_FACTORY.valueOf(value, start, end, overflowHandling);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from the ASCII bytes of {@code ascii} from {@code offset} to
+     * {@code offset + length}, applying rounding where necessary.
+     * <p>
+     * This is equivalent to {@code valueOf(new String(ascii, offset, length, StandardCharsets.US_ASCII))}, see
+     * {@link #valueOf(String)}, except that only ASCII digits are accepted. The bytes are parsed directly without
+     * creating intermediate objects.
+     * </p>
+     * <p>
+     * Values exceeding the range of this type will be returned as +/-Infinity.
+     * </p>
+     *
+     * @param ascii
+     *         Byte array containing the ASCII (or UTF-8) value to convert
+     * @param offset
+     *         Start of the value in {@code ascii}
+     * @param length
+     *         Length of the value in bytes
+     * @return Decimal equivalent
+     * @throws IndexOutOfBoundsException
+     *         When {@code offset} or {@code length} is out of bounds of {@code ascii}
+     * @throws NumberFormatException
+     *         If the bytes from {@code offset} to {@code offset + length} are not a valid numeric string.
+     */
+    public static Decimal32 valueOf(final byte[] ascii, final int offset, final int length) {
+        return valueOf(ascii, offset, length, OverflowHandling.ROUND_TO_INFINITY);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from the ASCII bytes of {@code ascii} from {@code offset} to
+     * {@code offset + length}, applying rounding where necessary.
+     * <p>
+     * This is equivalent to
+     * {@code valueOf(new String(ascii, offset, length, StandardCharsets.US_ASCII), overflowHandling)}, see
+     * {@link #valueOf(String, OverflowHandling)}, except that only ASCII digits are accepted. The bytes are parsed
+     * directly without creating intermediate objects.
+     * </p>
+     *
+     * @param ascii
+     *         Byte array containing the ASCII (or UTF-8) value to convert
+     * @param offset
+     *         Start of the value in {@code ascii}
+     * @param length
+     *         Length of the value in bytes
+     * @param overflowHandling
+     *         Overflow handling to apply
+     * @return Decimal equivalent
+     * @throws IndexOutOfBoundsException
+     *         When {@code offset} or {@code length} is out of bounds of {@code ascii}
+     * @throws NumberFormatException
+     *         If the bytes from {@code offset} to {@code offset + length} are not a valid numeric string.
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
+     */
+    public static Decimal32 valueOf(final byte[] ascii, final int offset, final int length,
+            final OverflowHandling overflowHandling) {
+        return DECIMAL_32_FACTORY.valueOf(ascii, offset, length, overflowHandling);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from {@code value}, applying rounding where necessary, or returns {@code null} if the
+     * value is out of range.
+     * <p>
+     * Alternative to {@link #valueOf(BigDecimal, OverflowHandling)} with {@link OverflowHandling#THROW_EXCEPTION}
+     * that reports overflow without creating an exception.
+     * </p>
+     *
+     * @param value
+     *         Big decimal value to convert
+     * @return Decimal32 equivalent, or {@code null} on overflow
+     */
+    public static @Nullable Decimal32 tryValueOf(final BigDecimal value) {
+        return DECIMAL_32_FACTORY.tryValueOf(value);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from {@code value}, applying rounding where necessary, or returns {@code null} if the
+     * value is out of range.
+     * <p>
+     * Alternative to {@link #valueOf(BigInteger, OverflowHandling)} with {@link OverflowHandling#THROW_EXCEPTION}
+     * that reports overflow without creating an exception.
+     * </p>
+     *
+     * @param value
+     *         Big integer value to convert
+     * @return Decimal32 equivalent, or {@code null} on overflow
+     */
+    public static @Nullable Decimal32 tryValueOf(final BigInteger value) {
+        return DECIMAL_32_FACTORY.tryValueOf(value);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from {@code value}, applying rounding where necessary, or returns {@code null} if the
+     * value is out of range.
+     * <p>
+     * Alternative to {@link #valueOf(double, OverflowHandling)} with {@link OverflowHandling#THROW_EXCEPTION}
+     * that reports overflow without creating an exception. {@code Double.NaN} and the infinities are converted as
+     * by {@link #valueOf(double)}.
+     * </p>
+     *
+     * @param value
+     *         Double value to convert
+     * @return Decimal32 equivalent, or {@code null} on overflow
+     */
+    public static @Nullable Decimal32 tryValueOf(final double value) {
+        return DECIMAL_32_FACTORY.tryValueOf(value);
+    }
+
+    /**
+     * Creates a {@code Decimal32} from {@code value}, applying rounding where necessary, or returns {@code null} if the
+     * value is out of range.
+     * <p>
+     * Alternative to {@link #valueOf(String, OverflowHandling)} with {@link OverflowHandling#THROW_EXCEPTION}
+     * that reports overflow without creating an exception. Special values (e.g. {@code "Infinity"}) are converted
+     * as by {@link #valueOf(String)}. Invalid strings still throw a {@code NumberFormatException}.
+     * </p>
+     *
+     * @param value
+     *         String value to convert
+     * @return Decimal32 equivalent, or {@code null} on overflow
+     * @throws NumberFormatException
+     *         If the provided string is not valid numeric string.
+     */
+    public static @Nullable Decimal32 tryValueOf(final String value) {
+        return DECIMAL_32_FACTORY.tryValueOf(value);
+    }
+
+    /**
+     * Creates an interner for {@code Decimal32}, which returns shared instances for repeatedly decoded values.
+     * <p>
+     * Interning is useful when decoding many values with few distinct encodings, see {@link DecimalInterner}.
+     * </p>
+     *
+     * @param maximumSize
+     *         Maximum number of interned decimals (rounded up to a power of two)
+     * @return New interner
+     * @throws IllegalArgumentException
+     *         If {@code maximumSize} is less than {@code 1} or greater than {@code 2^24}
+     */
+    public static DecimalInterner<Decimal32> newInterner(final int maximumSize) {
+        return new DecimalInterner<>(DECIMAL_32_CODEC, DecimalFormat.Decimal32, maximumSize);
+    }
+
+    /**
+     * Creates a cache for parsing strings to {@code Decimal32}, which returns the earlier result for repeated strings.
+     * <p>
+     * Caching is useful when parsing the same literals many times, see {@link DecimalParseCache}.
+     * </p>
+     *
+     * @param maximumSize
+     *         Maximum number of cached decimals (rounded up to a power of two)
+     * @return New parse cache
+     * @throws IllegalArgumentException
+     *         If {@code maximumSize} is less than {@code 1} or greater than {@code 2^24}
+     */
+    public static DecimalParseCache<Decimal32> newParseCache(final int maximumSize) {
+        return new DecimalParseCache<>(DECIMAL_32_FACTORY, maximumSize);
+    }
+
     private static class Decimal32Factory extends AbstractDecimalFactory<Decimal32> {
 
         private Decimal32Factory() {
@@ -288,8 +834,18 @@ public final class Decimal32 extends Decimal<Decimal32> {
         }
 
         @Override
-        public Decimal32 createDecimal(int signum, BigDecimal value) {
-            return new Decimal32(signum, validateRange(value));
+        public Decimal32 createDecimal(int signum, long upper, long lower, int exponent) {
+            final Decimal32 cached = DECIMAL_32_CACHE.get(signum, upper, lower, exponent);
+            if (cached != null) {
+                return cached;
+            }
+            return new Decimal32((int) DECIMAL_32_CODEC.encodeFinite(signum, lower, exponent));
+        }
+
+        @Override
+        public Decimal32 fromBits(long highBits, long lowBits) {
+            final Decimal32 cached = DECIMAL_32_CACHE.get(highBits, lowBits);
+            return cached != null ? cached : new Decimal32((int) lowBits);
         }
 
     }
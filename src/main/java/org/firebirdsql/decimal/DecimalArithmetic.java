@@ -0,0 +1,712 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.jspecify.annotations.Nullable;
+
+import static org.firebirdsql.decimal.DecimalParser.LOWER_DIGITS;
+import static org.firebirdsql.decimal.DecimalParser.POWERS_OF_TEN;
+import static org.firebirdsql.decimal.UnsignedInt128.TEN_POW_18;
+
+/**
+ * Arithmetic on decimals, following IEEE-754 (and the General Decimal Arithmetic specification) with rounding mode
+ * half-even.
+ * <p>
+ * Operations work on the coefficient and exponent of the operands. The coefficients are held in two parts:
+ * {@code upper} ({@code coefficient / 10^18}) and {@code lower} ({@code coefficient % 10^18}), and intermediate
+ * results of up to 36 digits in the same way. The result is rounded once with
+ * {@link DecimalParser#roundCoefficient(DecimalFactory, int, long, long, long, boolean, OverflowHandling)}, and
+ * overflows to +/-Infinity.
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+final class DecimalArithmetic {
+
+    /**
+     * Maximum number of digits of an intermediate coefficient.
+     */
+    private static final int WIDE_DIGITS = 2 * LOWER_DIGITS;
+    /**
+     * Maximum number of digits of the operands of an intermediate sum of coefficients in four parts.
+     */
+    private static final int WIDE_WINDOW_DIGITS = 4 * LOWER_DIGITS - 1;
+    /**
+     * Maximum number of digits of a coefficient (of Decimal128).
+     */
+    private static final int MAX_COEFFICIENT_DIGITS = DecimalFormat.Decimal128.coefficientDigits;
+
+    private DecimalArithmetic() {
+        // no instances
+    }
+
+    /**
+     * Adds (or subtracts) two decimals.
+     *
+     * @param x
+     *         First operand
+     * @param y
+     *         Second operand
+     * @param subtract
+     *         {@code true} to calculate {@code x - y}, {@code false} to calculate {@code x + y}
+     * @return Rounded sum (or difference)
+     */
+    static <T extends Decimal<T>> T add(final T x, final T y, final boolean subtract) {
+        final DecimalFactory<T> decimalFactory = x.getDecimalFactory();
+        final DecimalType xType = x.getType();
+        final DecimalType yType = y.getType();
+        final int xSignum = x.signum();
+        final int ySignum = subtract ? -y.signum() : y.signum();
+        if (xType != DecimalType.FINITE || yType != DecimalType.FINITE) {
+            final T nan = propagateNaN(x, xType, y, yType);
+            if (nan != null) {
+                return nan;
+            } else if (xType == DecimalType.INFINITY) {
+                if (yType == DecimalType.INFINITY && xSignum != ySignum) {
+                    return invalidOperation(decimalFactory);
+                }
+                return decimalFactory.getSpecialConstant(xSignum, DecimalType.INFINITY);
+            }
+            return decimalFactory.getSpecialConstant(ySignum, DecimalType.INFINITY);
+        }
+        final DecimalCodec<T> codec = x.getDecimalCodec();
+        return addFinite(decimalFactory,
+                xSignum, codec.upperCoefficient(x), codec.lowerCoefficient(x), codec.exponent(x),
+                ySignum, codec.upperCoefficient(y), codec.lowerCoefficient(y), codec.exponent(y));
+    }
+
+    /**
+     * Adds two finite values with coefficients of at most 34 digits.
+     * <p>
+     * If the coefficient of the operand with the largest exponent does not fit 36 digits when aligned to the other
+     * operand, the other operand is less than a hundredth of it. Only the 36 most significant digits of the sum are
+     * then calculated, and the digits of the smaller operand below them are dropped, remembering if they were
+     * non-zero (the sticky digit).
+     * </p>
+     */
+    static <T extends Decimal<T>> T addFinite(final DecimalFactory<T> decimalFactory,
+            final int xSignum, long xUpper, long xLower, final long xExponent,
+            final int ySignum, long yUpper, long yLower, final long yExponent) {
+        if (xExponent < yExponent) {
+            return addFinite(decimalFactory,
+                    ySignum, yUpper, yLower, yExponent, xSignum, xUpper, xLower, xExponent);
+        }
+        if ((xUpper | xLower) == 0) {
+            // Sign of an exact zero sum is negative only if both operands are negative
+            final int signum = (yUpper | yLower) == 0 && xSignum != ySignum ? Signum.POSITIVE : ySignum;
+            return DecimalParser.roundCoefficient(decimalFactory, signum, yUpper, yLower, yExponent, false,
+                    OverflowHandling.ROUND_TO_INFINITY);
+        }
+        final long exponentDifference = xExponent - yExponent;
+        final int xDigits = DecimalParser.numberOfDigits(xUpper, xLower);
+        long exponent = yExponent;
+        boolean sticky = false;
+        if (xDigits + exponentDifference <= WIDE_DIGITS) {
+            // Align x to the exponent of y
+            final int digits = (int) exponentDifference;
+            if (digits >= LOWER_DIGITS) {
+                xUpper = xLower * POWERS_OF_TEN[digits - LOWER_DIGITS];
+                xLower = 0;
+            } else if (digits > 0) {
+                final long lowerDivisor = POWERS_OF_TEN[LOWER_DIGITS - digits];
+                final long carry = xLower / lowerDivisor;
+                xLower = (xLower - carry * lowerDivisor) * POWERS_OF_TEN[digits];
+                xUpper = xUpper * POWERS_OF_TEN[digits] + carry;
+            }
+        } else {
+            // Pad x to 36 digits, and drop the digits of y below it
+            final int xShift = WIDE_DIGITS - xDigits;
+            if (xShift >= LOWER_DIGITS) {
+                xUpper = xLower * POWERS_OF_TEN[xShift - LOWER_DIGITS];
+                xLower = 0;
+            } else {
+                final long lowerDivisor = POWERS_OF_TEN[LOWER_DIGITS - xShift];
+                final long carry = xLower / lowerDivisor;
+                xLower = (xLower - carry * lowerDivisor) * POWERS_OF_TEN[xShift];
+                xUpper = xUpper * POWERS_OF_TEN[xShift] + carry;
+            }
+            exponent = xExponent - xShift;
+            final long yShift = exponentDifference - xShift;
+            if (yShift >= WIDE_DIGITS) {
+                sticky = (yUpper | yLower) != 0;
+                yUpper = 0;
+                yLower = 0;
+            } else if (yShift >= LOWER_DIGITS) {
+                final long divisor = POWERS_OF_TEN[(int) yShift - LOWER_DIGITS];
+                sticky = yLower != 0 || yUpper % divisor != 0;
+                yLower = yUpper / divisor;
+                yUpper = 0;
+            } else {
+                final int digits = (int) yShift;
+                final long divisor = POWERS_OF_TEN[digits];
+                sticky = yLower % divisor != 0;
+                yLower = yLower / divisor + yUpper % divisor * POWERS_OF_TEN[LOWER_DIGITS - digits];
+                yUpper = yUpper / divisor;
+            }
+        }
+
+        final int signum;
+        long upper;
+        long lower;
+        if (xSignum == ySignum) {
+            signum = xSignum;
+            upper = xUpper + yUpper;
+            lower = xLower + yLower;
+            if (lower >= TEN_POW_18) {
+                lower -= TEN_POW_18;
+                upper++;
+            }
+            if (upper >= TEN_POW_18) {
+                // Carry into a 37th digit
+                sticky |= lower % 10 != 0;
+                lower = lower / 10 + upper % 10 * POWERS_OF_TEN[LOWER_DIGITS - 1];
+                upper = upper / 10;
+                exponent++;
+            }
+        } else if (xUpper > yUpper || xUpper == yUpper && xLower >= yLower) {
+            // x - y, where dropped digits of y (sticky) borrow one from the last digit
+            upper = xUpper - yUpper;
+            lower = xLower - yLower - (sticky ? 1 : 0);
+            if (lower < 0) {
+                lower += TEN_POW_18;
+                upper--;
+            }
+            // Sign of an exact zero difference is positive
+            signum = (upper | lower) == 0 && !sticky ? Signum.POSITIVE : xSignum;
+        } else {
+            // Only for exactly aligned operands, so nothing was dropped
+            signum = ySignum;
+            upper = yUpper - xUpper;
+            lower = yLower - xLower;
+            if (lower < 0) {
+                lower += TEN_POW_18;
+                upper--;
+            }
+        }
+        return DecimalParser.roundCoefficient(decimalFactory, signum, upper, lower, exponent, sticky,
+                OverflowHandling.ROUND_TO_INFINITY);
+    }
+
+    /**
+     * Adds two finite values with coefficients of at most 68 digits in four parts
+     * ({@code x3 * 10^54 + x2 * 10^36 + x1 * 10^18 + x0}).
+     * <p>
+     * Same as {@link #addFinite(DecimalFactory, int, long, long, long, int, long, long, long)}, but the sum is
+     * calculated in a window of {@value #WIDE_WINDOW_DIGITS} digits (so the sum fits 72 digits), and rounded with
+     * {@link #roundWide(DecimalFactory, int, long, long, long, long, long, boolean)}.
+     * </p>
+     */
+    static <T extends Decimal<T>> T addWide(final DecimalFactory<T> decimalFactory,
+            final int xSignum, long x3, long x2, long x1, long x0, final long xExponent,
+            final int ySignum, long y3, long y2, long y1, long y0, final long yExponent) {
+        if (xExponent < yExponent) {
+            return addWide(decimalFactory,
+                    ySignum, y3, y2, y1, y0, yExponent, xSignum, x3, x2, x1, x0, xExponent);
+        }
+        if ((x3 | x2 | x1 | x0) == 0) {
+            // Sign of an exact zero sum is negative only if both operands are negative
+            final int signum = (y3 | y2 | y1 | y0) == 0 && xSignum != ySignum ? Signum.POSITIVE : ySignum;
+            return roundWide(decimalFactory, signum, y3, y2, y1, y0, yExponent, false);
+        }
+        final long exponentDifference = xExponent - yExponent;
+        final int xDigits = (x3 | x2) != 0
+                ? DecimalParser.numberOfDigits(x3, x2) + WIDE_DIGITS
+                : DecimalParser.numberOfDigits(x1, x0);
+        long exponent = yExponent;
+        boolean sticky = false;
+        final int xShift;
+        if (xDigits + exponentDifference <= WIDE_WINDOW_DIGITS) {
+            xShift = (int) exponentDifference;
+        } else {
+            // Pad x to the window, and drop the digits of y below it
+            xShift = WIDE_WINDOW_DIGITS - xDigits;
+            exponent = xExponent - xShift;
+            final long yShift = exponentDifference - xShift;
+            if (yShift >= 4 * LOWER_DIGITS) {
+                sticky = (y3 | y2 | y1 | y0) != 0;
+                y3 = 0;
+                y2 = 0;
+                y1 = 0;
+                y0 = 0;
+            } else {
+                switch ((int) yShift / LOWER_DIGITS) {
+                    case 1 -> {
+                        sticky = y0 != 0;
+                        y0 = y1;
+                        y1 = y2;
+                        y2 = y3;
+                        y3 = 0;
+                    }
+                    case 2 -> {
+                        sticky = (y1 | y0) != 0;
+                        y0 = y2;
+                        y1 = y3;
+                        y2 = 0;
+                        y3 = 0;
+                    }
+                    case 3 -> {
+                        sticky = (y2 | y1 | y0) != 0;
+                        y0 = y3;
+                        y1 = 0;
+                        y2 = 0;
+                        y3 = 0;
+                    }
+                    default -> {
+                        // no whole parts dropped
+                    }
+                }
+                final int digits = (int) yShift % LOWER_DIGITS;
+                final long divisor = POWERS_OF_TEN[digits];
+                final long multiplier = POWERS_OF_TEN[LOWER_DIGITS - digits];
+                sticky |= y0 % divisor != 0;
+                y0 = y0 / divisor + y1 % divisor * multiplier;
+                y1 = y1 / divisor + y2 % divisor * multiplier;
+                y2 = y2 / divisor + y3 % divisor * multiplier;
+                y3 = y3 / divisor;
+            }
+        }
+        // Align x to the exponent
+        final int digits = xShift % LOWER_DIGITS;
+        final long divisor = POWERS_OF_TEN[LOWER_DIGITS - digits];
+        final long multiplier = POWERS_OF_TEN[digits];
+        x3 = x3 % divisor * multiplier + x2 / divisor;
+        x2 = x2 % divisor * multiplier + x1 / divisor;
+        x1 = x1 % divisor * multiplier + x0 / divisor;
+        x0 = x0 % divisor * multiplier;
+        switch (xShift / LOWER_DIGITS) {
+            case 1 -> {
+                x3 = x2;
+                x2 = x1;
+                x1 = x0;
+                x0 = 0;
+            }
+            case 2 -> {
+                x3 = x1;
+                x2 = x0;
+                x1 = 0;
+                x0 = 0;
+            }
+            case 3 -> {
+                x3 = x0;
+                x2 = 0;
+                x1 = 0;
+                x0 = 0;
+            }
+            default -> {
+                // no whole parts shifted
+            }
+        }
+
+        final int signum;
+        if (xSignum == ySignum) {
+            // At most 72 digits, so no carry out of x3
+            signum = xSignum;
+            x0 += y0;
+            x1 += y1;
+            x2 += y2;
+            x3 += y3;
+        } else {
+            final boolean xGreater = x3 != y3 ? x3 > y3 : x2 != y2 ? x2 > y2 : x1 != y1 ? x1 > y1 : x0 >= y0;
+            if (xGreater) {
+                // x - y, where dropped digits of y (sticky) borrow one from the last digit
+                x0 = x0 - y0 - (sticky ? 1 : 0);
+                x1 -= y1;
+                x2 -= y2;
+                x3 -= y3;
+                signum = (x3 | x2 | x1 | x0) == 0 && !sticky ? Signum.POSITIVE : xSignum;
+            } else {
+                // Only for exactly aligned operands, so nothing was dropped
+                signum = ySignum;
+                x0 = y0 - x0;
+                x1 = y1 - x1;
+                x2 = y2 - x2;
+                x3 = y3 - x3;
+            }
+            if (x0 < 0) {
+                x0 += TEN_POW_18;
+                x1--;
+            }
+            if (x1 < 0) {
+                x1 += TEN_POW_18;
+                x2--;
+            }
+            if (x2 < 0) {
+                x2 += TEN_POW_18;
+                x3--;
+            }
+        }
+        if (x0 >= TEN_POW_18) {
+            x0 -= TEN_POW_18;
+            x1++;
+        }
+        if (x1 >= TEN_POW_18) {
+            x1 -= TEN_POW_18;
+            x2++;
+        }
+        if (x2 >= TEN_POW_18) {
+            x2 -= TEN_POW_18;
+            x3++;
+        }
+        return roundWide(decimalFactory, signum, x3, x2, x1, x0, exponent, sticky);
+    }
+
+    /**
+     * Multiplies two decimals.
+     *
+     * @param x
+     *         First operand
+     * @param y
+     *         Second operand
+     * @return Rounded product
+     */
+    static <T extends Decimal<T>> T multiply(final T x, final T y) {
+        final DecimalFactory<T> decimalFactory = x.getDecimalFactory();
+        final DecimalType xType = x.getType();
+        final DecimalType yType = y.getType();
+        final int signum = x.signum() == y.signum() ? Signum.POSITIVE : Signum.NEGATIVE;
+        if (xType != DecimalType.FINITE || yType != DecimalType.FINITE) {
+            return multiplySpecial(x, xType, y, yType, signum);
+        }
+        final DecimalCodec<T> codec = x.getDecimalCodec();
+        return multiplyAdd(decimalFactory, signum,
+                codec.upperCoefficient(x), codec.lowerCoefficient(x), codec.upperCoefficient(y),
+                codec.lowerCoefficient(y), (long) codec.exponent(x) + codec.exponent(y),
+                false, Signum.POSITIVE, 0, 0, 0);
+    }
+
+    /**
+     * Fused multiply-add of three decimals ({@code x * y + z}), rounded once.
+     *
+     * @param x
+     *         First operand of the multiplication
+     * @param y
+     *         Second operand of the multiplication
+     * @param z
+     *         Value to add to the product
+     * @return Rounded result of {@code x * y + z}
+     */
+    static <T extends Decimal<T>> T fma(final T x, final T y, final T z) {
+        final DecimalFactory<T> decimalFactory = x.getDecimalFactory();
+        final DecimalType xType = x.getType();
+        final DecimalType yType = y.getType();
+        final DecimalType zType = z.getType();
+        final int productSignum = x.signum() == y.signum() ? Signum.POSITIVE : Signum.NEGATIVE;
+        if (xType != DecimalType.FINITE || yType != DecimalType.FINITE || zType != DecimalType.FINITE) {
+            final T nan = propagateNaN(x, xType, y, yType, z, zType);
+            if (nan != null) {
+                return nan;
+            } else if (xType == DecimalType.INFINITY || yType == DecimalType.INFINITY) {
+                final T product = multiplySpecial(x, xType, y, yType, productSignum);
+                if (product.getType() == DecimalType.NAN
+                        || zType == DecimalType.INFINITY && z.signum() != productSignum) {
+                    return invalidOperation(decimalFactory);
+                }
+                return product;
+            }
+            // Finite product plus infinity
+            return z;
+        }
+        final DecimalCodec<T> codec = x.getDecimalCodec();
+        return multiplyAdd(decimalFactory, productSignum,
+                codec.upperCoefficient(x), codec.lowerCoefficient(x), codec.upperCoefficient(y),
+                codec.lowerCoefficient(y), (long) codec.exponent(x) + codec.exponent(y),
+                true, z.signum(), codec.upperCoefficient(z), codec.lowerCoefficient(z), codec.exponent(z));
+    }
+
+    /**
+     * Multiplies two finite values, and optionally adds a third finite value to the exact product.
+     *
+     * @param add
+     *         {@code true} to add {@code z} to the product, {@code false} to only round the product
+     */
+    private static <T extends Decimal<T>> T multiplyAdd(final DecimalFactory<T> decimalFactory, final int signum,
+            final long xUpper, final long xLower, final long yUpper, final long yLower, final long exponent,
+            final boolean add, final int zSignum, final long zUpper, final long zLower, final long zExponent) {
+        if ((xUpper | yUpper) == 0) {
+            // Coefficients of at most 18 digits (always for Decimal32 and Decimal64): product of at most 36 digits
+            final long productLow = xLower * yLower;
+            final long upper = UnsignedInt128.divideUnsigned(Math.multiplyHigh(xLower, yLower), productLow,
+                    TEN_POW_18);
+            final long lower = productLow - upper * TEN_POW_18;
+            if (!add) {
+                return DecimalParser.roundCoefficient(decimalFactory, signum, upper, lower, exponent, false,
+                        OverflowHandling.ROUND_TO_INFINITY);
+            } else if (upper < POWERS_OF_TEN[MAX_COEFFICIENT_DIGITS - LOWER_DIGITS]) {
+                // Product of at most 34 digits (always for Decimal64)
+                return addFinite(decimalFactory, signum, upper, lower, exponent, zSignum, zUpper, zLower, zExponent);
+            }
+            return addWide(decimalFactory, signum, 0, 0, upper, lower, exponent,
+                    zSignum, 0, 0, zUpper, zLower, zExponent);
+        }
+        // Product of at most 68 digits in four parts (p3 * 10^54 + p2 * 10^36 + p1 * 10^18 + p0), calculated from
+        // the 128-bit products of the parts of the coefficients
+        long productLow = xLower * yLower;
+        long carry = UnsignedInt128.divideUnsigned(Math.multiplyHigh(xLower, yLower), productLow, TEN_POW_18);
+        final long p0 = productLow - carry * TEN_POW_18;
+
+        final long crossLow1 = xUpper * yLower;
+        final long crossLow2 = xLower * yUpper;
+        productLow = crossLow1 + crossLow2;
+        long productHigh = Math.multiplyHigh(xUpper, yLower) + Math.multiplyHigh(xLower, yUpper)
+                + (Long.compareUnsigned(productLow, crossLow1) < 0 ? 1 : 0);
+        productLow += carry;
+        if (Long.compareUnsigned(productLow, carry) < 0) {
+            productHigh++;
+        }
+        carry = UnsignedInt128.divideUnsigned(productHigh, productLow, TEN_POW_18);
+        final long p1 = productLow - carry * TEN_POW_18;
+
+        productLow = xUpper * yUpper;
+        productHigh = Math.multiplyHigh(xUpper, yUpper);
+        productLow += carry;
+        if (Long.compareUnsigned(productLow, carry) < 0) {
+            productHigh++;
+        }
+        final long p3 = UnsignedInt128.divideUnsigned(productHigh, productLow, TEN_POW_18);
+        final long p2 = productLow - p3 * TEN_POW_18;
+        if (!add) {
+            return roundWide(decimalFactory, signum, p3, p2, p1, p0, exponent, false);
+        }
+        return addWide(decimalFactory, signum, p3, p2, p1, p0, exponent, zSignum, 0, 0, zUpper, zLower, zExponent);
+    }
+
+    /**
+     * Divides two decimals.
+     * <p>
+     * The quotient of the coefficients is calculated by long division in base {@code 10^18} to one digit more than
+     * the precision of the type, and the sticky digit records a non-zero remainder. An exact quotient is reduced
+     * towards the ideal exponent (the exponent of {@code x} minus the exponent of {@code y}) by removing trailing
+     * zeroes.
+     * </p>
+     *
+     * @param x
+     *         Dividend
+     * @param y
+     *         Divisor
+     * @return Rounded quotient
+     */
+    static <T extends Decimal<T>> T divide(final T x, final T y) {
+        final DecimalFactory<T> decimalFactory = x.getDecimalFactory();
+        final DecimalType xType = x.getType();
+        final DecimalType yType = y.getType();
+        final int signum = x.signum() == y.signum() ? Signum.POSITIVE : Signum.NEGATIVE;
+        if (xType != DecimalType.FINITE || yType != DecimalType.FINITE) {
+            final T nan = propagateNaN(x, xType, y, yType);
+            if (nan != null) {
+                return nan;
+            } else if (xType == DecimalType.INFINITY) {
+                return yType == DecimalType.INFINITY
+                        ? invalidOperation(decimalFactory)
+                        : decimalFactory.getSpecialConstant(signum, DecimalType.INFINITY);
+            }
+            // Finite divided by infinity is zero with the smallest exponent
+            return DecimalParser.roundCoefficient(decimalFactory, signum, 0, 0,
+                    decimalFactory.getDecimalFormat().unbiasedExponent(0), false, OverflowHandling.ROUND_TO_INFINITY);
+        }
+        final DecimalCodec<T> codec = x.getDecimalCodec();
+        final long xUpper = codec.upperCoefficient(x);
+        final long xLower = codec.lowerCoefficient(x);
+        final long yUpper = codec.upperCoefficient(y);
+        final long yLower = codec.lowerCoefficient(y);
+        final long idealExponent = (long) codec.exponent(x) - codec.exponent(y);
+        if ((yUpper | yLower) == 0) {
+            // Division by zero, or 0 / 0 which is invalid
+            return (xUpper | xLower) == 0
+                    ? invalidOperation(decimalFactory)
+                    : decimalFactory.getSpecialConstant(signum, DecimalType.INFINITY);
+        } else if ((xUpper | xLower) == 0) {
+            return DecimalParser.roundCoefficient(decimalFactory, signum, 0, 0, idealExponent, false,
+                    OverflowHandling.ROUND_TO_INFINITY);
+        }
+
+        // Scale the dividend so the quotient has one or two digits more than the precision (at most 36 digits); the
+        // scaled dividend has at most 69 digits, in four parts (n3 * 10^54 + n2 * 10^36 + n1 * 10^18 + n0)
+        final int scale = decimalFactory.getDecimalFormat().coefficientDigits + 1
+                + DecimalParser.numberOfDigits(yUpper, yLower) - DecimalParser.numberOfDigits(xUpper, xLower);
+        final int digits = scale % LOWER_DIGITS;
+        final long divisor = POWERS_OF_TEN[LOWER_DIGITS - digits];
+        final long multiplier = POWERS_OF_TEN[digits];
+        final long scaled0 = xLower % divisor * multiplier;
+        final long scaled1 = xLower / divisor + xUpper % divisor * multiplier;
+        final long scaled2 = xUpper / divisor;
+        long n3 = 0;
+        long n2 = 0;
+        long n1 = 0;
+        long n0 = 0;
+        switch (scale / LOWER_DIGITS) {
+            case 0 -> {
+                n2 = scaled2;
+                n1 = scaled1;
+                n0 = scaled0;
+            }
+            case 1 -> {
+                n3 = scaled2;
+                n2 = scaled1;
+                n1 = scaled0;
+            }
+            case 2 -> {
+                n3 = scaled1;
+                n2 = scaled0;
+            }
+            default -> n3 = scaled0;
+        }
+
+        // Binary representation of the divisor and of n3 * 10^18 + n2
+        final long divisorLow = yUpper * TEN_POW_18 + yLower;
+        final long divisorHigh = Math.multiplyHigh(yUpper, TEN_POW_18)
+                + (Long.compareUnsigned(divisorLow, yLower) < 0 ? 1 : 0);
+        long remainderLow = n3 * TEN_POW_18 + n2;
+        long remainderHigh = Math.multiplyHigh(n3, TEN_POW_18)
+                + (Long.compareUnsigned(remainderLow, n2) < 0 ? 1 : 0);
+
+        long upper = UnsignedInt128.divideScaled(remainderHigh, remainderLow, n1, divisorHigh, divisorLow);
+        // Remainder from the least significant 128 bits of (n3 * 10^36 + n2 * 10^18 + n1) - upper * divisor
+        long dividendLow = remainderLow * TEN_POW_18 + n1;
+        long dividendHigh = UnsignedInt128.multiplyHighUnsigned(remainderLow, TEN_POW_18)
+                + remainderHigh * TEN_POW_18 + (Long.compareUnsigned(dividendLow, n1) < 0 ? 1 : 0);
+        long productLow = upper * divisorLow;
+        long productHigh = UnsignedInt128.multiplyHighUnsigned(upper, divisorLow) + upper * divisorHigh;
+        remainderLow = dividendLow - productLow;
+        remainderHigh = dividendHigh - productHigh - (Long.compareUnsigned(dividendLow, productLow) < 0 ? 1 : 0);
+
+        long lower = UnsignedInt128.divideScaled(remainderHigh, remainderLow, n0, divisorHigh, divisorLow);
+        // Inexact if the remainder of (remainder * 10^18 + n0) - lower * divisor is not zero
+        dividendLow = remainderLow * TEN_POW_18 + n0;
+        dividendHigh = UnsignedInt128.multiplyHighUnsigned(remainderLow, TEN_POW_18)
+                + remainderHigh * TEN_POW_18 + (Long.compareUnsigned(dividendLow, n0) < 0 ? 1 : 0);
+        productLow = lower * divisorLow;
+        productHigh = UnsignedInt128.multiplyHighUnsigned(lower, divisorLow) + lower * divisorHigh;
+        final boolean sticky = dividendLow != productLow || dividendHigh != productHigh;
+
+        long exponent = idealExponent - scale;
+        if (!sticky) {
+            // Exact quotient: remove trailing zeroes up to the ideal exponent
+            while (exponent < idealExponent && lower % 10 == 0) {
+                lower = lower / 10 + upper % 10 * POWERS_OF_TEN[LOWER_DIGITS - 1];
+                upper = upper / 10;
+                exponent++;
+            }
+        }
+        return DecimalParser.roundCoefficient(decimalFactory, signum, upper, lower, exponent, sticky,
+                OverflowHandling.ROUND_TO_INFINITY);
+    }
+
+    /**
+     * Rounds a coefficient of up to 72 digits in four parts ({@code p3 * 10^54 + p2 * 10^36 + p1 * 10^18 + p0}).
+     * <p>
+     * Digits below the 36 most significant digits are dropped, and reflected in the sticky digit, before rounding with
+     * {@link DecimalParser#roundCoefficient(DecimalFactory, int, long, long, long, boolean, OverflowHandling)}.
+     * </p>
+     *
+     * @param sticky
+     *         {@code true} if there are non-zero digits below {@code p0} (only allowed if the coefficient has more
+     *         digits than the precision of the type)
+     */
+    static <T extends Decimal<T>> T roundWide(final DecimalFactory<T> decimalFactory, final int signum,
+            long p3, long p2, long p1, long p0, long exponent, boolean sticky) {
+        if ((p3 | p2) != 0) {
+            int droppedDigits = DecimalParser.numberOfDigits(p3, p2);
+            if (droppedDigits > LOWER_DIGITS) {
+                // Drop a whole part
+                sticky |= p0 != 0;
+                p0 = p1;
+                p1 = p2;
+                p2 = p3;
+                exponent += LOWER_DIGITS;
+                droppedDigits -= LOWER_DIGITS;
+            }
+            final long divisor = POWERS_OF_TEN[droppedDigits];
+            final long multiplier = POWERS_OF_TEN[LOWER_DIGITS - droppedDigits];
+            sticky |= p0 % divisor != 0;
+            p0 = p0 / divisor + p1 % divisor * multiplier;
+            p1 = p1 / divisor + p2 % divisor * multiplier;
+            exponent += droppedDigits;
+        }
+        return DecimalParser.roundCoefficient(decimalFactory, signum, p1, p0, exponent, sticky,
+                OverflowHandling.ROUND_TO_INFINITY);
+    }
+
+    /**
+     * Result of a multiplication with at least one special operand.
+     */
+    static <T extends Decimal<T>> T multiplySpecial(final T x, final DecimalType xType, final T y,
+            final DecimalType yType, final int signum) {
+        final T nan = propagateNaN(x, xType, y, yType);
+        if (nan != null) {
+            return nan;
+        }
+        final DecimalFactory<T> decimalFactory = x.getDecimalFactory();
+        // Infinity times zero is invalid
+        if (xType == DecimalType.FINITE && x.isEquivalentToZero()
+                || yType == DecimalType.FINITE && y.isEquivalentToZero()) {
+            return invalidOperation(decimalFactory);
+        }
+        return decimalFactory.getSpecialConstant(signum, DecimalType.INFINITY);
+    }
+
+    /**
+     * Result of an operation with a NaN operand: a signaling NaN is converted to a (quiet) NaN with the same sign,
+     * and takes precedence over a NaN; otherwise the first NaN operand.
+     *
+     * @return NaN result, or {@code null} if neither operand is a NaN
+     */
+    static <T extends Decimal<T>> @Nullable T propagateNaN(final T x, final DecimalType xType, final T y,
+            final DecimalType yType) {
+        if (xType == DecimalType.SIGNALING_NAN) {
+            return x.getDecimalFactory().getSpecialConstant(x.signum(), DecimalType.NAN);
+        } else if (yType == DecimalType.SIGNALING_NAN) {
+            return y.getDecimalFactory().getSpecialConstant(y.signum(), DecimalType.NAN);
+        } else if (xType == DecimalType.NAN) {
+            return x;
+        } else if (yType == DecimalType.NAN) {
+            return y;
+        }
+        return null;
+    }
+
+    /**
+     * Result of an operation with three operands, of which at least one is a NaN, following the same rules as
+     * {@link #propagateNaN(Decimal, DecimalType, Decimal, DecimalType)}.
+     *
+     * @return NaN result, or {@code null} if no operand is a NaN
+     */
+    static <T extends Decimal<T>> @Nullable T propagateNaN(final T x, final DecimalType xType, final T y,
+            final DecimalType yType, final T z, final DecimalType zType) {
+        if (zType == DecimalType.SIGNALING_NAN
+                && xType != DecimalType.SIGNALING_NAN && yType != DecimalType.SIGNALING_NAN) {
+            return z.getDecimalFactory().getSpecialConstant(z.signum(), DecimalType.NAN);
+        }
+        final T nan = propagateNaN(x, xType, y, yType);
+        if (nan == null && zType == DecimalType.NAN) {
+            return z;
+        }
+        return nan;
+    }
+
+    /**
+     * @return Result of an invalid operation (e.g. {@code Infinity - Infinity}): positive NaN
+     */
+    static <T extends Decimal<T>> T invalidOperation(final DecimalFactory<T> decimalFactory) {
+        return decimalFactory.getSpecialConstant(Signum.POSITIVE, DecimalType.NAN);
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.jspecify.annotations.Nullable;
+
+import static org.firebirdsql.decimal.DenselyPackedDecimalCodec.BITS_PER_GROUP;
+
+/**
+ * Shared instances of frequently used finite values of a decimal type.
+ * <p>
+ * Cached are the integers {@value #MIN_INTEGER} to {@value #MAX_INTEGER} (scale {@code 0}), and the positive values
+ * with a coefficient of {@code 0} to {@value #MAX_FRACTION_COEFFICIENT} and a scale of {@code 1} to
+ * {@value #MAX_FRACTION_SCALE} (e.g. {@code 0.00} to {@code 1.00} for currency amounts). Values can be looked up by
+ * their coefficient and exponent, or by their (canonical) bits.
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+final class DecimalCache<T extends Decimal<T>> {
+
+    static final int MIN_INTEGER = -128;
+    static final int MAX_INTEGER = 1024;
+    static final int MAX_FRACTION_SCALE = 4;
+    static final int MAX_FRACTION_COEFFICIENT = 100;
+
+    /**
+     * Size of the lookup table by bits, a power of two of more than twice the number of cached values.
+     */
+    private static final int TABLE_BITS = 12;
+    /**
+     * Bits of the two least significant digit groups, which hold the coefficient of all cached values.
+     */
+    private static final int CACHED_COEFFICIENT_BITS = 2 * BITS_PER_GROUP;
+
+    private final T[] integers;
+    private final T[][] fractions;
+    private final long highMask;
+    private final long lowMask;
+    private final long[] highKeys = new long[1 << TABLE_BITS];
+    private final long[] lowKeys = new long[1 << TABLE_BITS];
+    private final @Nullable T[] table;
+
+    /**
+     * Creates the cache of a decimal type.
+     *
+     * @param decimalFormat
+     *         Decimal format of the type
+     * @param creator
+     *         Creates the (uncached) instances
+     */
+    @SuppressWarnings("unchecked")
+    DecimalCache(final DecimalFormat decimalFormat, final Creator<T> creator) {
+        integers = (T[]) new Decimal<?>[MAX_INTEGER - MIN_INTEGER + 1];
+        for (int value = MIN_INTEGER; value <= MAX_INTEGER; value++) {
+            integers[value - MIN_INTEGER] = creator.create(value < 0 ? Signum.NEGATIVE : Signum.POSITIVE,
+                    Math.abs(value), 0);
+        }
+        fractions = (T[][]) new Decimal<?>[MAX_FRACTION_SCALE][MAX_FRACTION_COEFFICIENT + 1];
+        for (int scale = 1; scale <= MAX_FRACTION_SCALE; scale++) {
+            for (int coefficient = 0; coefficient <= MAX_FRACTION_COEFFICIENT; coefficient++) {
+                fractions[scale - 1][coefficient] = creator.create(Signum.POSITIVE, coefficient, -scale);
+            }
+        }
+
+        // All continuation bits except those of the cached coefficients, which must be zero for a cached value
+        final int coefficientContinuationBits = decimalFormat.coefficientContinuationBits;
+        if (coefficientContinuationBits < Long.SIZE) {
+            highMask = 0L;
+            lowMask = (1L << coefficientContinuationBits) - (1L << CACHED_COEFFICIENT_BITS);
+        } else {
+            highMask = (1L << coefficientContinuationBits - Long.SIZE) - 1;
+            lowMask = -(1L << CACHED_COEFFICIENT_BITS);
+        }
+        table = (T[]) new Decimal<?>[1 << TABLE_BITS];
+        for (T value : integers) {
+            put(value);
+        }
+        for (T[] scaleValues : fractions) {
+            for (T value : scaleValues) {
+                put(value);
+            }
+        }
+    }
+
+    private void put(final T value) {
+        final long highBits = value.highBits();
+        final long lowBits = value.lowBits();
+        int index = index(highBits, lowBits);
+        while (table[index] != null) {
+            index = index + 1 & table.length - 1;
+        }
+        highKeys[index] = highBits;
+        lowKeys[index] = lowBits;
+        table[index] = value;
+    }
+
+    /**
+     * Looks up a finite value by its coefficient and exponent.
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param upper
+     *         Upper part of the coefficient ({@code coefficient / 10^18})
+     * @param lower
+     *         Lower part of the coefficient ({@code coefficient % 10^18})
+     * @param exponent
+     *         Exponent
+     * @return Cached instance, or {@code null} if this value is not cached
+     */
+    @Nullable T get(final int signum, final long upper, final long lower, final int exponent) {
+        if (upper != 0) {
+            return null;
+        }
+        if (exponent == 0) {
+            if (signum == Signum.NEGATIVE) {
+                return lower != 0 && lower <= -MIN_INTEGER ? integers[(int) -lower - MIN_INTEGER] : null;
+            }
+            return lower <= MAX_INTEGER ? integers[(int) lower - MIN_INTEGER] : null;
+        } else if (exponent < 0 && exponent >= -MAX_FRACTION_SCALE && signum != Signum.NEGATIVE
+                && lower <= MAX_FRACTION_COEFFICIENT) {
+            return fractions[-exponent - 1][(int) lower];
+        }
+        return null;
+    }
+
+    /**
+     * Looks up a finite value by its bits.
+     *
+     * @param highBits
+     *         Most significant 64 bits of a Decimal128, {@code 0} for smaller decimal formats
+     * @param lowBits
+     *         Least significant 64 bits of a Decimal128, or the bits of smaller decimal formats (right-aligned)
+     * @return Cached instance, or {@code null} if this value is not cached
+     */
+    @Nullable T get(final long highBits, final long lowBits) {
+        if ((highBits & highMask | lowBits & lowMask) != 0) {
+            return null;
+        }
+        int index = index(highBits, lowBits);
+        T value;
+        while ((value = table[index]) != null) {
+            if (lowKeys[index] == lowBits && highKeys[index] == highBits) {
+                return value;
+            }
+            index = index + 1 & table.length - 1;
+        }
+        return null;
+    }
+
+    private static int index(final long highBits, final long lowBits) {
+        return bitsHash(highBits, lowBits) >>> Integer.SIZE - TABLE_BITS;
+    }
+
+    /**
+     * Hashes the bits of a decimal for table lookups, also used by {@link DecimalInterner}.
+     *
+     * @param highBits
+     *         Most significant 64 bits of a Decimal128, {@code 0} for smaller decimal formats
+     * @param lowBits
+     *         Least significant 64 bits of a Decimal128, or the bits of smaller decimal formats (right-aligned)
+     * @return Hash, of which the most significant bits are the best mixed
+     */
+    static int bitsHash(final long highBits, final long lowBits) {
+        return (int) ((highBits * 0x9E37_79B9_7F4A_7C15L ^ lowBits) * 0xC2B2_AE3D_27D4_EB4FL >>> Integer.SIZE);
+    }
+
+    /**
+     * Creates uncached instances of a decimal type.
+     */
+    @FunctionalInterface
+    interface Creator<T> {
+
+        /**
+         * @param signum
+         *         Signum ({@code -1} or {@code 1})
+         * @param coefficient
+         *         Coefficient
+         * @param exponent
+         *         Exponent
+         * @return New instance
+         */
+        T create(int signum, long coefficient, int exponent);
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -21,8 +21,21 @@
  */
 package org.firebirdsql.decimal;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import static org.firebirdsql.decimal.DenselyPackedDecimalCodec.BITS_PER_GROUP;
+import static org.firebirdsql.decimal.DenselyPackedDecimalCodec.DIGIT_GROUP_FACTORS;
+import static org.firebirdsql.decimal.DenselyPackedDecimalCodec.LOWER_DIGIT_GROUPS;
+import static org.firebirdsql.decimal.DenselyPackedDecimalCodec.LOWER_DIGIT_GROUP_BITS;
+import static org.firebirdsql.decimal.UnsignedInt128.TEN_POW_18;
 
 /**
  * Encodes and decodes decimal values.
@@ -32,14 +45,21 @@ import java.math.BigInteger;
 final class DecimalCodec<T extends Decimal<T>> {
 
     /**
-     * Byte pattern that signals that the combination field contains 1 bit of the first digit (for value 8 or 9).
+     * Bit pattern that signals that the combination field contains 1 bit of the first digit (for value 8 or 9).
      */
-    private static final int COMBINATION_2 = 0b0_11000_00;
-    private static final int NEGATIVE_BIT = 0b1000_0000;
+    private static final int COMBINATION_2 = 0b11000;
+    private static final int COMBINATION_BITS = 5;
+    private static final VarHandle INT_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle LONG_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
 
     private final DecimalFactory<T> decimalFactory;
     private final DecimalFormat decimalFormat;
-    private final DenselyPackedDecimalCodec coefficientCoder;
 
     /**
      * Constructs a decimal codec.
@@ -50,7 +70,6 @@ final class DecimalCodec<T extends Decimal<T>> {
     DecimalCodec(DecimalFactory<T> decimalFactory) {
         this.decimalFactory = decimalFactory;
         this.decimalFormat = decimalFactory.getDecimalFormat();
-        coefficientCoder = new DenselyPackedDecimalCodec(decimalFormat.coefficientDigits);
     }
 
     /**
@@ -63,34 +82,481 @@ final class DecimalCodec<T extends Decimal<T>> {
      *         If the byte array has the wrong length for the decimal type of this codec
      */
     T parseBytes(final byte[] decBytes) {
+        return parseBytes(decBytes, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Parse an IEEE-754 decimal format in the specified byte order to a decimal.
+     *
+     * @param decBytes
+     *         byte representation
+     * @param byteOrder
+     *         byte order of {@code decBytes}
+     * @return Decoded decimal
+     * @throws IllegalArgumentException
+     *         If the byte array has the wrong length for the decimal type of this codec
+     */
+    T parseBytes(final byte[] decBytes, final ByteOrder byteOrder) {
         decimalFormat.validateByteLength(decBytes);
 
-        final int firstByte = decBytes[0] & 0xff;
+        return parseBytes0(decBytes, 0, isBigEndian(byteOrder));
+    }
+
+    /**
+     * Parse an IEEE-754 decimal format to a decimal, reading from {@code src} starting at {@code offset}.
+     *
+     * @param src
+     *         byte array containing the byte representation
+     * @param offset
+     *         offset of the first byte of the byte representation
+     * @param byteOrder
+     *         byte order of the byte representation
+     * @return Decoded decimal
+     * @throws IndexOutOfBoundsException
+     *         If {@code src} does not have the byte length of the decimal format at {@code offset}
+     */
+    T parseBytes(final byte[] src, final int offset, final ByteOrder byteOrder) {
+        Objects.checkFromIndexSize(offset, decimalFormat.formatByteLength, src.length);
+
+        return parseBytes0(src, offset, isBigEndian(byteOrder));
+    }
+
+    /**
+     * Parse an IEEE-754 decimal format to a decimal through an interner, reading from {@code src} starting at
+     * {@code offset}.
+     * <p>
+     * The raw bits are looked up in {@code interner} before decoding, and decoded decimals are added to it.
+     * </p>
+     *
+     * @param src
+     *         byte array containing the byte representation
+     * @param offset
+     *         offset of the first byte of the byte representation
+     * @param byteOrder
+     *         byte order of the byte representation
+     * @param interner
+     *         interner of decoded decimals
+     * @return Decoded decimal, shared if it was already interned
+     * @throws IndexOutOfBoundsException
+     *         If {@code src} does not have the byte length of the decimal format at {@code offset}
+     */
+    T parseBytes(final byte[] src, final int offset, final ByteOrder byteOrder, final DecimalInterner<T> interner) {
+        Objects.checkFromIndexSize(offset, decimalFormat.formatByteLength, src.length);
+
+        final boolean bigEndian = isBigEndian(byteOrder);
+        final long highBits;
+        final long lowBits;
+        if (decimalFormat.formatBitLength <= Long.SIZE) {
+            highBits = 0L;
+            lowBits = readBits(src, offset, bigEndian);
+        } else if (bigEndian) {
+            highBits = (long) LONG_BIG_ENDIAN.get(src, offset);
+            lowBits = (long) LONG_BIG_ENDIAN.get(src, offset + Long.BYTES);
+        } else {
+            highBits = (long) LONG_LITTLE_ENDIAN.get(src, offset + Long.BYTES);
+            lowBits = (long) LONG_LITTLE_ENDIAN.get(src, offset);
+        }
+        final T interned = interner.get(highBits, lowBits);
+        if (interned != null) {
+            return interned;
+        }
+        final T decimal = decimalFormat.formatBitLength <= Long.SIZE
+                ? decodeBits(lowBits)
+                : decodeBits128(highBits, lowBits);
+        interner.put(highBits, lowBits, decimal);
+        return decimal;
+    }
+
+    private T parseBytes0(final byte[] src, final int offset, final boolean bigEndian) {
+        if (decimalFormat.formatBitLength <= Long.SIZE) {
+            return decodeBits(readBits(src, offset, bigEndian));
+        } else if (bigEndian) {
+            return decodeBits128(
+                    (long) LONG_BIG_ENDIAN.get(src, offset), (long) LONG_BIG_ENDIAN.get(src, offset + Long.BYTES));
+        }
+        return decodeBits128(
+                (long) LONG_LITTLE_ENDIAN.get(src, offset + Long.BYTES), (long) LONG_LITTLE_ENDIAN.get(src, offset));
+    }
+
+    /**
+     * Parses {@code count} consecutive IEEE-754 decimals in network byte-order from {@code src}, starting at
+     * {@code offset}.
+     * <p>
+     * The bounds are checked once for the whole batch.
+     * </p>
+     *
+     * @param src
+     *         byte array containing the byte representations
+     * @param offset
+     *         offset of the first byte of the first byte representation
+     * @param count
+     *         number of decimals to parse
+     * @param out
+     *         target array, decoded decimals are stored at index {@code 0} to {@code count - 1}
+     * @throws IndexOutOfBoundsException
+     *         If {@code src} does not have {@code count} byte representations at {@code offset}, or {@code out} is
+     *         shorter than {@code count}
+     */
+    void parseAll(final byte[] src, final int offset, final int count, final T[] out) {
+        final int formatByteLength = checkBatch(src.length, offset, count, out.length);
+        for (int idx = 0, position = offset; idx < count; idx++, position += formatByteLength) {
+            out[idx] = parseBytes0(src, position, true);
+        }
+    }
+
+    /**
+     * Parses {@code count} consecutive IEEE-754 decimals in network byte-order from {@code src}, starting at
+     * {@code offset}, to big decimals.
+     * <p>
+     * The bounds are checked once for the whole batch. Negative zero is decoded as {@link BigDecimal} zero.
+     * </p>
+     *
+     * @param src
+     *         byte array containing the byte representations
+     * @param offset
+     *         offset of the first byte of the first byte representation
+     * @param count
+     *         number of decimals to parse
+     * @param out
+     *         target array, decoded values are stored at index {@code 0} to {@code count - 1}
+     * @throws IndexOutOfBoundsException
+     *         If {@code src} does not have {@code count} byte representations at {@code offset}, or {@code out} is
+     *         shorter than {@code count}
+     * @throws DecimalInconvertibleException
+     *         If a value is a NaN, sNaN or Infinity, values before it have already been stored in {@code out}
+     */
+    void parseAll(final byte[] src, final int offset, final int count, final BigDecimal[] out) {
+        final int formatByteLength = checkBatch(src.length, offset, count, out.length);
+        final boolean fitsInLong = decimalFormat.formatBitLength <= Long.SIZE;
+        for (int idx = 0, position = offset; idx < count; idx++, position += formatByteLength) {
+            out[idx] = fitsInLong
+                    ? decodeBigDecimal(readBits(src, position, true))
+                    : decodeBigDecimal128((long) LONG_BIG_ENDIAN.get(src, position),
+                            (long) LONG_BIG_ENDIAN.get(src, position + Long.BYTES));
+        }
+    }
+
+    /**
+     * Parse an IEEE-754 decimal format to a decimal, reading from the current position of {@code buffer}.
+     * <p>
+     * The bytes are read in the byte order of the buffer, and the position of the buffer is advanced by the byte
+     * length of the decimal format.
+     * </p>
+     *
+     * @param buffer
+     *         Byte buffer
+     * @return Decoded decimal
+     * @throws BufferUnderflowException
+     *         If the buffer has fewer bytes remaining than the byte length of the decimal format (the position of the
+     *         buffer is not changed)
+     */
+    T parseBytes(final ByteBuffer buffer) {
+        final int formatByteLength = decimalFormat.formatByteLength;
+        if (formatByteLength == Integer.BYTES) {
+            return decodeBits(buffer.getInt() & 0xFFFF_FFFFL);
+        } else if (formatByteLength == Long.BYTES) {
+            return decodeBits(buffer.getLong());
+        }
+        // Check upfront, so the buffer is not partially consumed
+        if (buffer.remaining() < formatByteLength) {
+            throw new BufferUnderflowException();
+        }
+        if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+            final long highBits = buffer.getLong();
+            return decodeBits128(highBits, buffer.getLong());
+        }
+        final long lowBits = buffer.getLong();
+        return decodeBits128(buffer.getLong(), lowBits);
+    }
+
+    /**
+     * Decodes a decimal of at most 64 bits.
+     * <p>
+     * Specials are decoded to their constant (dropping any NaN payload), and non-canonical digit groups of finite
+     * values are replaced with their canonical encoding, so equal values always have the same bits.
+     * </p>
+     *
+     * @param bits
+     *         Bits of the decimal, right-aligned in the long
+     * @return Decoded decimal
+     */
+    T decodeBits(final long bits) {
+        final int firstByte = (int) (bits >>> decimalFormat.formatBitLength - 8) & 0xFF;
+        final DecimalType decimalType = DecimalType.fromFirstByte(firstByte);
+        if (decimalType != DecimalType.FINITE) {
+            return decimalFactory.getSpecialConstant(-1 * (firstByte >>> 7) | 1, decimalType);
+        }
+        return decimalFactory.fromBits(0L, DenselyPackedDecimalCodec.canonicalizeDigitGroups(
+                bits, decimalFormat.coefficientContinuationBits / BITS_PER_GROUP));
+    }
+
+    /**
+     * Decodes a decimal of 128 bits.
+     * <p>
+     * Specials are decoded to their constant (dropping any NaN payload), and non-canonical digit groups of finite
+     * values are replaced with their canonical encoding, so equal values always have the same bits.
+     * </p>
+     *
+     * @param highBits
+     *         Most significant 64 bits of the decimal
+     * @param lowBits
+     *         Least significant 64 bits of the decimal
+     * @return Decoded decimal
+     */
+    T decodeBits128(final long highBits, final long lowBits) {
+        final int firstByte = (int) (highBits >>> Long.SIZE - 8) & 0xFF;
+        final DecimalType decimalType = DecimalType.fromFirstByte(firstByte);
+        if (decimalType != DecimalType.FINITE) {
+            return decimalFactory.getSpecialConstant(-1 * (firstByte >>> 7) | 1, decimalType);
+        }
+        final long canonicalLowBits = DenselyPackedDecimalCodec.canonicalizeDigitGroups(lowBits, LOWER_DIGIT_GROUPS);
+        final long upperBits = highBits << Long.SIZE - LOWER_DIGIT_GROUP_BITS | lowBits >>> LOWER_DIGIT_GROUP_BITS;
+        final long upperChanges = upperBits ^ DenselyPackedDecimalCodec.canonicalizeDigitGroups(
+                upperBits, decimalFormat.coefficientContinuationBits / BITS_PER_GROUP - LOWER_DIGIT_GROUPS);
+        return decimalFactory.fromBits(highBits ^ upperChanges >>> Long.SIZE - LOWER_DIGIT_GROUP_BITS,
+                canonicalLowBits ^ upperChanges << LOWER_DIGIT_GROUP_BITS);
+    }
+
+    /**
+     * Decodes the value of a finite decimal.
+     *
+     * @param decimal
+     *         Finite decimal
+     * @return Value of the decimal
+     */
+    BigDecimal decodeValue(final T decimal) {
+        final int signum = decimal.signum();
+        if (decimalFormat.formatBitLength <= Long.SIZE) {
+            return decodeFinite(signum, decimal.lowBits());
+        }
+        return decodeFinite128(signum, decimal.highBits(), decimal.lowBits());
+    }
+
+    /**
+     * @param decimal
+     *         Finite decimal
+     * @return Upper part of the coefficient ({@code coefficient / 10^18}), always {@code 0} for decimal formats of at
+     * most 64 bits
+     */
+    long upperCoefficient(final T decimal) {
+        if (decimalFormat.formatBitLength <= Long.SIZE) {
+            return 0L;
+        }
+        return decodeUpperCoefficient128(decimal.highBits(), decimal.lowBits());
+    }
+
+    /**
+     * @param decimal
+     *         Finite decimal
+     * @return Lower part of the coefficient ({@code coefficient % 10^18}), which is the whole coefficient for
+     * decimal formats of at most 64 bits
+     */
+    long lowerCoefficient(final T decimal) {
+        if (decimalFormat.formatBitLength <= Long.SIZE) {
+            return decodeCoefficient(decimal.lowBits());
+        }
+        return DenselyPackedDecimalCodec.decodeDigitGroups(0, decimal.lowBits(), LOWER_DIGIT_GROUPS);
+    }
+
+    /**
+     * @param decimal
+     *         Finite decimal
+     * @return Exponent (unbiased) of the decimal
+     */
+    int exponent(final T decimal) {
+        if (decimalFormat.formatBitLength <= Long.SIZE) {
+            return decodeExponent(decimal.lowBits());
+        }
+        return decodeExponent128(decimal.highBits());
+    }
+
+    /**
+     * Determines if a decimal is zero (ignoring scale) from its bits, without decoding its value.
+     *
+     * @param decimal
+     *         Decimal
+     * @return {@code true} if {@code decimal} is a finite value with a zero coefficient
+     */
+    boolean isEquivalentToZero(final T decimal) {
+        if (decimal.getType() != DecimalType.FINITE || firstDigit(decimal.firstByte() >>> 2 & 0b11111) != 0) {
+            return false;
+        }
+        // The only digit group encoding of 000 is all zero bits
+        final int coefficientContinuationBits = decimalFormat.coefficientContinuationBits;
+        if (coefficientContinuationBits < Long.SIZE) {
+            return (decimal.lowBits() & (1L << coefficientContinuationBits) - 1) == 0;
+        }
+        return decimal.lowBits() == 0
+                && (decimal.highBits() & (1L << coefficientContinuationBits - Long.SIZE) - 1) == 0;
+    }
+
+    /**
+     * Negates a finite decimal by flipping its sign bit.
+     *
+     * @param decimal
+     *         Finite decimal
+     * @return Negated decimal
+     */
+    T negate(final T decimal) {
+        final int formatBitLength = decimalFormat.formatBitLength;
+        if (formatBitLength <= Long.SIZE) {
+            return decimalFactory.fromBits(0L, decimal.lowBits() ^ 1L << formatBitLength - 1);
+        }
+        return decimalFactory.fromBits(decimal.highBits() ^ Long.MIN_VALUE, decimal.lowBits());
+    }
+
+    /**
+     * Decodes a finite decimal of at most 64 bits to a big decimal.
+     *
+     * @param bits
+     *         Bits of the decimal, right-aligned in the long
+     * @return Decoded value
+     * @throws DecimalInconvertibleException
+     *         If the value is a NaN, sNaN or Infinity
+     */
+    private BigDecimal decodeBigDecimal(final long bits) {
+        final int firstByte = (int) (bits >>> decimalFormat.formatBitLength - 8) & 0xFF;
         final int signum = -1 * (firstByte >>> 7) | 1;
         final DecimalType decimalType = DecimalType.fromFirstByte(firstByte);
         if (decimalType != DecimalType.FINITE) {
-            return decimalFactory.getSpecialConstant(signum, decimalType);
-        } else {
-            // NOTE: get exponent MSB from combination field and first 2 bits of exponent continuation in one go
-            final int exponentMSB;
-            final int firstDigit;
-            if ((firstByte & COMBINATION_2) != COMBINATION_2) {
-                exponentMSB = (firstByte >>> 3) & 0b01100 | (firstByte & 0b011);
-                firstDigit = (firstByte >>> 2) & 0b0111;
-            } else {
-                exponentMSB = (firstByte >>> 1) & 0b01100 | (firstByte & 0b011);
-                firstDigit = 0b01000 | ((firstByte >>> 2) & 0b01);
-            }
-            final int exponentBitsRemaining = decimalFormat.exponentContinuationBits - 2;
-            assert exponentBitsRemaining
-                    == decimalFormat.formatBitLength - 8 - decimalFormat.coefficientContinuationBits
-                    : "Unexpected exponent remaining length " + exponentBitsRemaining;
-            final int exponent =
-                    decimalFormat.unbiasedExponent(decodeExponent(decBytes, exponentMSB, exponentBitsRemaining));
-            final BigInteger coefficient = coefficientCoder.decodeValue(signum, firstDigit, decBytes);
+            // throws DecimalInconvertibleException
+            return decimalFactory.getSpecialConstant(signum, decimalType).toBigDecimal();
+        }
+        return decodeFinite(signum, bits);
+    }
+
+    /**
+     * Decodes a finite decimal of 128 bits to a big decimal.
+     *
+     * @param highBits
+     *         Most significant 64 bits of the decimal
+     * @param lowBits
+     *         Least significant 64 bits of the decimal
+     * @return Decoded value
+     * @throws DecimalInconvertibleException
+     *         If the value is a NaN, sNaN or Infinity
+     */
+    private BigDecimal decodeBigDecimal128(final long highBits, final long lowBits) {
+        final int firstByte = (int) (highBits >>> Long.SIZE - 8) & 0xFF;
+        final int signum = -1 * (firstByte >>> 7) | 1;
+        final DecimalType decimalType = DecimalType.fromFirstByte(firstByte);
+        if (decimalType != DecimalType.FINITE) {
+            // throws DecimalInconvertibleException
+            return decimalFactory.getSpecialConstant(signum, decimalType).toBigDecimal();
+        }
+        return decodeFinite128(signum, highBits, lowBits);
+    }
+
+    /**
+     * Decodes a finite decimal of at most 64 bits.
+     *
+     * @param signum
+     *         Signum of the decimal
+     * @param bits
+     *         Bits of the decimal, right-aligned in the long
+     * @return Decoded value
+     */
+    private BigDecimal decodeFinite(final int signum, final long bits) {
+        final long coefficient = decodeCoefficient(bits);
+        return BigDecimal.valueOf(signum == Signum.NEGATIVE ? -coefficient : coefficient, -decodeExponent(bits));
+    }
+
+    /**
+     * @param bits
+     *         Bits of a finite decimal of at most 64 bits, right-aligned in the long
+     * @return Coefficient of the decimal
+     */
+    private long decodeCoefficient(final long bits) {
+        final int combination = (int) (bits >>> decimalFormat.formatBitLength - 1 - COMBINATION_BITS) & 0b11111;
+        return DenselyPackedDecimalCodec.decodeDigitGroups(
+                firstDigit(combination), bits, decimalFormat.coefficientContinuationBits / BITS_PER_GROUP);
+    }
+
+    /**
+     * @param bits
+     *         Bits of a finite decimal of at most 64 bits, right-aligned in the long
+     * @return Exponent (unbiased) of the decimal
+     */
+    private int decodeExponent(final long bits) {
+        final int combination = (int) (bits >>> decimalFormat.formatBitLength - 1 - COMBINATION_BITS) & 0b11111;
+        final int exponentContinuationBits = decimalFormat.exponentContinuationBits;
+        return decimalFormat.unbiasedExponent(exponentMSB(combination) << exponentContinuationBits
+                | (int) (bits >>> decimalFormat.coefficientContinuationBits) & ((1 << exponentContinuationBits) - 1));
+    }
+
+    /**
+     * Decodes a finite decimal of 128 bits.
+     * <p>
+     * The coefficient is decoded as an upper part (first digit and the digit groups in the high bits) and a lower part
+     * (the 6 least significant digit groups, 18 digits), only creating a {@link BigInteger} if the coefficient doesn't
+     * fit in a long.
+     * </p>
+     *
+     * @param signum
+     *         Signum of the decimal
+     * @param highBits
+     *         Most significant 64 bits of the decimal
+     * @param lowBits
+     *         Least significant 64 bits of the decimal
+     * @return Decoded value
+     */
+    private BigDecimal decodeFinite128(final int signum, final long highBits, final long lowBits) {
+        final long upper = decodeUpperCoefficient128(highBits, lowBits);
+        final long lower = DenselyPackedDecimalCodec.decodeDigitGroups(0, lowBits, LOWER_DIGIT_GROUPS);
+        final int scale = -decodeExponent128(highBits);
 
-            return decimalFactory.createDecimal(signum, new BigDecimal(coefficient, -exponent));
+        if (upper < 9) {
+            // upper * 10^18 + lower fits in a long
+            final long coefficient = upper * TEN_POW_18 + lower;
+            return BigDecimal.valueOf(signum == Signum.NEGATIVE ? -coefficient : coefficient, scale);
         }
+        return new BigDecimal(UnsignedInt128.fromDecimalParts(upper, lower).toBigInteger(signum), scale);
+    }
+
+    /**
+     * @param highBits
+     *         Most significant 64 bits of a finite decimal of 128 bits
+     * @param lowBits
+     *         Least significant 64 bits of a finite decimal of 128 bits
+     * @return Upper part of the coefficient ({@code coefficient / 10^18})
+     */
+    private long decodeUpperCoefficient128(final long highBits, final long lowBits) {
+        final int combination = (int) (highBits >>> Long.SIZE - 1 - COMBINATION_BITS) & 0b11111;
+        return DenselyPackedDecimalCodec.decodeDigitGroups(firstDigit(combination),
+                highBits << Long.SIZE - LOWER_DIGIT_GROUP_BITS | lowBits >>> LOWER_DIGIT_GROUP_BITS,
+                decimalFormat.coefficientContinuationBits / BITS_PER_GROUP - LOWER_DIGIT_GROUPS);
+    }
+
+    /**
+     * @param highBits
+     *         Most significant 64 bits of a finite decimal of 128 bits
+     * @return Exponent (unbiased) of the decimal
+     */
+    private int decodeExponent128(final long highBits) {
+        final int combination = (int) (highBits >>> Long.SIZE - 1 - COMBINATION_BITS) & 0b11111;
+        final int exponentContinuationBits = decimalFormat.exponentContinuationBits;
+        return decimalFormat.unbiasedExponent(exponentMSB(combination) << exponentContinuationBits
+                | (int) (highBits >>> decimalFormat.coefficientContinuationBits - Long.SIZE)
+                        & ((1 << exponentContinuationBits) - 1));
+    }
+
+    /**
+     * Reads the bits of a decimal of at most 64 bits.
+     *
+     * @param src
+     *         byte representation, length already validated
+     * @param offset
+     *         offset of the first byte
+     * @param bigEndian
+     *         {@code true} for big-endian (network byte-order), {@code false} for little-endian
+     * @return Bits of the decimal, right-aligned in the long
+     */
+    private long readBits(final byte[] src, final int offset, final boolean bigEndian) {
+        if (decimalFormat.formatByteLength == Integer.BYTES) {
+            return (bigEndian ? (int) INT_BIG_ENDIAN.get(src, offset) : (int) INT_LITTLE_ENDIAN.get(src, offset))
+                    & 0xFFFF_FFFFL;
+        }
+        return bigEndian ? (long) LONG_BIG_ENDIAN.get(src, offset) : (long) LONG_LITTLE_ENDIAN.get(src, offset);
     }
 
     /**
@@ -99,70 +565,290 @@ final class DecimalCodec<T extends Decimal<T>> {
      * @param decimal
      *         Decimal
      * @return Byte array with the encoded decimal
-     * @throws DecimalOverflowException
-     *         If the exponent or coefficient of the decimal exceeds the supported range of the decimal format
      */
     byte[] encodeDecimal(final T decimal) {
+        return encodeDecimal(decimal, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Encodes a decimal to its IEEE-754 format in the specified byte order.
+     *
+     * @param decimal
+     *         Decimal
+     * @param byteOrder
+     *         Byte order of the encoded decimal
+     * @return Byte array with the encoded decimal
+     */
+    byte[] encodeDecimal(final T decimal, final ByteOrder byteOrder) {
         final byte[] decBytes = new byte[decimalFormat.formatByteLength];
+        encodeDecimal0(decimal, decBytes, 0, isBigEndian(byteOrder));
+        return decBytes;
+    }
 
-        if (decimal.signum() == Signum.NEGATIVE) {
-            decBytes[0] = (byte) NEGATIVE_BIT;
-        }
+    /**
+     * Encodes a decimal to its IEEE-754 format, writing into {@code dest} starting at {@code offset}.
+     *
+     * @param decimal
+     *         Decimal
+     * @param dest
+     *         Target byte array
+     * @param offset
+     *         Offset in {@code dest} for the first byte
+     * @param byteOrder
+     *         Byte order of the encoded decimal
+     * @return Number of bytes written (the byte length of the decimal format)
+     * @throws IndexOutOfBoundsException
+     *         If {@code dest} does not have room for the byte length of the decimal format at {@code offset} (nothing
+     *         is written)
+     */
+    int encodeDecimal(final T decimal, final byte[] dest, final int offset, final ByteOrder byteOrder) {
+        final int formatByteLength = decimalFormat.formatByteLength;
+        Objects.checkFromIndexSize(offset, formatByteLength, dest.length);
+
+        encodeDecimal0(decimal, dest, offset, isBigEndian(byteOrder));
+        return formatByteLength;
+    }
 
-        if (decimal.getType() == DecimalType.FINITE) {
-            encodeFinite(
-                    decimalFormat.validate(decimal.toBigDecimal()),
-                    decBytes);
+    private void encodeDecimal0(final T decimal, final byte[] dest, final int offset, final boolean bigEndian) {
+        if (decimalFormat.formatBitLength <= Long.SIZE) {
+            writeBits(dest, offset, decimal.lowBits(), bigEndian);
+        } else if (bigEndian) {
+            LONG_BIG_ENDIAN.set(dest, offset, decimal.highBits());
+            LONG_BIG_ENDIAN.set(dest, offset + Long.BYTES, decimal.lowBits());
         } else {
-            decBytes[0] |= decimal.getType().getSpecialBits();
+            LONG_LITTLE_ENDIAN.set(dest, offset, decimal.lowBits());
+            LONG_LITTLE_ENDIAN.set(dest, offset + Long.BYTES, decimal.highBits());
         }
+    }
 
-        return decBytes;
+    /**
+     * Encodes decimals to their IEEE-754 format in network byte-order, writing them consecutively into {@code dest},
+     * starting at {@code offset}.
+     * <p>
+     * The bounds are checked once for the whole batch.
+     * </p>
+     *
+     * @param values
+     *         Decimals to encode
+     * @param dest
+     *         Target byte array
+     * @param offset
+     *         Offset in {@code dest} for the first byte
+     * @return Number of bytes written
+     * @throws IndexOutOfBoundsException
+     *         If {@code dest} does not have room for all values at {@code offset} (nothing is written)
+     */
+    int encodeAll(final T[] values, final byte[] dest, final int offset) {
+        final int formatByteLength = checkBatch(dest.length, offset, values.length, values.length);
+        for (int idx = 0, position = offset; idx < values.length; idx++, position += formatByteLength) {
+            encodeDecimal0(values[idx], dest, position, true);
+        }
+        return values.length * formatByteLength;
     }
 
-    private void encodeFinite(BigDecimal decimal, byte[] decBytes) {
-        final int biasedExponent = decimalFormat.biasedExponent(-decimal.scale());
-        final BigInteger coefficient = decimal.unscaledValue();
-        final int mostSignificantDigit = coefficientCoder.encodeValue(coefficient, decBytes);
-        final int expMSB = biasedExponent >>> decimalFormat.exponentContinuationBits;
-        final int expTwoBitCont = (biasedExponent >>> decimalFormat.exponentContinuationBits - 2) & 0b011;
-        if (mostSignificantDigit <= 7) {
-            decBytes[0] |= ((expMSB << 5)
-                    | (mostSignificantDigit << 2)
-                    | expTwoBitCont);
-        } else {
-            decBytes[0] |= (COMBINATION_2
-                    | (expMSB << 3)
-                    | ((mostSignificantDigit & 0b01) << 2)
-                    | expTwoBitCont);
+    /**
+     * Converts big decimals to decimals and encodes them to their IEEE-754 format in network byte-order, writing them
+     * consecutively into {@code dest}, starting at {@code offset}.
+     * <p>
+     * The conversion applies rounding where necessary, and values exceeding the range of the decimal format are
+     * encoded as +/-Infinity. The bounds are checked once for the whole batch.
+     * </p>
+     *
+     * @param values
+     *         Big decimals to encode
+     * @param dest
+     *         Target byte array
+     * @param offset
+     *         Offset in {@code dest} for the first byte
+     * @return Number of bytes written
+     * @throws IndexOutOfBoundsException
+     *         If {@code dest} does not have room for all values at {@code offset} (nothing is written)
+     */
+    int encodeAll(final BigDecimal[] values, final byte[] dest, final int offset) {
+        final int formatByteLength = checkBatch(dest.length, offset, values.length, values.length);
+        for (int idx = 0, position = offset; idx < values.length; idx++, position += formatByteLength) {
+            encodeDecimal0(decimalFactory.valueOf(values[idx], OverflowHandling.ROUND_TO_INFINITY),
+                    dest, position, true);
         }
-        encodeExponentContinuation(decBytes, biasedExponent, decimalFormat.exponentContinuationBits - 2);
+        return values.length * formatByteLength;
     }
 
-    private static void encodeExponentContinuation(byte[] decBytes, final int expAndBias, int expBitsRemaining) {
-        int expByteIndex = 1;
-        while (expBitsRemaining > 8) {
-            decBytes[expByteIndex++] = (byte) (expAndBias >>> expBitsRemaining - 8);
-            expBitsRemaining -= 8;
+    /**
+     * Checks the bounds of a batch of {@code count} byte representations in an array of {@code bytesLength} bytes
+     * starting at {@code offset}, and of {@code count} values in an array of {@code valuesLength}.
+     *
+     * @return Byte length of the decimal format
+     * @throws IndexOutOfBoundsException
+     *         If the batch is out of bounds
+     */
+    private int checkBatch(final int bytesLength, final int offset, final int count, final int valuesLength) {
+        final int formatByteLength = decimalFormat.formatByteLength;
+        Objects.checkFromIndexSize(offset, (long) count * formatByteLength, bytesLength);
+        Objects.checkFromIndexSize(0, count, valuesLength);
+        return formatByteLength;
+    }
+
+    /**
+     * Encodes a decimal to its IEEE-754 format, writing at the current position of {@code buffer}.
+     * <p>
+     * The bytes are written in the byte order of the buffer, and the position of the buffer is advanced by the byte
+     * length of the decimal format.
+     * </p>
+     *
+     * @param decimal
+     *         Decimal
+     * @param buffer
+     *         Target byte buffer
+     * @throws BufferOverflowException
+     *         If the buffer has fewer bytes remaining than the byte length of the decimal format (nothing is written)
+     * @throws java.nio.ReadOnlyBufferException
+     *         If the buffer is read-only
+     */
+    void encodeDecimal(final T decimal, final ByteBuffer buffer) {
+        final int formatByteLength = decimalFormat.formatByteLength;
+        if (formatByteLength == Integer.BYTES) {
+            buffer.putInt((int) decimal.lowBits());
+            return;
+        } else if (formatByteLength == Long.BYTES) {
+            buffer.putLong(decimal.lowBits());
+            return;
+        }
+        // Check upfront, so the buffer is not partially written
+        if (buffer.remaining() < formatByteLength) {
+            throw new BufferOverflowException();
         }
-        if (expBitsRemaining > 0) {
-            decBytes[expByteIndex] |= (expAndBias << 8 - expBitsRemaining);
+        if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+            buffer.putLong(decimal.highBits()).putLong(decimal.lowBits());
+        } else {
+            buffer.putLong(decimal.lowBits()).putLong(decimal.highBits());
         }
     }
 
-    static int decodeExponent(final byte[] decBytes, final int exponentMSB, int exponentBitsRemaining) {
-        int exponent = exponentMSB;
-        int byteIndex = 1;
-        while (exponentBitsRemaining > 8) {
-            exponent = (exponent << 8) | (decBytes[byteIndex] & 0xFF);
-            exponentBitsRemaining -= 8;
-            byteIndex += 1;
-        }
-        if (exponentBitsRemaining > 0) {
-            exponent = (exponent << exponentBitsRemaining)
-                    | ((decBytes[byteIndex] & 0xFF) >>> (8 - exponentBitsRemaining));
+    /**
+     * Encodes a finite value of at most 64 bits from its coefficient and exponent.
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param coefficient
+     *         Coefficient, already validated to fit the decimal format
+     * @param exponent
+     *         Exponent, already validated to fit the decimal format
+     * @return Bits of the encoded decimal, right-aligned in the long
+     */
+    long encodeFinite(final int signum, final long coefficient, final int exponent) {
+        final int formatBitLength = decimalFormat.formatBitLength;
+        final long signBit = signum == Signum.NEGATIVE ? 1L << formatBitLength - 1 : 0L;
+        final int biasedExponent = decimalFormat.biasedExponent(exponent);
+        final int digitGroups = decimalFormat.coefficientContinuationBits / BITS_PER_GROUP;
+        final int mostSignificantDigit = (int) (coefficient / DIGIT_GROUP_FACTORS[digitGroups]);
+        final int exponentContinuationBits = decimalFormat.exponentContinuationBits;
+        return signBit
+                | (long) combination(mostSignificantDigit, biasedExponent >>> exponentContinuationBits)
+                        << formatBitLength - 1 - COMBINATION_BITS
+                | (long) (biasedExponent & ((1 << exponentContinuationBits) - 1))
+                        << decimalFormat.coefficientContinuationBits
+                | DenselyPackedDecimalCodec.encodeDigitGroups(coefficient, digitGroups);
+    }
+
+    /**
+     * Writes the bits of a decimal of at most 64 bits.
+     *
+     * @param dest
+     *         Target byte array, length already validated
+     * @param offset
+     *         Offset in {@code dest} for the first byte
+     * @param bits
+     *         Bits of the decimal, right-aligned in the long
+     * @param bigEndian
+     *         {@code true} for big-endian (network byte-order), {@code false} for little-endian
+     */
+    private void writeBits(final byte[] dest, final int offset, final long bits, final boolean bigEndian) {
+        if (decimalFormat.formatByteLength == Integer.BYTES) {
+            if (bigEndian) {
+                INT_BIG_ENDIAN.set(dest, offset, (int) bits);
+            } else {
+                INT_LITTLE_ENDIAN.set(dest, offset, (int) bits);
+            }
+        } else if (bigEndian) {
+            LONG_BIG_ENDIAN.set(dest, offset, bits);
+        } else {
+            LONG_LITTLE_ENDIAN.set(dest, offset, bits);
         }
-        return exponent;
+    }
+
+    /**
+     * Encodes a finite value of 128 bits from its coefficient (as upper and lower part) and exponent.
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param upper
+     *         Upper part of the coefficient ({@code coefficient / 10^18})
+     * @param lower
+     *         Lower part of the coefficient ({@code coefficient % 10^18})
+     * @param exponent
+     *         Exponent, already validated to fit the decimal format
+     * @return Bits of the encoded decimal ({@link UnsignedInt128#high} the most significant 64 bits)
+     */
+    UnsignedInt128 encodeFinite128(final int signum, final long upper, final long lower, final int exponent) {
+        final long signBit = signum == Signum.NEGATIVE ? Long.MIN_VALUE : 0L;
+        final int biasedExponent = decimalFormat.biasedExponent(exponent);
+        final int upperDigitGroups = decimalFormat.coefficientContinuationBits / BITS_PER_GROUP - LOWER_DIGIT_GROUPS;
+        final int mostSignificantDigit = (int) (upper / DIGIT_GROUP_FACTORS[upperDigitGroups]);
+        final long upperBits = DenselyPackedDecimalCodec.encodeDigitGroups(upper, upperDigitGroups);
+        final int exponentContinuationBits = decimalFormat.exponentContinuationBits;
+        final long highBits = signBit
+                | (long) combination(mostSignificantDigit, biasedExponent >>> exponentContinuationBits)
+                        << Long.SIZE - 1 - COMBINATION_BITS
+                | (long) (biasedExponent & ((1 << exponentContinuationBits) - 1))
+                        << decimalFormat.coefficientContinuationBits - Long.SIZE
+                | upperBits >>> Long.SIZE - LOWER_DIGIT_GROUP_BITS;
+        final long lowBits = upperBits << LOWER_DIGIT_GROUP_BITS
+                | DenselyPackedDecimalCodec.encodeDigitGroups(lower, LOWER_DIGIT_GROUPS);
+        return UnsignedInt128.valueOf(highBits, lowBits);
+    }
+
+    /**
+     * @param byteOrder
+     *         Byte order (not {@code null})
+     * @return {@code true} if {@code byteOrder} is big-endian
+     */
+    private static boolean isBigEndian(final ByteOrder byteOrder) {
+        return Objects.requireNonNull(byteOrder, "byteOrder") == ByteOrder.BIG_ENDIAN;
+    }
+
+    /**
+     * @param combination
+     *         Combination field (5 bits)
+     * @return Most significant bits (2) of the biased exponent encoded in the combination field
+     */
+    private static int exponentMSB(final int combination) {
+        return (combination & COMBINATION_2) != COMBINATION_2
+                ? combination >>> 3
+                : (combination >>> 1) & 0b011;
+    }
+
+    /**
+     * @param combination
+     *         Combination field (5 bits)
+     * @return First, most significant, digit of the coefficient encoded in the combination field
+     */
+    private static int firstDigit(final int combination) {
+        return (combination & COMBINATION_2) != COMBINATION_2
+                ? combination & 0b0111
+                : 0b01000 | (combination & 0b01);
+    }
+
+    /**
+     * @param mostSignificantDigit
+     *         First, most significant, digit of the coefficient
+     * @param exponentMSB
+     *         Most significant bits (2) of the biased exponent
+     * @return Combination field (5 bits)
+     */
+    private static int combination(final int mostSignificantDigit, final int exponentMSB) {
+        return mostSignificantDigit <= 7
+                ? exponentMSB << 3 | mostSignificantDigit
+                : COMBINATION_2 | exponentMSB << 1 | (mostSignificantDigit & 0b01);
     }
 
 }
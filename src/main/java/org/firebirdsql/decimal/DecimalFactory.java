@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -47,24 +47,50 @@ interface DecimalFactory<T> {
     T getSpecialConstant(int signum, DecimalType decimalType);
 
     /**
-     * Creates a decimal.
+     * Creates a decimal from its coefficient and exponent.
      * <p>
-     * The signum value must be consistent with the big decimal value. It is necessary to distinguish between
-     * {@code -0} and {@code +0} cases. Signum {@code 0} is allowed for zero cases and will be handled as {@code 1}.
+     * No rounding or validation is applied, the coefficient and exponent must already fit this decimal format.
      * </p>
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1}), also for zero to distinguish between {@code -0} and {@code +0}
+     * @param upper
+     *         Upper part of the coefficient ({@code coefficient / 10^18}), always {@code 0} for Decimal32 and
+     *         Decimal64
+     * @param lower
+     *         Lower part of the coefficient ({@code coefficient % 10^18})
+     * @param exponent
+     *         Exponent (the negated scale)
+     * @return Decimal with this value
+     */
+    T createDecimal(int signum, long upper, long lower, int exponent);
+
+    /**
+     * Creates a decimal from its IEEE-754 bits.
      * <p>
-     * No rounding or other measures for fitting the value will be applied, the provided big decimal value must already
-     * fulfill the requirements for this decimal format.
+     * No validation is applied, the bits must be a canonical encoding of a finite value (see
+     * {@link DecimalCodec#decodeBits(long)} and {@link DecimalCodec#decodeBits128(long, long)}).
      * </p>
      *
-     * @param signum
-     *         Signum ({@code -1} or {@code 1}), must be consistent with the big decimal (except for zero cases)
+     * @param highBits
+     *         Most significant 64 bits of a Decimal128, {@code 0} for smaller decimal formats
+     * @param lowBits
+     *         Least significant 64 bits of a Decimal128, or the bits of smaller decimal formats (right-aligned)
+     * @return Decimal with these bits
+     */
+    T fromBits(long highBits, long lowBits);
+
+    /**
+     * Creates a decimal from {@code value}, applying rounding where necessary.
+     *
      * @param value
      *         Big decimal value
-     * @return Decimal wrapper for this value.
+     * @param overflowHandling
+     *         Overflow handling to apply
+     * @return Decimal equivalent
      * @throws DecimalOverflowException
-     *         If the coefficient or exponent is out of range for this decimal type.
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
      */
-    T createDecimal(int signum, BigDecimal value);
+    T valueOf(BigDecimal value, OverflowHandling overflowHandling);
 
 }
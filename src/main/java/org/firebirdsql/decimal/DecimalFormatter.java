@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import static org.firebirdsql.decimal.DecimalParser.LOWER_DIGITS;
+
+/**
+ * Formats decimals directly from their coefficient and exponent as ASCII, without intermediate {@code BigDecimal}
+ * or {@code String}.
+ * <p>
+ * The scientific format is the <i>to-scientific-string</i> conversion of IEEE 754 (and the General Decimal
+ * Arithmetic specification), which is the same as {@link java.math.BigDecimal#toString()}. The plain format is the
+ * same as {@link java.math.BigDecimal#toPlainString()}.
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+final class DecimalFormatter {
+
+    /**
+     * Maximum length of the scientific format of a decimal: sign, 34 digits, decimal point and {@code E-6176}.
+     * Special values are shorter.
+     */
+    static final int MAX_SCIENTIFIC_LENGTH = 42;
+
+    /**
+     * Maximum number of digits of a coefficient (of Decimal128).
+     */
+    private static final int MAX_COEFFICIENT_DIGITS = DecimalFormat.Decimal128.coefficientDigits;
+
+    /**
+     * ASCII digits of the numbers {@code 00} to {@code 99}, {@code DIGIT_PAIRS[2 * n]} is the tens digit and
+     * {@code DIGIT_PAIRS[2 * n + 1]} is the units digit of {@code n}.
+     */
+    private static final byte[] DIGIT_PAIRS = new byte[200];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_PAIRS[2 * i] = (byte) ('0' + i / 10);
+            DIGIT_PAIRS[2 * i + 1] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private DecimalFormatter() {
+        // no instances
+    }
+
+    /**
+     * Formats a special value (infinity, NaN or signaling NaN).
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param decimalType
+     *         Decimal type, must not be {@link DecimalType#FINITE}
+     * @return String representation of the special value
+     */
+    static String formatSpecial(final int signum, final DecimalType decimalType) {
+        return switch (decimalType) {
+            case INFINITY -> signum == Signum.NEGATIVE ? "-Infinity" : "+Infinity";
+            case NAN -> signum == Signum.NEGATIVE ? "-NaN" : "+NaN";
+            case SIGNALING_NAN -> signum == Signum.NEGATIVE ? "-sNaN" : "+sNaN";
+            case FINITE -> throw new IllegalArgumentException("Decimal type FINITE is not a special value");
+        };
+    }
+
+    /**
+     * Length of a finite decimal in scientific format.
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param upper
+     *         Upper part of the coefficient ({@code coefficient / 10^18})
+     * @param lower
+     *         Lower part of the coefficient ({@code coefficient % 10^18})
+     * @param exponent
+     *         Exponent (the negated scale)
+     * @return Number of characters of the scientific format
+     */
+    static int scientificLength(final int signum, final long upper, final long lower, final int exponent) {
+        final int digits = DecimalParser.numberOfDigits(upper, lower);
+        final int adjustedExponent = exponent + digits - 1;
+        final int signLength = signum == Signum.NEGATIVE ? 1 : 0;
+        if (exponent <= 0 && adjustedExponent >= -6) {
+            if (exponent == 0) {
+                return signLength + digits;
+            }
+            // Digits, decimal point and leading zeroes (including the zero before the decimal point)
+            return signLength + Math.max(digits, 1 - exponent) + 1;
+        }
+        final int absoluteExponent = Math.abs(adjustedExponent);
+        final int exponentDigits = absoluteExponent < 10 ? 1 : absoluteExponent < 100 ? 2
+                : absoluteExponent < 1000 ? 3 : 4;
+        return signLength + digits + (digits == 1 ? 0 : 1) + 2 + exponentDigits;
+    }
+
+    /**
+     * Formats a finite decimal in scientific format as ASCII.
+     * <p>
+     * A negative zero is prefixed with {@code -}, unlike {@link java.math.BigDecimal#toString()}.
+     * </p>
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param upper
+     *         Upper part of the coefficient ({@code coefficient / 10^18})
+     * @param lower
+     *         Lower part of the coefficient ({@code coefficient % 10^18})
+     * @param exponent
+     *         Exponent (the negated scale)
+     * @param buf
+     *         Target buffer, with at least {@link #scientificLength(int, long, long, int)} bytes from {@code offset}
+     *         (at most {@link #MAX_SCIENTIFIC_LENGTH})
+     * @param offset
+     *         Offset in {@code buf}
+     * @return Position after the last byte written
+     */
+    static int formatScientific(final int signum, final long upper, final long lower, final int exponent,
+            final byte[] buf, final int offset) {
+        int pos = offset;
+        if (signum == Signum.NEGATIVE) {
+            buf[pos++] = '-';
+        }
+        final int digits = DecimalParser.numberOfDigits(upper, lower);
+        final int adjustedExponent = exponent + digits - 1;
+        if (exponent <= 0 && adjustedExponent >= -6) {
+            // Plain notation
+            if (exponent == 0) {
+                return writeCoefficient(upper, lower, buf, pos + digits);
+            }
+            final int integerDigits = digits + exponent;
+            if (integerDigits > 0) {
+                // Write digits shifted by one, and move the integer digits back to make room for the decimal point
+                final int end = writeCoefficient(upper, lower, buf, pos + 1 + digits);
+                System.arraycopy(buf, pos + 1, buf, pos, integerDigits);
+                buf[pos + integerDigits] = '.';
+                return end;
+            }
+            buf[pos++] = '0';
+            buf[pos++] = '.';
+            for (int i = integerDigits; i < 0; i++) {
+                buf[pos++] = '0';
+            }
+            return writeCoefficient(upper, lower, buf, pos + digits);
+        }
+        // Exponential notation
+        if (digits == 1) {
+            pos = writeCoefficient(upper, lower, buf, pos + 1);
+        } else {
+            pos = writeCoefficient(upper, lower, buf, pos + 1 + digits);
+            final int firstDigit = pos - digits;
+            buf[firstDigit - 1] = buf[firstDigit];
+            buf[firstDigit] = '.';
+        }
+        buf[pos++] = 'E';
+        buf[pos++] = (byte) (adjustedExponent < 0 ? '-' : '+');
+        return writeInt(Math.abs(adjustedExponent), buf, pos);
+    }
+
+    /**
+     * Formats a finite decimal in plain format (without exponent).
+     * <p>
+     * A negative zero is prefixed with {@code -}, unlike {@link java.math.BigDecimal#toPlainString()}.
+     * </p>
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param upper
+     *         Upper part of the coefficient ({@code coefficient / 10^18})
+     * @param lower
+     *         Lower part of the coefficient ({@code coefficient % 10^18})
+     * @param exponent
+     *         Exponent (the negated scale)
+     * @param sb
+     *         String builder to append to
+     * @return {@code sb}
+     */
+    static StringBuilder appendPlain(final int signum, final long upper, final long lower, final int exponent,
+            final StringBuilder sb) {
+        if (signum == Signum.NEGATIVE) {
+            sb.append('-');
+        }
+        final boolean zero = upper == 0 && lower == 0;
+        if (zero && exponent > 0) {
+            return sb.append('0');
+        }
+        final byte[] buf = new byte[MAX_COEFFICIENT_DIGITS];
+        final int digits = DecimalParser.numberOfDigits(upper, lower);
+        writeCoefficient(upper, lower, buf, digits);
+        if (exponent >= 0) {
+            appendAscii(buf, 0, digits, sb);
+            appendZeroes(exponent, sb);
+        } else {
+            final int integerDigits = digits + exponent;
+            if (integerDigits > 0) {
+                appendAscii(buf, 0, integerDigits, sb);
+                sb.append('.');
+                appendAscii(buf, integerDigits, digits, sb);
+            } else {
+                sb.append("0.");
+                appendZeroes(-integerDigits, sb);
+                appendAscii(buf, 0, digits, sb);
+            }
+        }
+        return sb;
+    }
+
+    /**
+     * Appends the ASCII bytes of {@code buf} from {@code start} (inclusive) to {@code end} (exclusive) to {@code sb}.
+     */
+    static void appendAscii(final byte[] buf, final int start, final int end, final StringBuilder sb) {
+        for (int i = start; i < end; i++) {
+            sb.append((char) buf[i]);
+        }
+    }
+
+    /**
+     * Writes the special value (see {@link #formatSpecial(int, DecimalType)}) as ASCII.
+     *
+     * @param special
+     *         String representation of the special value
+     * @param buf
+     *         Target buffer, with at least {@code special.length()} bytes from {@code offset}
+     * @param offset
+     *         Offset in {@code buf}
+     * @return Position after the last byte written
+     */
+    static int writeSpecial(final String special, final byte[] buf, final int offset) {
+        final int length = special.length();
+        for (int i = 0; i < length; i++) {
+            buf[offset + i] = (byte) special.charAt(i);
+        }
+        return offset + length;
+    }
+
+    private static void appendZeroes(final int count, final StringBuilder sb) {
+        sb.ensureCapacity(sb.length() + count);
+        for (int i = 0; i < count; i++) {
+            sb.append('0');
+        }
+    }
+
+    /**
+     * Writes the digits of the coefficient, ending just before {@code end}.
+     *
+     * @return {@code end}
+     */
+    private static int writeCoefficient(final long upper, final long lower, final byte[] buf, final int end) {
+        if (upper == 0) {
+            writeLong(lower, buf, end);
+        } else {
+            // Lower part with leading zeroes
+            int pos = end;
+            long value = lower;
+            for (int i = 0; i < LOWER_DIGITS / 2; i++) {
+                final long quotient = value / 100;
+                pos = writePair((int) (value - quotient * 100), buf, pos);
+                value = quotient;
+            }
+            writeLong(upper, buf, pos);
+        }
+        return end;
+    }
+
+    /**
+     * Writes the digits of the non-negative {@code value}, ending just before {@code end}.
+     */
+    private static void writeLong(long value, final byte[] buf, final int end) {
+        int pos = end;
+        while (value >= 100) {
+            final long quotient = value / 100;
+            pos = writePair((int) (value - quotient * 100), buf, pos);
+            value = quotient;
+        }
+        writeSmall((int) value, buf, pos - (value >= 10 ? 2 : 1));
+    }
+
+    /**
+     * Writes the digits of the non-negative {@code value} (at most {@code 9999}), starting at {@code pos}.
+     *
+     * @return Position after the last digit written
+     */
+    private static int writeInt(final int value, final byte[] buf, final int pos) {
+        if (value < 100) {
+            return writeSmall(value, buf, pos);
+        }
+        final int end = writeSmall(value / 100, buf, pos) + 2;
+        writePair(value % 100, buf, end);
+        return end;
+    }
+
+    /**
+     * Writes one or two digits of {@code value} (at most {@code 99}), starting at {@code pos}.
+     *
+     * @return Position after the last digit written
+     */
+    private static int writeSmall(final int value, final byte[] buf, final int pos) {
+        if (value < 10) {
+            buf[pos] = (byte) ('0' + value);
+            return pos + 1;
+        }
+        buf[pos] = DIGIT_PAIRS[2 * value];
+        buf[pos + 1] = DIGIT_PAIRS[2 * value + 1];
+        return pos + 2;
+    }
+
+    /**
+     * Writes the two digits of {@code pair} (at most {@code 99}), ending just before {@code end}.
+     *
+     * @return Position of the first digit written
+     */
+    private static int writePair(final int pair, final byte[] buf, final int end) {
+        buf[end - 2] = DIGIT_PAIRS[2 * pair];
+        buf[end - 1] = DIGIT_PAIRS[2 * pair + 1];
+        return end - 2;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -31,6 +31,10 @@ package org.firebirdsql.decimal;
  * This exception should not be thrown for cases where the target type supports NaN, but does not support
  * signalling NaN. In that situation, NaN should be returned.
  * </p>
+ * <p>
+ * This exception has no stack trace, unless system property {@code org.firebirdsql.decimal.exceptionStackTrace}
+ * is {@code true}. Use {@link Decimal#tryToBigDecimal()} to convert without an exception.
+ * </p>
  *
  * @author Mark Rotteveel
  */
@@ -45,6 +49,15 @@ public class DecimalInconvertibleException extends ArithmeticException {
         this.signum = signum;
     }
 
+    /**
+     * Fills in the stack trace only if enabled with system property
+     * {@code org.firebirdsql.decimal.exceptionStackTrace}.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ExceptionStackTraces.ENABLED ? super.fillInStackTrace() : this;
+    }
+
     /**
      * @return Decimal type of the value that could not be converted.
      */
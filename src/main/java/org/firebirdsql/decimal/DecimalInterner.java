@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.nio.ByteOrder;
+
+import static org.firebirdsql.decimal.ClockTable.WAYS;
+
+/**
+ * Bounded interning cache of decimals, keyed on their IEEE-754 bits.
+ * <p>
+ * Decoding through an interner returns a shared instance for encodings seen before, which avoids decoding (and the
+ * repeated conversion to {@code BigDecimal}, which is cached by the shared instance) for data with few distinct
+ * values, and reduces the retained heap when the decimals are kept.
+ * </p>
+ * <p>
+ * The interner is bounded and thread-safe, and evicts entries in approximately least recently used order.
+ * </p>
+ * <p>
+ * Use {@link Decimal32#newInterner(int)}, {@link Decimal64#newInterner(int)} or {@link Decimal128#newInterner(int)}
+ * to create an interner.
+ * </p>
+ *
+ * @param <T>
+ *         Decimal type
+ * @author Mark Rotteveel
+ */
+public final class DecimalInterner<T extends Decimal<T>> {
+
+    private final DecimalCodec<T> codec;
+    private final DecimalFormat decimalFormat;
+    private final ClockTable<Entry<T>> table;
+
+    DecimalInterner(final DecimalCodec<T> codec, final DecimalFormat decimalFormat, final int maximumSize) {
+        table = new ClockTable<>(maximumSize);
+        this.codec = codec;
+        this.decimalFormat = decimalFormat;
+    }
+
+    /**
+     * Parse an IEEE-754 decimal format (in network byte-order) to a decimal.
+     * <p>
+     * Behaves like {@code parseBytes(byte[])} of the decimal type, but returns the interned instance if these bytes
+     * were parsed or interned before.
+     * </p>
+     *
+     * @param decBytes
+     *         byte representation
+     * @return Decoded decimal
+     * @throws IllegalArgumentException
+     *         If the byte array has the wrong length for the decimal type of this interner
+     */
+    public T parseBytes(final byte[] decBytes) {
+        decimalFormat.validateByteLength(decBytes);
+        return codec.parseBytes(decBytes, 0, ByteOrder.BIG_ENDIAN, this);
+    }
+
+    /**
+     * Parse an IEEE-754 decimal format in the specified byte order to a decimal, reading from {@code src} starting at
+     * {@code offset}.
+     * <p>
+     * Behaves like {@code parseBytes(byte[], int, ByteOrder)} of the decimal type, but returns the interned instance
+     * if these bytes were parsed or interned before.
+     * </p>
+     *
+     * @param src
+     *         byte array containing the byte representation
+     * @param offset
+     *         offset of the first byte of the byte representation
+     * @param byteOrder
+     *         byte order of the byte representation
+     * @return Decoded decimal
+     * @throws IndexOutOfBoundsException
+     *         If {@code src} does not have the byte length of the decimal format at {@code offset}
+     */
+    public T parseBytes(final byte[] src, final int offset, final ByteOrder byteOrder) {
+        return codec.parseBytes(src, offset, byteOrder, this);
+    }
+
+    /**
+     * Returns the interned instance equal to {@code decimal}, interning {@code decimal} if there is none.
+     *
+     * @param decimal
+     *         Decimal
+     * @return Interned instance equal to {@code decimal}, or {@code decimal} itself
+     */
+    public T intern(final T decimal) {
+        final long highBits = decimal.highBits();
+        final long lowBits = decimal.lowBits();
+        final T interned = get(highBits, lowBits);
+        if (interned != null) {
+            return interned;
+        }
+        put(highBits, lowBits, decimal);
+        return decimal;
+    }
+
+    /**
+     * @return Maximum number of interned decimals ({@code maximumSize} rounded up to a power of two, and at least
+     * {@code 8})
+     */
+    public int maximumSize() {
+        return table.maximumSize();
+    }
+
+    /**
+     * @return Number of lookups that returned an interned instance
+     */
+    public long hitCount() {
+        return table.hitCount();
+    }
+
+    /**
+     * @return Number of lookups that did not find an interned instance
+     */
+    public long missCount() {
+        return table.missCount();
+    }
+
+    /**
+     * @return Ratio of lookups that returned an interned instance, or {@code 0.0} if nothing was looked up yet
+     */
+    public double hitRate() {
+        return table.hitRate();
+    }
+
+    /**
+     * Looks up the decimal with these (raw) bits, and counts the lookup as a hit or a miss.
+     *
+     * @param highBits
+     *         Most significant 64 bits of a Decimal128, {@code 0} for smaller decimal formats
+     * @param lowBits
+     *         Least significant 64 bits of a Decimal128, or the bits of smaller decimal formats (right-aligned)
+     * @return Interned decimal, or {@code null} if not interned
+     */
+    @Nullable T get(final long highBits, final long lowBits) {
+        final int set = table.set(DecimalCache.bitsHash(highBits, lowBits));
+        for (int way = 0; way < WAYS; way++) {
+            final Entry<T> entry = table.get(set, way);
+            if (entry != null && entry.lowBits == lowBits && entry.highBits == highBits) {
+                return table.hit(entry).decimal;
+            }
+        }
+        table.miss();
+        return null;
+    }
+
+    /**
+     * Interns a decimal under these (raw) bits, evicting an entry of its set if the set is full.
+     *
+     * @param highBits
+     *         Most significant 64 bits of a Decimal128, {@code 0} for smaller decimal formats
+     * @param lowBits
+     *         Least significant 64 bits of a Decimal128, or the bits of smaller decimal formats (right-aligned)
+     * @param decimal
+     *         Decimal decoded from these bits
+     */
+    void put(final long highBits, final long lowBits, final T decimal) {
+        table.put(table.set(DecimalCache.bitsHash(highBits, lowBits)), new Entry<>(highBits, lowBits, decimal));
+    }
+
+    private static final class Entry<T> extends ClockTable.Entry {
+
+        private final long highBits;
+        private final long lowBits;
+        private final T decimal;
+
+        private Entry(final long highBits, final long lowBits, final T decimal) {
+            this.highBits = highBits;
+            this.lowBits = lowBits;
+            this.decimal = decimal;
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2023 Firebird development team and individual contributors
+ * Copyright (c) 2017-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -23,6 +23,10 @@ package org.firebirdsql.decimal;
 
 /**
  * Exception thrown to indicate a coefficient or exponent overflow or underflow.
+ * <p>
+ * This exception has no stack trace, unless system property {@code org.firebirdsql.decimal.exceptionStackTrace}
+ * is {@code true}. Use the {@code tryValueOf} methods of the decimal types to detect overflow without an exception.
+ * </p>
  *
  * @author Mark Rotteveel
  */
@@ -32,4 +36,13 @@ public final class DecimalOverflowException extends ArithmeticException {
         super(message);
     }
 
+    /**
+     * Fills in the stack trace only if enabled with system property
+     * {@code org.firebirdsql.decimal.exceptionStackTrace}.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return ExceptionStackTraces.ENABLED ? super.fillInStackTrace() : this;
+    }
+
 }
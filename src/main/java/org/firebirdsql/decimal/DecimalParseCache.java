@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.firebirdsql.decimal.Decimal.AbstractDecimalFactory;
+
+import static org.firebirdsql.decimal.ClockTable.WAYS;
+
+/**
+ * Bounded cache of parsed decimals, keyed on their string representation.
+ * <p>
+ * Parsing through a cache returns the decimal of an earlier parse of an equal string (with the same overflow
+ * handling), which avoids parsing the same literals repeatedly. Strings that fail to parse are not cached.
+ * </p>
+ * <p>
+ * The cache is bounded and thread-safe, and evicts entries in approximately least recently used order.
+ * </p>
+ * <p>
+ * Use {@link Decimal32#newParseCache(int)}, {@link Decimal64#newParseCache(int)} or
+ * {@link Decimal128#newParseCache(int)} to create a cache.
+ * </p>
+ *
+ * @param <T>
+ *         Decimal type
+ * @author Mark Rotteveel
+ */
+public final class DecimalParseCache<T extends Decimal<T>> {
+
+    private final AbstractDecimalFactory<T> decimalFactory;
+    private final ClockTable<Entry<T>> table;
+
+    DecimalParseCache(final AbstractDecimalFactory<T> decimalFactory, final int maximumSize) {
+        table = new ClockTable<>(maximumSize);
+        this.decimalFactory = decimalFactory;
+    }
+
+    /**
+     * Creates a decimal from {@code value}, applying rounding where necessary.
+     * <p>
+     * Behaves like {@code valueOf(String)} of the decimal type, but returns the cached decimal if an equal string was
+     * parsed before.
+     * </p>
+     *
+     * @param value
+     *         String value to convert
+     * @return Decimal equivalent
+     * @throws NumberFormatException
+     *         If the provided string is not valid numeric string.
+     */
+    public T valueOf(final String value) {
+        return valueOf(value, OverflowHandling.ROUND_TO_INFINITY);
+    }
+
+    /**
+     * Creates a decimal from {@code value}, applying rounding where necessary.
+     * <p>
+     * Behaves like {@code valueOf(String, OverflowHandling)} of the decimal type, but returns the cached decimal if an
+     * equal string was parsed before with the same overflow handling.
+     * </p>
+     *
+     * @param value
+     *         String value to convert
+     * @param overflowHandling
+     *         Overflow handling to apply
+     * @return Decimal equivalent
+     * @throws NumberFormatException
+     *         If the provided string is not valid numeric string.
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range.
+     */
+    public T valueOf(final String value, final OverflowHandling overflowHandling) {
+        final int hash = value.hashCode();
+        final int set = table.set(hash * 0x9E37_79B9);
+        for (int way = 0; way < WAYS; way++) {
+            final Entry<T> entry = table.get(set, way);
+            if (entry != null && entry.hash == hash && entry.overflowHandling == overflowHandling
+                    && entry.value.equals(value)) {
+                return table.hit(entry).decimal;
+            }
+        }
+        table.miss();
+        final T decimal = decimalFactory.valueOf(value, overflowHandling);
+        table.put(set, new Entry<>(hash, value, overflowHandling, decimal));
+        return decimal;
+    }
+
+    /**
+     * @return Maximum number of cached decimals ({@code maximumSize} rounded up to a power of two, and at least
+     * {@code 8})
+     */
+    public int maximumSize() {
+        return table.maximumSize();
+    }
+
+    /**
+     * @return Number of parses that returned a cached decimal
+     */
+    public long hitCount() {
+        return table.hitCount();
+    }
+
+    /**
+     * @return Number of parses that did not find a cached decimal (including parses that failed)
+     */
+    public long missCount() {
+        return table.missCount();
+    }
+
+    /**
+     * @return Ratio of parses that returned a cached decimal, or {@code 0.0} if nothing was parsed yet
+     */
+    public double hitRate() {
+        return table.hitRate();
+    }
+
+    private static final class Entry<T> extends ClockTable.Entry {
+
+        private final int hash;
+        private final String value;
+        private final OverflowHandling overflowHandling;
+        private final T decimal;
+
+        private Entry(final int hash, final String value, final OverflowHandling overflowHandling,
+                final T decimal) {
+            this.hash = hash;
+            this.value = value;
+            this.overflowHandling = overflowHandling;
+            this.decimal = decimal;
+        }
+
+    }
+
+}
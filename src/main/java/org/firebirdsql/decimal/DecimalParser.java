@@ -0,0 +1,640 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+import static org.firebirdsql.decimal.UnsignedInt128.TEN_POW_18;
+
+/**
+ * Parses decimal strings directly to the coefficient and exponent of a decimal format.
+ * <p>
+ * The accepted syntax is that of {@link java.math.BigDecimal#BigDecimal(String)}. The string is scanned in a single
+ * pass, keeping at most the number of coefficient digits of the decimal format, and the value is rounded half-even
+ * once to fit both the precision and the exponent range of the decimal format. No {@code BigDecimal} or
+ * {@code BigInteger} is created.
+ * </p>
+ * <p>
+ * The coefficient is held in two parts: {@code upper} ({@code coefficient / 10^18}, always {@code 0} for Decimal32 and
+ * Decimal64) and {@code lower} ({@code coefficient % 10^18}).
+ * </p>
+ * <p>
+ * ASCII bytes are parsed eight digits at a time where possible, using SWAR (SIMD within a register) operations on a
+ * {@code long}.
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+final class DecimalParser {
+
+    /**
+     * Powers of ten which fit in a long, {@code POWERS_OF_TEN[n] == 10^n}.
+     */
+    static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+            10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+            100_000_000_000_000_000L, TEN_POW_18 };
+
+    /**
+     * Number of digits in the lower part of the coefficient.
+     */
+    static final int LOWER_DIGITS = 18;
+    /**
+     * More exponent digits (excluding leading zeroes) than this are rejected, as in {@code BigDecimal}.
+     */
+    private static final int MAX_EXPONENT_DIGITS = 10;
+
+    private static final VarHandle LONG_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ASCII_ZEROES = 0x3030_3030_3030_3030L;
+    private static final long HIGH_NIBBLES = 0xF0F0_F0F0_F0F0_F0F0L;
+
+    private DecimalParser() {
+        // no instances
+    }
+
+    /**
+     * Parses {@code value} from {@code start} (inclusive) to {@code end} (exclusive) to a finite decimal.
+     * <p>
+     * The range must not be a special value (infinity or NaN), these must be handled by the caller.
+     * </p>
+     *
+     * @param decimalFactory
+     *         Decimal factory of the target decimal type
+     * @param value
+     *         Character sequence with the decimal string
+     * @param start
+     *         Start of the decimal string in {@code value} (inclusive), bounds already checked
+     * @param end
+     *         End of the decimal string in {@code value} (exclusive), bounds already checked
+     * @param overflowHandling
+     *         Handling of overflows
+     * @return Decimal, or +/-Infinity for overflow with {@link OverflowHandling#ROUND_TO_INFINITY}
+     * @throws NumberFormatException
+     *         If the range is not a valid decimal string
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range
+     */
+    static <T extends Decimal<T>> T parse(final DecimalFactory<T> decimalFactory, final CharSequence value,
+            final int start, final int end, final OverflowHandling overflowHandling) {
+        final int coefficientDigits = decimalFactory.getDecimalFormat().coefficientDigits;
+        int position = start;
+        int signum = Signum.POSITIVE;
+        if (position < end) {
+            final char signChar = value.charAt(position);
+            if (signChar == '-') {
+                signum = Signum.NEGATIVE;
+                position++;
+            } else if (signChar == '+') {
+                position++;
+            }
+        }
+
+        // The first 18 significant digits go in head, the remaining kept digits (at most 16) in tail
+        long head = 0;
+        long tail = 0;
+        int tailDigits = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        int roundingDigit = 0;
+        boolean sticky = false;
+        boolean digitSeen = false;
+        boolean pointSeen = false;
+        for (; position < end; position++) {
+            final char c = value.charAt(position);
+            final int digit = toDigit(c);
+            if (digit >= 0) {
+                digitSeen = true;
+                if (pointSeen) {
+                    fractionDigits++;
+                }
+                if (significantDigits == 0 && digit == 0) {
+                    // leading zero
+                    continue;
+                }
+                if (significantDigits < coefficientDigits) {
+                    if (significantDigits < LOWER_DIGITS) {
+                        head = head * 10 + digit;
+                    } else {
+                        tail = tail * 10 + digit;
+                        tailDigits++;
+                    }
+                } else if (significantDigits == coefficientDigits) {
+                    roundingDigit = digit;
+                } else {
+                    sticky |= digit != 0;
+                }
+                significantDigits++;
+            } else if (c == '.' && !pointSeen) {
+                pointSeen = true;
+            } else if ((c == 'e' || c == 'E') && digitSeen) {
+                break;
+            } else {
+                throw invalidValue(value, start, end);
+            }
+        }
+        if (!digitSeen) {
+            throw invalidValue(value, start, end);
+        }
+        final long exponent = position < end ? parseExponent(value, start, position + 1, end) : 0;
+        // Same limit as BigDecimal
+        final long scale = fractionDigits - exponent;
+        if (scale != (int) scale) {
+            throw new NumberFormatException("Scale out of range: " + value.subSequence(start, end));
+        }
+        return toDecimal(decimalFactory, signum, head, tail, tailDigits, significantDigits, scale, roundingDigit,
+                sticky, overflowHandling);
+    }
+
+    /**
+     * Parses the ASCII bytes of {@code ascii} from {@code offset} to {@code offset + length} to a finite decimal.
+     * <p>
+     * Same as {@link #parse(DecimalFactory, CharSequence, int, int, OverflowHandling)}, except that only ASCII digits
+     * are accepted. Runs of eight digits are converted at once using SWAR operations.
+     * </p>
+     *
+     * @param decimalFactory
+     *         Decimal factory of the target decimal type
+     * @param ascii
+     *         Byte array with the ASCII decimal string
+     * @param offset
+     *         Start of the decimal string in {@code ascii}, bounds already checked
+     * @param length
+     *         Length of the decimal string in bytes, bounds already checked
+     * @param overflowHandling
+     *         Handling of overflows
+     * @return Decimal, or +/-Infinity for overflow with {@link OverflowHandling#ROUND_TO_INFINITY}
+     * @throws NumberFormatException
+     *         If the range is not a valid decimal string
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range
+     */
+    static <T extends Decimal<T>> T parseAscii(final DecimalFactory<T> decimalFactory, final byte[] ascii,
+            final int offset, final int length, final OverflowHandling overflowHandling) {
+        final int coefficientDigits = decimalFactory.getDecimalFormat().coefficientDigits;
+        final int headLimit = Math.min(LOWER_DIGITS, coefficientDigits);
+        final int end = offset + length;
+        int position = offset;
+        int signum = Signum.POSITIVE;
+        if (position < end) {
+            final byte signChar = ascii[position];
+            if (signChar == '-') {
+                signum = Signum.NEGATIVE;
+                position++;
+            } else if (signChar == '+') {
+                position++;
+            }
+        }
+
+        // Same state as in parse(...)
+        long head = 0;
+        long tail = 0;
+        int tailDigits = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        int roundingDigit = 0;
+        boolean sticky = false;
+        boolean digitSeen = false;
+        boolean pointSeen = false;
+        while (position < end) {
+            if (end - position >= Long.BYTES) {
+                final long word = (long) LONG_LITTLE_ENDIAN.get(ascii, position);
+                if (isEightDigits(word)) {
+                    final int block = eightDigits(word);
+                    boolean consumed = true;
+                    if (significantDigits == 0) {
+                        // Leading zeroes of the block are not significant
+                        final int blockDigits = block == 0 ? 0 : numberOfDigits(block);
+                        if (blockDigits <= headLimit) {
+                            head = block;
+                            significantDigits = blockDigits;
+                        } else {
+                            consumed = false;
+                        }
+                    } else if (significantDigits + 8 <= headLimit) {
+                        head = head * 100_000_000L + block;
+                        significantDigits += 8;
+                    } else if (significantDigits >= LOWER_DIGITS && significantDigits + 8 <= coefficientDigits) {
+                        tail = tail * 100_000_000L + block;
+                        tailDigits += 8;
+                        significantDigits += 8;
+                    } else if (significantDigits > coefficientDigits) {
+                        sticky |= block != 0;
+                        significantDigits += 8;
+                    } else {
+                        consumed = false;
+                    }
+                    if (consumed) {
+                        digitSeen = true;
+                        if (pointSeen) {
+                            fractionDigits += 8;
+                        }
+                        position += 8;
+                        continue;
+                    }
+                }
+            }
+            final int c = ascii[position];
+            final int digit = c - '0';
+            if (digit >= 0 && digit <= 9) {
+                digitSeen = true;
+                if (pointSeen) {
+                    fractionDigits++;
+                }
+                if (significantDigits != 0 || digit != 0) {
+                    if (significantDigits < coefficientDigits) {
+                        if (significantDigits < LOWER_DIGITS) {
+                            head = head * 10 + digit;
+                        } else {
+                            tail = tail * 10 + digit;
+                            tailDigits++;
+                        }
+                    } else if (significantDigits == coefficientDigits) {
+                        roundingDigit = digit;
+                    } else {
+                        sticky |= digit != 0;
+                    }
+                    significantDigits++;
+                }
+            } else if (c == '.' && !pointSeen) {
+                pointSeen = true;
+            } else if ((c == 'e' || c == 'E') && digitSeen) {
+                break;
+            } else {
+                throw invalidValue(ascii, offset, length);
+            }
+            position++;
+        }
+        if (!digitSeen) {
+            throw invalidValue(ascii, offset, length);
+        }
+        final long exponent = position < end ? parseExponent(ascii, offset, length, position + 1) : 0;
+        // Same limit as BigDecimal
+        final long scale = fractionDigits - exponent;
+        if (scale != (int) scale) {
+            throw new NumberFormatException("Scale out of range: " + asciiString(ascii, offset, length));
+        }
+        return toDecimal(decimalFactory, signum, head, tail, tailDigits, significantDigits, scale, roundingDigit,
+                sticky, overflowHandling);
+    }
+
+    /**
+     * Combines the parsed digits to the coefficient, and rounds it to create the decimal.
+     */
+    private static <T extends Decimal<T>> T toDecimal(final DecimalFactory<T> decimalFactory, final int signum,
+            final long head, final long tail, final int tailDigits, final int significantDigits, final long scale,
+            final int roundingDigit, final boolean sticky, final OverflowHandling overflowHandling) {
+        final int coefficientDigits = decimalFactory.getDecimalFormat().coefficientDigits;
+        final long upper;
+        final long lower;
+        if (tailDigits == 0) {
+            upper = 0;
+            lower = head;
+        } else {
+            // coefficient is head * 10^tailDigits + tail
+            final long headDivisor = POWERS_OF_TEN[LOWER_DIGITS - tailDigits];
+            upper = head / headDivisor;
+            lower = (head - upper * headDivisor) * POWERS_OF_TEN[tailDigits] + tail;
+        }
+        final int droppedDigits = Math.max(0, significantDigits - coefficientDigits);
+        return round(decimalFactory, signum, upper, lower, droppedDigits - scale, roundingDigit, sticky,
+                overflowHandling);
+    }
+
+    /**
+     * Parses the exponent after the exponent character.
+     *
+     * @param value
+     *         Character sequence with the decimal string
+     * @param start
+     *         Start of the decimal string (for error messages)
+     * @param exponentStart
+     *         Position after the exponent character
+     * @param end
+     *         End of the decimal string (exclusive)
+     * @return Exponent
+     * @throws NumberFormatException
+     *         If the exponent is missing, invalid or too large
+     */
+    private static long parseExponent(final CharSequence value, final int start, final int exponentStart,
+            final int end) {
+        int position = exponentStart;
+        boolean negative = false;
+        if (position < end) {
+            final char signChar = value.charAt(position);
+            if (signChar == '-') {
+                negative = true;
+                position++;
+            } else if (signChar == '+') {
+                position++;
+            }
+        }
+        if (position == end) {
+            throw invalidValue(value, start, end);
+        }
+        long exponent = 0;
+        int exponentDigits = 0;
+        for (; position < end; position++) {
+            final int digit = toDigit(value.charAt(position));
+            if (digit < 0) {
+                throw invalidValue(value, start, end);
+            }
+            if (exponent != 0 || digit != 0) {
+                if (++exponentDigits > MAX_EXPONENT_DIGITS) {
+                    throw new NumberFormatException(
+                            "Too many nonzero exponent digits: " + value.subSequence(start, end));
+                }
+                exponent = exponent * 10 + digit;
+            }
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * Parses the exponent after the exponent character in ASCII bytes.
+     *
+     * @param ascii
+     *         Byte array with the ASCII decimal string
+     * @param offset
+     *         Start of the decimal string (for error messages)
+     * @param length
+     *         Length of the decimal string
+     * @param exponentStart
+     *         Position after the exponent character
+     * @return Exponent
+     * @throws NumberFormatException
+     *         If the exponent is missing, invalid or too large
+     */
+    private static long parseExponent(final byte[] ascii, final int offset, final int length,
+            final int exponentStart) {
+        final int end = offset + length;
+        int position = exponentStart;
+        boolean negative = false;
+        if (position < end) {
+            final byte signChar = ascii[position];
+            if (signChar == '-') {
+                negative = true;
+                position++;
+            } else if (signChar == '+') {
+                position++;
+            }
+        }
+        if (position == end) {
+            throw invalidValue(ascii, offset, length);
+        }
+        long exponent = 0;
+        int exponentDigits = 0;
+        for (; position < end; position++) {
+            final int digit = ascii[position] - '0';
+            if (digit < 0 || digit > 9) {
+                throw invalidValue(ascii, offset, length);
+            }
+            if (exponent != 0 || digit != 0) {
+                if (++exponentDigits > MAX_EXPONENT_DIGITS) {
+                    throw new NumberFormatException(
+                            "Too many nonzero exponent digits: " + asciiString(ascii, offset, length));
+                }
+                exponent = exponent * 10 + digit;
+            }
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    /**
+     * Rounds a parsed value half-even to fit the precision and exponent range of the decimal format, and creates the
+     * decimal.
+     * <p>
+     * Rounding is applied once, for the digits beyond the precision of the decimal format and the digits below its
+     * minimum exponent together. A value exceeding the maximum exponent is padded with zeroes if the coefficient has
+     * room for them, otherwise it overflows.
+     * </p>
+     *
+     * @param decimalFactory
+     *         Decimal factory of the target decimal type
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param upper
+     *         Upper part of the coefficient, at most the coefficient digits of the decimal format
+     * @param lower
+     *         Lower part of the coefficient
+     * @param exponent
+     *         Exponent of the coefficient
+     * @param roundingDigit
+     *         First digit dropped after the coefficient ({@code 0} if none)
+     * @param sticky
+     *         {@code true} if any non-zero digit was dropped after {@code roundingDigit}
+     * @param overflowHandling
+     *         Handling of overflows
+     * @return Decimal, or +/-Infinity for overflow with {@link OverflowHandling#ROUND_TO_INFINITY}
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range
+     */
+    static <T extends Decimal<T>> T round(final DecimalFactory<T> decimalFactory, final int signum,
+            final long upper, final long lower, final long exponent, final int roundingDigit, final boolean sticky,
+            final OverflowHandling overflowHandling) {
+        return round(decimalFactory, signum, upper, lower, exponent, roundingDigit, sticky, 0, overflowHandling);
+    }
+
+    /**
+     * Rounds a coefficient of up to 36 digits half-even to fit the precision and exponent range of the decimal
+     * format, and creates the decimal.
+     * <p>
+     * Same as {@link #round(DecimalFactory, int, long, long, long, int, boolean, OverflowHandling)}, but the
+     * coefficient may exceed the precision of the decimal format.
+     * </p>
+     *
+     * @param decimalFactory
+     *         Decimal factory of the target decimal type
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param upper
+     *         Upper part of the coefficient ({@code coefficient / 10^18}, less than {@code 10^18})
+     * @param lower
+     *         Lower part of the coefficient ({@code coefficient % 10^18})
+     * @param exponent
+     *         Exponent of the coefficient
+     * @param sticky
+     *         {@code true} if any non-zero digit was dropped after the coefficient, only allowed if the coefficient
+     *         exceeds the precision of the decimal format
+     * @param overflowHandling
+     *         Handling of overflows
+     * @return Decimal, or +/-Infinity for overflow with {@link OverflowHandling#ROUND_TO_INFINITY}
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range
+     */
+    static <T extends Decimal<T>> T roundCoefficient(final DecimalFactory<T> decimalFactory, final int signum,
+            final long upper, final long lower, final long exponent, final boolean sticky,
+            final OverflowHandling overflowHandling) {
+        final int excessDigits =
+                numberOfDigits(upper, lower) - decimalFactory.getDecimalFormat().coefficientDigits;
+        return round(decimalFactory, signum, upper, lower, exponent, 0, sticky, excessDigits, overflowHandling);
+    }
+
+    private static <T extends Decimal<T>> T round(final DecimalFactory<T> decimalFactory, final int signum,
+            long upper, long lower, long exponent, int roundingDigit, boolean sticky, final int excessDigits,
+            final OverflowHandling overflowHandling) {
+        final DecimalFormat decimalFormat = decimalFactory.getDecimalFormat();
+        final long shift = Math.max(decimalFormat.unbiasedExponent(0) - exponent, excessDigits);
+        if (shift > 0) {
+            // Drop the digits beyond the precision, or more digits to reach the minimum exponent
+            sticky |= roundingDigit != 0;
+            if (shift <= LOWER_DIGITS) {
+                final int digits = (int) shift;
+                final long divisor = POWERS_OF_TEN[digits];
+                final long remainder = lower % divisor;
+                lower = lower / divisor + upper % divisor * POWERS_OF_TEN[LOWER_DIGITS - digits];
+                upper = upper / divisor;
+                roundingDigit = (int) (remainder / POWERS_OF_TEN[digits - 1]);
+                sticky |= remainder % POWERS_OF_TEN[digits - 1] != 0;
+            } else if (shift <= 2 * LOWER_DIGITS) {
+                final int upperDigits = (int) shift - LOWER_DIGITS;
+                final long remainder = upper % POWERS_OF_TEN[upperDigits];
+                roundingDigit = (int) (remainder / POWERS_OF_TEN[upperDigits - 1]);
+                sticky |= remainder % POWERS_OF_TEN[upperDigits - 1] != 0 || lower != 0;
+                lower = upper / POWERS_OF_TEN[upperDigits];
+                upper = 0;
+            } else {
+                roundingDigit = 0;
+                sticky |= upper != 0 || lower != 0;
+                lower = 0;
+                upper = 0;
+            }
+            exponent += shift;
+        }
+
+        if (roundingDigit > 5 || roundingDigit == 5 && (sticky || (lower & 1) != 0)) {
+            if (++lower == TEN_POW_18) {
+                lower = 0;
+                upper++;
+            }
+            // Rounding 99..9 up adds a digit
+            final int coefficientDigits = decimalFormat.coefficientDigits;
+            if (coefficientDigits > LOWER_DIGITS
+                    ? upper == POWERS_OF_TEN[coefficientDigits - LOWER_DIGITS]
+                    : lower == POWERS_OF_TEN[coefficientDigits]) {
+                if (coefficientDigits > LOWER_DIGITS) {
+                    upper = POWERS_OF_TEN[coefficientDigits - LOWER_DIGITS - 1];
+                } else {
+                    lower = POWERS_OF_TEN[coefficientDigits - 1];
+                }
+                exponent++;
+            }
+        }
+
+        final int maxExponent = decimalFormat.unbiasedExponent(decimalFormat.eLimit);
+        if (exponent > maxExponent) {
+            if (upper == 0 && lower == 0) {
+                exponent = maxExponent;
+            } else {
+                final long padding = exponent - maxExponent;
+                if (numberOfDigits(upper, lower) + padding > decimalFormat.coefficientDigits) {
+                    if (overflowHandling == OverflowHandling.ROUND_TO_INFINITY) {
+                        return decimalFactory.getSpecialConstant(signum, DecimalType.INFINITY);
+                    }
+                    throw new DecimalOverflowException("The scale " + -exponent + " is out of range for this type");
+                }
+                // Pad with zeroes to reach the maximum exponent (coefficient has at most 33 digits)
+                final int digits = (int) padding;
+                if (digits < LOWER_DIGITS) {
+                    final long lowerDivisor = POWERS_OF_TEN[LOWER_DIGITS - digits];
+                    final long carry = lower / lowerDivisor;
+                    lower = (lower - carry * lowerDivisor) * POWERS_OF_TEN[digits];
+                    upper = upper * POWERS_OF_TEN[digits] + carry;
+                } else {
+                    // coefficient has at most 16 digits, so upper is zero
+                    upper = lower * POWERS_OF_TEN[digits - LOWER_DIGITS];
+                    lower = 0;
+                }
+                exponent = maxExponent;
+            }
+        }
+        return decimalFactory.createDecimal(signum, upper, lower, (int) exponent);
+    }
+
+    /**
+     * @param c
+     *         Character
+     * @return Decimal value of the digit {@code c}, or {@code -1} if {@code c} is not a digit
+     */
+    private static int toDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        // Same as BigDecimal, which accepts all Unicode digits
+        return c > 0x7F ? Character.digit(c, 10) : -1;
+    }
+
+    /**
+     * @return Number of digits of the coefficient ({@code 1} for zero)
+     */
+    static int numberOfDigits(final long upper, final long lower) {
+        return upper != 0 ? LOWER_DIGITS + numberOfDigits(upper) : numberOfDigits(lower);
+    }
+
+    private static int numberOfDigits(final long value) {
+        int digits = 1;
+        while (digits < LOWER_DIGITS && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * @param word
+     *         Eight bytes read little-endian
+     * @return {@code true} if all eight bytes are ASCII digits
+     */
+    private static boolean isEightDigits(final long word) {
+        // High nibble must be 3, and adding 6 must not carry out of the low nibble (i.e. low nibble at most 9)
+        return ((word & HIGH_NIBBLES) | ((word + 0x0606_0606_0606_0606L) & HIGH_NIBBLES) >>> 4)
+                == 0x3333_3333_3333_3333L;
+    }
+
+    /**
+     * @param word
+     *         Eight ASCII digits read little-endian (first digit in the least significant byte)
+     * @return Value of the eight digits
+     */
+    private static int eightDigits(long word) {
+        word -= ASCII_ZEROES;
+        // Combine pairs of digits, then pairs of pairs
+        word = word * 10 + (word >>> 8);
+        return (int) (((word & 0x0000_00FF_0000_00FFL) * (100 + (1_000_000L << 32))
+                + ((word >>> 16) & 0x0000_00FF_0000_00FFL) * (1 + (10_000L << 32))) >>> 32);
+    }
+
+    private static NumberFormatException invalidValue(final CharSequence value, final int start, final int end) {
+        return new NumberFormatException("Invalid decimal value: " + value.subSequence(start, end));
+    }
+
+    private static NumberFormatException invalidValue(final byte[] ascii, final int offset, final int length) {
+        return new NumberFormatException("Invalid decimal value: " + asciiString(ascii, offset, length));
+    }
+
+    private static String asciiString(final byte[] ascii, final int offset, final int length) {
+        return new String(ascii, offset, length, StandardCharsets.US_ASCII);
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import java.math.BigInteger;
+
+import static org.firebirdsql.decimal.DecimalParser.LOWER_DIGITS;
+import static org.firebirdsql.decimal.DecimalParser.POWERS_OF_TEN;
+import static org.firebirdsql.decimal.UnsignedInt128.multiplyHighUnsigned;
+
+/**
+ * Converts the coefficient and exponent of decimals to the nearest double, without intermediate {@code BigDecimal}.
+ * <p>
+ * Small coefficients with small exponents are converted exactly with floating point arithmetic (Clinger's fast
+ * path), others with the Eisel-Lemire algorithm (see Daniel Lemire, <i>Number Parsing at a Gigabyte per
+ * Second</i>, and Noble Mushtak and Daniel Lemire, <i>Fast Number Parsing Without Fallback</i>). Only when the
+ * coefficient has more than 19 digits and its truncation is ambiguous, the caller has to fall back to
+ * {@code BigDecimal}.
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+final class DecimalToDouble {
+
+    private static final int SMALLEST_POWER_OF_TEN = -342;
+    private static final int LARGEST_POWER_OF_TEN = 308;
+    private static final int MANTISSA_EXPLICIT_BITS = 52;
+    private static final int MINIMUM_EXPONENT = -1023;
+    private static final int INFINITE_POWER = 0x7FF;
+    private static final int MIN_EXPONENT_ROUND_TO_EVEN = -4;
+    private static final int MAX_EXPONENT_ROUND_TO_EVEN = 23;
+    /**
+     * Largest exponent for which {@code 10^exponent} is exactly representable as a double.
+     */
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+    private static final long MAX_EXACT_COEFFICIENT = 1L << MANTISSA_EXPLICIT_BITS + 1;
+    /**
+     * Number of decimal digits which always fit in an unsigned long.
+     */
+    private static final int MAX_DIGITS = 19;
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    /**
+     * 128-bit approximations of {@code 5^q} for {@code q} from {@link #SMALLEST_POWER_OF_TEN} to
+     * {@link #LARGEST_POWER_OF_TEN}, normalized to have the most significant bit set; the upper 64 bits at index
+     * {@code 2 * (q - SMALLEST_POWER_OF_TEN)} and the lower 64 bits at the next index.
+     * <p>
+     * For {@code q >= 0} this is {@code 5^q} truncated, for {@code q < 0} this is {@code floor(2^b / 5^-q) + 1} with
+     * {@code b} as in the table generation of the paper (and the fast_float library).
+     * </p>
+     */
+    private static final long[] POWERS_OF_FIVE = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+
+    static {
+        final BigInteger five = BigInteger.valueOf(5);
+        // Negative q: floor(2^b / 5^-q), computed as floor(floor(2^m / 5^-q) / 2^(m - b)), with floor(2^m / 5^-q)
+        // computed incrementally by dividing by 5 (as floor(floor(x) / 5) == floor(x / 5))
+        BigInteger powerOfFive = BigInteger.ONE;
+        final int m = 2 * five.pow(-SMALLEST_POWER_OF_TEN).bitLength() + 128;
+        BigInteger scaledInverse = BigInteger.ONE.shiftLeft(m);
+        for (int q = -1; q >= SMALLEST_POWER_OF_TEN; q--) {
+            powerOfFive = powerOfFive.multiply(five);
+            scaledInverse = scaledInverse.divide(five);
+            // 5^-q is not a power of two, so its bit length is the smallest z with 2^z >= 5^-q
+            final int z = powerOfFive.bitLength();
+            final int b = q >= -27 ? z + 127 : 2 * z + 128;
+            setPowerOfFive(q, normalize(scaledInverse.shiftRight(m - b).add(BigInteger.ONE)));
+        }
+        powerOfFive = BigInteger.ONE;
+        for (int q = 0; q <= LARGEST_POWER_OF_TEN; q++) {
+            setPowerOfFive(q, normalize(powerOfFive));
+            powerOfFive = powerOfFive.multiply(five);
+        }
+    }
+
+    private static BigInteger normalize(final BigInteger value) {
+        final int bitLength = value.bitLength();
+        return bitLength > 128 ? value.shiftRight(bitLength - 128) : value.shiftLeft(128 - bitLength);
+    }
+
+    private static void setPowerOfFive(final int q, final BigInteger value) {
+        POWERS_OF_FIVE[2 * (q - SMALLEST_POWER_OF_TEN)] = value.shiftRight(64).longValue();
+        POWERS_OF_FIVE[2 * (q - SMALLEST_POWER_OF_TEN) + 1] = value.longValue();
+    }
+
+    private DecimalToDouble() {
+        // no instances
+    }
+
+    /**
+     * Converts a finite decimal to the nearest double (rounding half-even).
+     * <p>
+     * As with {@code BigDecimal}, a zero is converted to positive {@code 0.0}, irrespective of its sign.
+     * </p>
+     *
+     * @param signum
+     *         Signum ({@code -1} or {@code 1})
+     * @param upper
+     *         Upper part of the coefficient ({@code coefficient / 10^18})
+     * @param lower
+     *         Lower part of the coefficient ({@code coefficient % 10^18})
+     * @param exponent
+     *         Exponent (the negated scale)
+     * @return Nearest double, or {@code NaN} if this could not be determined, and the caller needs to fall back to
+     * {@code BigDecimal.doubleValue()}
+     */
+    static double toDouble(final int signum, final long upper, final long lower, final int exponent) {
+        if (upper == 0 && lower == 0) {
+            return 0.0;
+        }
+        final double magnitude;
+        if (upper < 10) {
+            // At most 19 digits, exact as unsigned long (upper * 10^18 + lower < 10^19 < 2^64)
+            magnitude = toDouble(upper * POWERS_OF_TEN[LOWER_DIGITS] + lower, exponent);
+        } else {
+            // Truncate to 19 digits; the result is exact if truncated and truncated + 1 give the same result
+            final int droppedDigits = DecimalParser.numberOfDigits(upper, lower) - MAX_DIGITS;
+            final long truncated = upper * POWERS_OF_TEN[LOWER_DIGITS - droppedDigits]
+                    + lower / POWERS_OF_TEN[droppedDigits];
+            final long bits = eiselLemire(truncated, exponent + droppedDigits);
+            if (bits != eiselLemire(truncated + 1, exponent + droppedDigits)) {
+                return Double.NaN;
+            }
+            magnitude = Double.longBitsToDouble(bits);
+        }
+        return signum == Signum.NEGATIVE ? -magnitude : magnitude;
+    }
+
+    /**
+     * @param w
+     *         Non-zero coefficient (unsigned)
+     * @param q
+     *         Exponent
+     * @return Nearest double of {@code w 10^q}
+     */
+    private static double toDouble(long w, int q) {
+        if (0 < w && w <= MAX_EXACT_COEFFICIENT) {
+            if (q > MAX_EXACT_POWER_OF_TEN && q <= MAX_EXACT_POWER_OF_TEN + 15) {
+                // Move part of the exponent to the coefficient if it stays exact
+                final long factor = POWERS_OF_TEN[q - MAX_EXACT_POWER_OF_TEN];
+                if (w <= MAX_EXACT_COEFFICIENT / factor) {
+                    w *= factor;
+                    q = MAX_EXACT_POWER_OF_TEN;
+                }
+            }
+            // Clinger's fast path: both operands are exact, so the result is correctly rounded
+            if (0 <= q && q <= MAX_EXACT_POWER_OF_TEN) {
+                return w * DOUBLE_POWERS_OF_TEN[q];
+            } else if (-MAX_EXACT_POWER_OF_TEN <= q && q < 0) {
+                return w / DOUBLE_POWERS_OF_TEN[-q];
+            }
+        }
+        return Double.longBitsToDouble(eiselLemire(w, q));
+    }
+
+    /**
+     * Computes the nearest double of {@code w 10^q} with the Eisel-Lemire algorithm.
+     *
+     * @param w
+     *         Non-zero coefficient (unsigned)
+     * @param q
+     *         Exponent
+     * @return Bits of the nearest (positive) double
+     */
+    private static long eiselLemire(long w, final int q) {
+        if (q < SMALLEST_POWER_OF_TEN) {
+            return 0L;
+        } else if (q > LARGEST_POWER_OF_TEN) {
+            return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+        final int leadingZeroes = Long.numberOfLeadingZeros(w);
+        w <<= leadingZeroes;
+
+        // 128-bit product of w and the upper 64 bits of 5^q, only refined with the lower 64 bits when needed
+        final int index = 2 * (q - SMALLEST_POWER_OF_TEN);
+        final long powerHigh = POWERS_OF_FIVE[index];
+        long productHigh = multiplyHighUnsigned(w, powerHigh);
+        long productLow = w * powerHigh;
+        final long precisionMask = -1L >>> MANTISSA_EXPLICIT_BITS + 3;
+        if ((productHigh & precisionMask) == precisionMask) {
+            final long secondHigh = multiplyHighUnsigned(w, POWERS_OF_FIVE[index + 1]);
+            productLow += secondHigh;
+            if (Long.compareUnsigned(secondHigh, productLow) > 0) {
+                productHigh++;
+            }
+        }
+
+        final int upperBit = (int) (productHigh >>> 63);
+        final int shift = upperBit + 64 - MANTISSA_EXPLICIT_BITS - 3;
+        long mantissa = productHigh >>> shift;
+        // floor(q log2(10)) + 63, for the power of two part of 10^q
+        int power2 = ((152_170 + 65_536) * q >> 16) + 63 + upperBit - leadingZeroes - MINIMUM_EXPONENT;
+        if (power2 <= 0) {
+            // subnormal
+            if (-power2 + 1 >= 64) {
+                return 0L;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            // Rounding up can make it the smallest normal value
+            power2 = mantissa < 1L << MANTISSA_EXPLICIT_BITS ? 0 : 1;
+            return (long) power2 << MANTISSA_EXPLICIT_BITS | mantissa;
+        }
+        if (Long.compareUnsigned(productLow, 1) <= 0 && q >= MIN_EXPONENT_ROUND_TO_EVEN
+                && q <= MAX_EXPONENT_ROUND_TO_EVEN && (mantissa & 3) == 1 && mantissa << shift == productHigh) {
+            // Exactly halfway between two doubles: do not round up to odd
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= 2L << MANTISSA_EXPLICIT_BITS) {
+            mantissa = 1L << MANTISSA_EXPLICIT_BITS;
+            power2++;
+        }
+        mantissa &= ~(1L << MANTISSA_EXPLICIT_BITS);
+        if (power2 >= INFINITE_POWER) {
+            return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+        return (long) power2 << MANTISSA_EXPLICIT_BITS | mantissa;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -22,7 +22,6 @@
 package org.firebirdsql.decimal;
 
 import java.math.BigInteger;
-import java.util.Arrays;
 
 /**
  * Provides conversion between Densely Packed Decimal encoding and {@link java.math.BigInteger}.
@@ -52,141 +51,30 @@ public final class DenselyPackedDecimalCodec {
     static final int DIGITS_PER_GROUP = 3;
     static final int BITS_PER_GROUP = 10;
     private static final int BITS_PER_BYTE = 8;
+    private static final int DIGIT_GROUP_MASK = 0x3FF;
+    /**
+     * Maximum number of digit groups (plus the first digit) that can be decoded to a {@code long} in all cases.
+     */
+    private static final int MAX_LONG_DIGIT_GROUPS = 5;
+    /**
+     * Maximum number of digit groups (plus the first digit) that can be decoded to an {@link UnsignedInt128}, as an
+     * upper part of at most {@link #MAX_LONG_DIGIT_GROUPS} digit groups and a lower part of
+     * {@link #LOWER_DIGIT_GROUPS} digit groups.
+     */
+    private static final int MAX_UNSIGNED_INT128_DIGIT_GROUPS = 11;
+    /**
+     * Number of digit groups in the lower part ({@code 10^18}) of an {@link UnsignedInt128}.
+     */
+    static final int LOWER_DIGIT_GROUPS = 6;
+    static final int LOWER_DIGIT_GROUP_BITS = LOWER_DIGIT_GROUPS * BITS_PER_GROUP;
     private static final BigInteger ONE_THOUSAND = BigInteger.valueOf(1000);
+    /**
+     * Powers of one thousand, indexed by number of digit groups.
+     */
+    static final long[] DIGIT_GROUP_FACTORS = { 1L, 1_000L, 1_000_000L, 1_000_000_000L, 1_000_000_000_000L,
+            1_000_000_000_000_000L, 1_000_000_000_000_000_000L };
 
     //@formatter:off
-    // Generated using org.firebirdsql.decimal.generator.GenerateLookupTable
-    private static final char[] DPD_GROUP_BITS_2_DIGITS = (
-            "000" + "001" + "002" + "003" + "004" + "005" + "006" + "007" +
-            "008" + "009" + "080" + "081" + "800" + "801" + "880" + "881" +
-            "010" + "011" + "012" + "013" + "014" + "015" + "016" + "017" +
-            "018" + "019" + "090" + "091" + "810" + "811" + "890" + "891" +
-            "020" + "021" + "022" + "023" + "024" + "025" + "026" + "027" +
-            "028" + "029" + "082" + "083" + "820" + "821" + "808" + "809" +
-            "030" + "031" + "032" + "033" + "034" + "035" + "036" + "037" +
-            "038" + "039" + "092" + "093" + "830" + "831" + "818" + "819" +
-            "040" + "041" + "042" + "043" + "044" + "045" + "046" + "047" +
-            "048" + "049" + "084" + "085" + "840" + "841" + "088" + "089" +
-            "050" + "051" + "052" + "053" + "054" + "055" + "056" + "057" +
-            "058" + "059" + "094" + "095" + "850" + "851" + "098" + "099" +
-            "060" + "061" + "062" + "063" + "064" + "065" + "066" + "067" +
-            "068" + "069" + "086" + "087" + "860" + "861" + "888" + "889" +
-            "070" + "071" + "072" + "073" + "074" + "075" + "076" + "077" +
-            "078" + "079" + "096" + "097" + "870" + "871" + "898" + "899" +
-            "100" + "101" + "102" + "103" + "104" + "105" + "106" + "107" +
-            "108" + "109" + "180" + "181" + "900" + "901" + "980" + "981" +
-            "110" + "111" + "112" + "113" + "114" + "115" + "116" + "117" +
-            "118" + "119" + "190" + "191" + "910" + "911" + "990" + "991" +
-            "120" + "121" + "122" + "123" + "124" + "125" + "126" + "127" +
-            "128" + "129" + "182" + "183" + "920" + "921" + "908" + "909" +
-            "130" + "131" + "132" + "133" + "134" + "135" + "136" + "137" +
-            "138" + "139" + "192" + "193" + "930" + "931" + "918" + "919" +
-            "140" + "141" + "142" + "143" + "144" + "145" + "146" + "147" +
-            "148" + "149" + "184" + "185" + "940" + "941" + "188" + "189" +
-            "150" + "151" + "152" + "153" + "154" + "155" + "156" + "157" +
-            "158" + "159" + "194" + "195" + "950" + "951" + "198" + "199" +
-            "160" + "161" + "162" + "163" + "164" + "165" + "166" + "167" +
-            "168" + "169" + "186" + "187" + "960" + "961" + "988" + "989" +
-            "170" + "171" + "172" + "173" + "174" + "175" + "176" + "177" +
-            "178" + "179" + "196" + "197" + "970" + "971" + "998" + "999" +
-            "200" + "201" + "202" + "203" + "204" + "205" + "206" + "207" +
-            "208" + "209" + "280" + "281" + "802" + "803" + "882" + "883" +
-            "210" + "211" + "212" + "213" + "214" + "215" + "216" + "217" +
-            "218" + "219" + "290" + "291" + "812" + "813" + "892" + "893" +
-            "220" + "221" + "222" + "223" + "224" + "225" + "226" + "227" +
-            "228" + "229" + "282" + "283" + "822" + "823" + "828" + "829" +
-            "230" + "231" + "232" + "233" + "234" + "235" + "236" + "237" +
-            "238" + "239" + "292" + "293" + "832" + "833" + "838" + "839" +
-            "240" + "241" + "242" + "243" + "244" + "245" + "246" + "247" +
-            "248" + "249" + "284" + "285" + "842" + "843" + "288" + "289" +
-            "250" + "251" + "252" + "253" + "254" + "255" + "256" + "257" +
-            "258" + "259" + "294" + "295" + "852" + "853" + "298" + "299" +
-            "260" + "261" + "262" + "263" + "264" + "265" + "266" + "267" +
-            "268" + "269" + "286" + "287" + "862" + "863" + "888" + "889" +
-            "270" + "271" + "272" + "273" + "274" + "275" + "276" + "277" +
-            "278" + "279" + "296" + "297" + "872" + "873" + "898" + "899" +
-            "300" + "301" + "302" + "303" + "304" + "305" + "306" + "307" +
-            "308" + "309" + "380" + "381" + "902" + "903" + "982" + "983" +
-            "310" + "311" + "312" + "313" + "314" + "315" + "316" + "317" +
-            "318" + "319" + "390" + "391" + "912" + "913" + "992" + "993" +
-            "320" + "321" + "322" + "323" + "324" + "325" + "326" + "327" +
-            "328" + "329" + "382" + "383" + "922" + "923" + "928" + "929" +
-            "330" + "331" + "332" + "333" + "334" + "335" + "336" + "337" +
-            "338" + "339" + "392" + "393" + "932" + "933" + "938" + "939" +
-            "340" + "341" + "342" + "343" + "344" + "345" + "346" + "347" +
-            "348" + "349" + "384" + "385" + "942" + "943" + "388" + "389" +
-            "350" + "351" + "352" + "353" + "354" + "355" + "356" + "357" +
-            "358" + "359" + "394" + "395" + "952" + "953" + "398" + "399" +
-            "360" + "361" + "362" + "363" + "364" + "365" + "366" + "367" +
-            "368" + "369" + "386" + "387" + "962" + "963" + "988" + "989" +
-            "370" + "371" + "372" + "373" + "374" + "375" + "376" + "377" +
-            "378" + "379" + "396" + "397" + "972" + "973" + "998" + "999" +
-            "400" + "401" + "402" + "403" + "404" + "405" + "406" + "407" +
-            "408" + "409" + "480" + "481" + "804" + "805" + "884" + "885" +
-            "410" + "411" + "412" + "413" + "414" + "415" + "416" + "417" +
-            "418" + "419" + "490" + "491" + "814" + "815" + "894" + "895" +
-            "420" + "421" + "422" + "423" + "424" + "425" + "426" + "427" +
-            "428" + "429" + "482" + "483" + "824" + "825" + "848" + "849" +
-            "430" + "431" + "432" + "433" + "434" + "435" + "436" + "437" +
-            "438" + "439" + "492" + "493" + "834" + "835" + "858" + "859" +
-            "440" + "441" + "442" + "443" + "444" + "445" + "446" + "447" +
-            "448" + "449" + "484" + "485" + "844" + "845" + "488" + "489" +
-            "450" + "451" + "452" + "453" + "454" + "455" + "456" + "457" +
-            "458" + "459" + "494" + "495" + "854" + "855" + "498" + "499" +
-            "460" + "461" + "462" + "463" + "464" + "465" + "466" + "467" +
-            "468" + "469" + "486" + "487" + "864" + "865" + "888" + "889" +
-            "470" + "471" + "472" + "473" + "474" + "475" + "476" + "477" +
-            "478" + "479" + "496" + "497" + "874" + "875" + "898" + "899" +
-            "500" + "501" + "502" + "503" + "504" + "505" + "506" + "507" +
-            "508" + "509" + "580" + "581" + "904" + "905" + "984" + "985" +
-            "510" + "511" + "512" + "513" + "514" + "515" + "516" + "517" +
-            "518" + "519" + "590" + "591" + "914" + "915" + "994" + "995" +
-            "520" + "521" + "522" + "523" + "524" + "525" + "526" + "527" +
-            "528" + "529" + "582" + "583" + "924" + "925" + "948" + "949" +
-            "530" + "531" + "532" + "533" + "534" + "535" + "536" + "537" +
-            "538" + "539" + "592" + "593" + "934" + "935" + "958" + "959" +
-            "540" + "541" + "542" + "543" + "544" + "545" + "546" + "547" +
-            "548" + "549" + "584" + "585" + "944" + "945" + "588" + "589" +
-            "550" + "551" + "552" + "553" + "554" + "555" + "556" + "557" +
-            "558" + "559" + "594" + "595" + "954" + "955" + "598" + "599" +
-            "560" + "561" + "562" + "563" + "564" + "565" + "566" + "567" +
-            "568" + "569" + "586" + "587" + "964" + "965" + "988" + "989" +
-            "570" + "571" + "572" + "573" + "574" + "575" + "576" + "577" +
-            "578" + "579" + "596" + "597" + "974" + "975" + "998" + "999" +
-            "600" + "601" + "602" + "603" + "604" + "605" + "606" + "607" +
-            "608" + "609" + "680" + "681" + "806" + "807" + "886" + "887" +
-            "610" + "611" + "612" + "613" + "614" + "615" + "616" + "617" +
-            "618" + "619" + "690" + "691" + "816" + "817" + "896" + "897" +
-            "620" + "621" + "622" + "623" + "624" + "625" + "626" + "627" +
-            "628" + "629" + "682" + "683" + "826" + "827" + "868" + "869" +
-            "630" + "631" + "632" + "633" + "634" + "635" + "636" + "637" +
-            "638" + "639" + "692" + "693" + "836" + "837" + "878" + "879" +
-            "640" + "641" + "642" + "643" + "644" + "645" + "646" + "647" +
-            "648" + "649" + "684" + "685" + "846" + "847" + "688" + "689" +
-            "650" + "651" + "652" + "653" + "654" + "655" + "656" + "657" +
-            "658" + "659" + "694" + "695" + "856" + "857" + "698" + "699" +
-            "660" + "661" + "662" + "663" + "664" + "665" + "666" + "667" +
-            "668" + "669" + "686" + "687" + "866" + "867" + "888" + "889" +
-            "670" + "671" + "672" + "673" + "674" + "675" + "676" + "677" +
-            "678" + "679" + "696" + "697" + "876" + "877" + "898" + "899" +
-            "700" + "701" + "702" + "703" + "704" + "705" + "706" + "707" +
-            "708" + "709" + "780" + "781" + "906" + "907" + "986" + "987" +
-            "710" + "711" + "712" + "713" + "714" + "715" + "716" + "717" +
-            "718" + "719" + "790" + "791" + "916" + "917" + "996" + "997" +
-            "720" + "721" + "722" + "723" + "724" + "725" + "726" + "727" +
-            "728" + "729" + "782" + "783" + "926" + "927" + "968" + "969" +
-            "730" + "731" + "732" + "733" + "734" + "735" + "736" + "737" +
-            "738" + "739" + "792" + "793" + "936" + "937" + "978" + "979" +
-            "740" + "741" + "742" + "743" + "744" + "745" + "746" + "747" +
-            "748" + "749" + "784" + "785" + "946" + "947" + "788" + "789" +
-            "750" + "751" + "752" + "753" + "754" + "755" + "756" + "757" +
-            "758" + "759" + "794" + "795" + "956" + "957" + "798" + "799" +
-            "760" + "761" + "762" + "763" + "764" + "765" + "766" + "767" +
-            "768" + "769" + "786" + "787" + "966" + "967" + "988" + "989" +
-            "770" + "771" + "772" + "773" + "774" + "775" + "776" + "777" +
-            "778" + "779" + "796" + "797" + "976" + "977" + "998" + "999"
-    ).toCharArray();
-
     // from ICU decNumber decDPD.h
     private static final int[] BIN_2_DPD = {0,    1,    2,    3,    4,    5,    6,    7,
             8,      9,   16,   17,   18,   19,   20,   21,   22,   23,   24,   25,   32,
@@ -266,9 +154,90 @@ public final class DenselyPackedDecimalCodec {
             252,  253,  508,  509,  764,  765, 1020, 1021,  958,  959,  142,  143,  398,
             399,  654,  655,  910,  911,  238,  239,  158,  159,  414,  415,  670,  671,
             926,  927,  254,  255};
+
+    // from ICU decNumber decDPD.h
+    private static final int[] DPD_2_BIN = {0,    1,    2,    3,    4,    5,    6,    7,
+              8,    9,   80,   81,  800,  801,  880,  881,   10,   11,   12,   13,   14,
+             15,   16,   17,   18,   19,   90,   91,  810,  811,  890,  891,   20,   21,
+             22,   23,   24,   25,   26,   27,   28,   29,   82,   83,  820,  821,  808,
+            809,   30,   31,   32,   33,   34,   35,   36,   37,   38,   39,   92,   93,
+            830,  831,  818,  819,   40,   41,   42,   43,   44,   45,   46,   47,   48,
+             49,   84,   85,  840,  841,   88,   89,   50,   51,   52,   53,   54,   55,
+             56,   57,   58,   59,   94,   95,  850,  851,   98,   99,   60,   61,   62,
+             63,   64,   65,   66,   67,   68,   69,   86,   87,  860,  861,  888,  889,
+             70,   71,   72,   73,   74,   75,   76,   77,   78,   79,   96,   97,  870,
+            871,  898,  899,  100,  101,  102,  103,  104,  105,  106,  107,  108,  109,
+            180,  181,  900,  901,  980,  981,  110,  111,  112,  113,  114,  115,  116,
+            117,  118,  119,  190,  191,  910,  911,  990,  991,  120,  121,  122,  123,
+            124,  125,  126,  127,  128,  129,  182,  183,  920,  921,  908,  909,  130,
+            131,  132,  133,  134,  135,  136,  137,  138,  139,  192,  193,  930,  931,
+            918,  919,  140,  141,  142,  143,  144,  145,  146,  147,  148,  149,  184,
+            185,  940,  941,  188,  189,  150,  151,  152,  153,  154,  155,  156,  157,
+            158,  159,  194,  195,  950,  951,  198,  199,  160,  161,  162,  163,  164,
+            165,  166,  167,  168,  169,  186,  187,  960,  961,  988,  989,  170,  171,
+            172,  173,  174,  175,  176,  177,  178,  179,  196,  197,  970,  971,  998,
+            999,  200,  201,  202,  203,  204,  205,  206,  207,  208,  209,  280,  281,
+            802,  803,  882,  883,  210,  211,  212,  213,  214,  215,  216,  217,  218,
+            219,  290,  291,  812,  813,  892,  893,  220,  221,  222,  223,  224,  225,
+            226,  227,  228,  229,  282,  283,  822,  823,  828,  829,  230,  231,  232,
+            233,  234,  235,  236,  237,  238,  239,  292,  293,  832,  833,  838,  839,
+            240,  241,  242,  243,  244,  245,  246,  247,  248,  249,  284,  285,  842,
+            843,  288,  289,  250,  251,  252,  253,  254,  255,  256,  257,  258,  259,
+            294,  295,  852,  853,  298,  299,  260,  261,  262,  263,  264,  265,  266,
+            267,  268,  269,  286,  287,  862,  863,  888,  889,  270,  271,  272,  273,
+            274,  275,  276,  277,  278,  279,  296,  297,  872,  873,  898,  899,  300,
+            301,  302,  303,  304,  305,  306,  307,  308,  309,  380,  381,  902,  903,
+            982,  983,  310,  311,  312,  313,  314,  315,  316,  317,  318,  319,  390,
+            391,  912,  913,  992,  993,  320,  321,  322,  323,  324,  325,  326,  327,
+            328,  329,  382,  383,  922,  923,  928,  929,  330,  331,  332,  333,  334,
+            335,  336,  337,  338,  339,  392,  393,  932,  933,  938,  939,  340,  341,
+            342,  343,  344,  345,  346,  347,  348,  349,  384,  385,  942,  943,  388,
+            389,  350,  351,  352,  353,  354,  355,  356,  357,  358,  359,  394,  395,
+            952,  953,  398,  399,  360,  361,  362,  363,  364,  365,  366,  367,  368,
+            369,  386,  387,  962,  963,  988,  989,  370,  371,  372,  373,  374,  375,
+            376,  377,  378,  379,  396,  397,  972,  973,  998,  999,  400,  401,  402,
+            403,  404,  405,  406,  407,  408,  409,  480,  481,  804,  805,  884,  885,
+            410,  411,  412,  413,  414,  415,  416,  417,  418,  419,  490,  491,  814,
+            815,  894,  895,  420,  421,  422,  423,  424,  425,  426,  427,  428,  429,
+            482,  483,  824,  825,  848,  849,  430,  431,  432,  433,  434,  435,  436,
+            437,  438,  439,  492,  493,  834,  835,  858,  859,  440,  441,  442,  443,
+            444,  445,  446,  447,  448,  449,  484,  485,  844,  845,  488,  489,  450,
+            451,  452,  453,  454,  455,  456,  457,  458,  459,  494,  495,  854,  855,
+            498,  499,  460,  461,  462,  463,  464,  465,  466,  467,  468,  469,  486,
+            487,  864,  865,  888,  889,  470,  471,  472,  473,  474,  475,  476,  477,
+            478,  479,  496,  497,  874,  875,  898,  899,  500,  501,  502,  503,  504,
+            505,  506,  507,  508,  509,  580,  581,  904,  905,  984,  985,  510,  511,
+            512,  513,  514,  515,  516,  517,  518,  519,  590,  591,  914,  915,  994,
+            995,  520,  521,  522,  523,  524,  525,  526,  527,  528,  529,  582,  583,
+            924,  925,  948,  949,  530,  531,  532,  533,  534,  535,  536,  537,  538,
+            539,  592,  593,  934,  935,  958,  959,  540,  541,  542,  543,  544,  545,
+            546,  547,  548,  549,  584,  585,  944,  945,  588,  589,  550,  551,  552,
+            553,  554,  555,  556,  557,  558,  559,  594,  595,  954,  955,  598,  599,
+            560,  561,  562,  563,  564,  565,  566,  567,  568,  569,  586,  587,  964,
+            965,  988,  989,  570,  571,  572,  573,  574,  575,  576,  577,  578,  579,
+            596,  597,  974,  975,  998,  999,  600,  601,  602,  603,  604,  605,  606,
+            607,  608,  609,  680,  681,  806,  807,  886,  887,  610,  611,  612,  613,
+            614,  615,  616,  617,  618,  619,  690,  691,  816,  817,  896,  897,  620,
+            621,  622,  623,  624,  625,  626,  627,  628,  629,  682,  683,  826,  827,
+            868,  869,  630,  631,  632,  633,  634,  635,  636,  637,  638,  639,  692,
+            693,  836,  837,  878,  879,  640,  641,  642,  643,  644,  645,  646,  647,
+            648,  649,  684,  685,  846,  847,  688,  689,  650,  651,  652,  653,  654,
+            655,  656,  657,  658,  659,  694,  695,  856,  857,  698,  699,  660,  661,
+            662,  663,  664,  665,  666,  667,  668,  669,  686,  687,  866,  867,  888,
+            889,  670,  671,  672,  673,  674,  675,  676,  677,  678,  679,  696,  697,
+            876,  877,  898,  899,  700,  701,  702,  703,  704,  705,  706,  707,  708,
+            709,  780,  781,  906,  907,  986,  987,  710,  711,  712,  713,  714,  715,
+            716,  717,  718,  719,  790,  791,  916,  917,  996,  997,  720,  721,  722,
+            723,  724,  725,  726,  727,  728,  729,  782,  783,  926,  927,  968,  969,
+            730,  731,  732,  733,  734,  735,  736,  737,  738,  739,  792,  793,  936,
+            937,  978,  979,  740,  741,  742,  743,  744,  745,  746,  747,  748,  749,
+            784,  785,  946,  947,  788,  789,  750,  751,  752,  753,  754,  755,  756,
+            757,  758,  759,  794,  795,  956,  957,  798,  799,  760,  761,  762,  763,
+            764,  765,  766,  767,  768,  769,  786,  787,  966,  967,  988,  989,  770,
+            771,  772,  773,  774,  775,  776,  777,  778,  779,  796,  797,  976,  977,
+            998,  999};
     //@formatter:on
 
-    private final int numberOfDigits;
     private final int digitGroups;
 
     /**
@@ -288,7 +257,6 @@ public final class DenselyPackedDecimalCodec {
             throw new IllegalArgumentException(
                     "numberOfDigits must be of form n * 3 + 1 with n > 0, was " + numberOfDigits);
         }
-        this.numberOfDigits = numberOfDigits;
         digitGroups = numberOfDigits / DIGITS_PER_GROUP;
     }
 
@@ -395,33 +363,132 @@ public final class DenselyPackedDecimalCodec {
         return encodeValue0(value.abs(), decBytes, lsbIndex);
     }
 
-    private BigInteger decodeValue0(final int signum, final int firstDigit, final byte[] decBytes, final int lsbIndex) {
-        final char[] digitChars = createZeroedCharArray();
-        for (int digitGroup = 0; digitGroup < digitGroups; digitGroup++) {
-            // Each digit group is 10 bits in two bytes in the array as [.., second, first, ..],
-            // moving to the left for next digit groups. If there are unconsumed bits in the second byte,
-            // the second byte becomes the first byte of the next group.
-            final int digitBitsFromEnd = digitGroup * BITS_PER_GROUP;
-            final int firstByteBitOffset = digitBitsFromEnd % BITS_PER_BYTE;
-            final int firstByteIndex = lsbIndex - digitBitsFromEnd / BITS_PER_BYTE;
+    /**
+     * Decodes the densely packed decimal in the {@code digitGroups * 10} least significant bits of {@code dpdBits}
+     * to its binary value.
+     * <p>
+     * The caller is responsible for ensuring the value fits in a {@code long}, so {@code digitGroups} must be at most
+     * {@code 6}, and if it is {@code 6}, {@code firstDigit} must be at most {@code 8}.
+     * </p>
+     *
+     * @param firstDigit
+     *         First, most significant, digit ({@code 0 <= firstDigit <= 9})
+     * @param dpdBits
+     *         Densely packed decimal bits, with the least significant digit group in the least significant bits
+     * @param digitGroups
+     *         Number of digit groups (declets) to decode
+     * @return Decoded value ({@code firstDigit * 1000^digitGroups + value of the digit groups})
+     */
+    static long decodeDigitGroups(final int firstDigit, final long dpdBits, final int digitGroups) {
+        long value = firstDigit;
+        for (int shift = (digitGroups - 1) * BITS_PER_GROUP; shift >= 0; shift -= BITS_PER_GROUP) {
+            value = value * 1000 + DPD_2_BIN[(int) (dpdBits >>> shift) & DIGIT_GROUP_MASK];
+        }
+        return value;
+    }
 
-            int dpdGroupBits = 0x3FF & (
-                    (decBytes[firstByteIndex] & 0xFF) >>> firstByteBitOffset
-                            | decBytes[firstByteIndex - 1] << BITS_PER_BYTE - firstByteBitOffset);
+    /**
+     * Encodes the {@code digitGroups} least significant digit groups of {@code value} to densely packed decimal.
+     * <p>
+     * Digits of {@code value} beyond the requested digit groups are not encoded, the caller is responsible for
+     * handling those (e.g. the most significant digit of a decimal).
+     * </p>
+     *
+     * @param value
+     *         Value to encode ({@code value >= 0})
+     * @param digitGroups
+     *         Number of digit groups (declets) to encode ({@code digitGroups <= 6})
+     * @return Densely packed decimal bits, with the least significant digit group in the least significant bits
+     */
+    static long encodeDigitGroups(final long value, final int digitGroups) {
+        long remainingValue = value;
+        long dpdBits = 0;
+        for (int shift = 0; shift < digitGroups * BITS_PER_GROUP; shift += BITS_PER_GROUP) {
+            final long nextValue = remainingValue / 1000;
+            dpdBits |= (long) BIN_2_DPD[(int) (remainingValue - nextValue * 1000)] << shift;
+            remainingValue = nextValue;
+        }
+        return dpdBits;
+    }
 
-            if (dpdGroupBits != 0) {
-                System.arraycopy(DPD_GROUP_BITS_2_DIGITS, dpdGroupBits * DIGITS_PER_GROUP,
-                        digitChars, digitChars.length - (digitGroup + 1) * DIGITS_PER_GROUP, DIGITS_PER_GROUP);
+    /**
+     * Replaces non-canonical digit groups in densely packed decimal bits with their canonical encoding.
+     * <p>
+     * Of the 1024 bit patterns of a digit group, 24 are non-canonical: they decode to a value with only digits 8 and
+     * 9, which encodes to a different bit pattern. Decoders must accept non-canonical digit groups, but encoders
+     * never produce them.
+     * </p>
+     *
+     * @param dpdBits
+     *         Densely packed decimal bits, with the least significant digit group in the least significant bits
+     * @param digitGroups
+     *         Number of digit groups (declets) to canonicalize ({@code digitGroups <= 6})
+     * @return {@code dpdBits} with all non-canonical digit groups replaced, bits above the digit groups unchanged
+     */
+    static long canonicalizeDigitGroups(final long dpdBits, final int digitGroups) {
+        long canonicalBits = dpdBits;
+        for (int shift = 0; shift < digitGroups * BITS_PER_GROUP; shift += BITS_PER_GROUP) {
+            final int digitGroup = (int) (dpdBits >>> shift) & DIGIT_GROUP_MASK;
+            // Non-canonical: three digits of 8 or 9 (bits 0b00_0110_1110 set), and either of the unused bits set
+            if ((digitGroup & 0x06E) == 0x06E && (digitGroup & 0x300) != 0) {
+                canonicalBits ^= (long) (digitGroup ^ BIN_2_DPD[DPD_2_BIN[digitGroup]]) << shift;
             }
         }
-        if (firstDigit != 0) {
-            digitChars[1] = Character.forDigit(firstDigit, 10);
+        return canonicalBits;
+    }
+
+    private BigInteger decodeValue0(final int signum, final int firstDigit, final byte[] decBytes, final int lsbIndex) {
+        if (digitGroups <= MAX_LONG_DIGIT_GROUPS) {
+            final long dpdBits = readDpdBits(decBytes, lsbIndex, (digitGroups * BITS_PER_GROUP + 7) / BITS_PER_BYTE);
+            final long value = decodeDigitGroups(firstDigit, dpdBits, digitGroups);
+            return BigInteger.valueOf(signum == Signum.NEGATIVE ? -value : value);
+        }
+        if (digitGroups <= MAX_UNSIGNED_INT128_DIGIT_GROUPS) {
+            return decodeUnsignedInt128(firstDigit, decBytes, lsbIndex).toBigInteger(signum);
         }
+        // Decode in chunks of at most 6 digit groups (18 digits), most significant chunk first
+        BigInteger value = BigInteger.valueOf(firstDigit);
+        int digitGroup = digitGroups;
+        while (digitGroup > 0) {
+            final int chunkDigitGroups = (digitGroup - 1) % LOWER_DIGIT_GROUPS + 1;
+            long chunk = 0;
+            for (int count = 0; count < chunkDigitGroups; count++) {
+                chunk = chunk * 1000 + DPD_2_BIN[readDigitGroup(decBytes, lsbIndex, --digitGroup)];
+            }
+            value = value.multiply(BigInteger.valueOf(DIGIT_GROUP_FACTORS[chunkDigitGroups]))
+                    .add(BigInteger.valueOf(chunk));
+        }
+        return signum == Signum.NEGATIVE ? value.negate() : value;
+    }
 
-        return toBigInteger(signum, digitChars);
+    /**
+     * Decodes at most {@link #MAX_UNSIGNED_INT128_DIGIT_GROUPS} digit groups as an upper part (first digit and the
+     * digit groups above the lower 6) and a lower part (the lower 6 digit groups).
+     */
+    private UnsignedInt128 decodeUnsignedInt128(final int firstDigit, final byte[] decBytes, final int lsbIndex) {
+        final long lowBits = readDpdBits(decBytes, lsbIndex, Long.BYTES);
+        final long highBits = readDpdBits(decBytes, lsbIndex - Long.BYTES,
+                (digitGroups * BITS_PER_GROUP + 7) / BITS_PER_BYTE - Long.BYTES);
+        final long upper = decodeDigitGroups(firstDigit,
+                highBits << Long.SIZE - LOWER_DIGIT_GROUP_BITS | lowBits >>> LOWER_DIGIT_GROUP_BITS,
+                digitGroups - LOWER_DIGIT_GROUPS);
+        final long lower = decodeDigitGroups(0, lowBits, LOWER_DIGIT_GROUPS);
+        return UnsignedInt128.fromDecimalParts(upper, lower);
     }
 
     private int encodeValue0(final BigInteger value, final byte[] decBytes, final int lsbIndex) {
+        if (digitGroups <= MAX_LONG_DIGIT_GROUPS) {
+            final long longValue = value.longValue();
+            orDpdBits(decBytes, lsbIndex, (digitGroups * BITS_PER_GROUP + 7) / BITS_PER_BYTE,
+                    encodeDigitGroups(longValue, digitGroups));
+            final int mostSignificantDigit = (int) (longValue / DIGIT_GROUP_FACTORS[digitGroups]);
+            assert 0 <= mostSignificantDigit && mostSignificantDigit <= 9
+                    : "mostSignificantDigit out of range, was " + mostSignificantDigit;
+            return mostSignificantDigit;
+        }
+        if (digitGroups <= MAX_UNSIGNED_INT128_DIGIT_GROUPS) {
+            return encodeUnsignedInt128(UnsignedInt128.valueOf(value), decBytes, lsbIndex);
+        }
         BigInteger remainingValue = value;
         for (int digitGroup = 0; digitGroup < digitGroups; digitGroup++) {
             // Each digit group is 10 bits in two bytes in the array as [.., second, first, ..],
@@ -448,12 +515,57 @@ public final class DenselyPackedDecimalCodec {
     }
 
     /**
-     * @return a char array of the appropriate size filled with {@code '0'}.
+     * Encodes at most {@link #MAX_UNSIGNED_INT128_DIGIT_GROUPS} digit groups, split in an upper and lower part.
      */
-    private char[] createZeroedCharArray() {
-        final char[] digitChars = new char[numberOfDigits + 1];
-        Arrays.fill(digitChars, '0');
-        return digitChars;
+    private int encodeUnsignedInt128(final UnsignedInt128 value, final byte[] decBytes, final int lsbIndex) {
+        final long upper = value.upperDecimalPart();
+        final long lower = value.low - upper * UnsignedInt128.TEN_POW_18;
+        final int upperDigitGroups = digitGroups - LOWER_DIGIT_GROUPS;
+        final long upperBits = encodeDigitGroups(upper, upperDigitGroups);
+        orDpdBits(decBytes, lsbIndex, Long.BYTES,
+                upperBits << LOWER_DIGIT_GROUP_BITS | encodeDigitGroups(lower, LOWER_DIGIT_GROUPS));
+        orDpdBits(decBytes, lsbIndex - Long.BYTES, (digitGroups * BITS_PER_GROUP + 7) / BITS_PER_BYTE - Long.BYTES,
+                upperBits >>> Long.SIZE - LOWER_DIGIT_GROUP_BITS);
+        final int mostSignificantDigit = (int) (upper / DIGIT_GROUP_FACTORS[upperDigitGroups]);
+        assert 0 <= mostSignificantDigit && mostSignificantDigit <= 9
+                : "mostSignificantDigit out of range, was " + mostSignificantDigit;
+        return mostSignificantDigit;
+    }
+
+    /**
+     * Reads the 10 bits of digit group {@code digitGroup} (counting from the least significant digit group).
+     */
+    private static int readDigitGroup(final byte[] decBytes, final int lsbIndex, final int digitGroup) {
+        // Each digit group is 10 bits in two bytes in the array as [.., second, first, ..],
+        // moving to the left for next digit groups. If there are unconsumed bits in the second byte,
+        // the second byte becomes the first byte of the next group.
+        final int digitBitsFromEnd = digitGroup * BITS_PER_GROUP;
+        final int firstByteBitOffset = digitBitsFromEnd % BITS_PER_BYTE;
+        final int firstByteIndex = lsbIndex - digitBitsFromEnd / BITS_PER_BYTE;
+        return DIGIT_GROUP_MASK & (
+                (decBytes[firstByteIndex] & 0xFF) >>> firstByteBitOffset
+                        | decBytes[firstByteIndex - 1] << BITS_PER_BYTE - firstByteBitOffset);
+    }
+
+    /**
+     * Reads up to 8 bytes ending at {@code lsbIndex} as a big-endian long.
+     */
+    private static long readDpdBits(final byte[] decBytes, final int lsbIndex, final int byteCount) {
+        long dpdBits = 0;
+        for (int index = lsbIndex - byteCount + 1; index <= lsbIndex; index++) {
+            dpdBits = (dpdBits << BITS_PER_BYTE) | (decBytes[index] & 0xFF);
+        }
+        return dpdBits;
+    }
+
+    /**
+     * Writes up to 8 bytes ending at {@code lsbIndex} in big-endian order, or-ing with the existing content.
+     */
+    private static void orDpdBits(final byte[] decBytes, final int lsbIndex, final int byteCount, long dpdBits) {
+        for (int index = lsbIndex; index > lsbIndex - byteCount; index--) {
+            decBytes[index] |= (byte) dpdBits;
+            dpdBits >>>= BITS_PER_BYTE;
+        }
     }
 
     private void validateLsbIndex(final int lsbIndex, final int decBytesLength) {
@@ -467,37 +579,4 @@ public final class DenselyPackedDecimalCodec {
         }
     }
 
-    private static BigInteger toBigInteger(final int signum, final char[] digitChars) {
-        int digitCharIndex = findFirstNonZero(digitChars);
-
-        if (digitCharIndex == -1) {
-            // All zeroes
-            return BigInteger.ZERO;
-        }
-
-        if (signum == Signum.NEGATIVE) {
-            digitChars[--digitCharIndex] = '-';
-        }
-
-        return new BigInteger(
-                new String(digitChars, digitCharIndex, digitChars.length - digitCharIndex));
-    }
-
-    /**
-     * Finds the first non-{@code '0'} in a character array.
-     *
-     * @param digitChars
-     *         Character array
-     * @return Index of first non-{@code '0'} character in the array, {@code -1}
-     * if the entire array is populated with {@code '0'}
-     */
-    private static int findFirstNonZero(final char[] digitChars) {
-        for (int index = 0; index < digitChars.length; index++) {
-            if (digitChars[index] != '0') {
-                return index;
-            }
-        }
-        return -1;
-    }
-
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import java.math.BigInteger;
+
+import static org.firebirdsql.decimal.DecimalParser.POWERS_OF_TEN;
+
+/**
+ * Converts doubles to decimals using the shortest decimal representation, without intermediate {@code String} or
+ * {@code BigDecimal}.
+ * <p>
+ * The shortest decimal is determined with the Schubfach algorithm by Raffaello Giulietti (<i>The Schubfach way to
+ * render doubles</i>), which is also used by {@link Double#toString(double)} since Java 19. The coefficient and
+ * exponent of the result are those of {@code new BigDecimal(Double.toString(value))}, which are then rounded
+ * half-even to fit the target decimal format.
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+final class DoubleToDecimal {
+
+    /**
+     * Precision of double, including the hidden bit.
+     */
+    private static final int P = 53;
+    private static final int Q_MIN = -1074;
+    private static final long C_MIN = 1L << P - 1;
+    private static final int BQ_MASK = (1 << Double.SIZE - P) - 1;
+    private static final long T_MASK = (1L << P - 1) - 1;
+    /**
+     * Subnormal significands below this value are scaled by 10 (see section 9.2.1 of the paper).
+     */
+    private static final int C_TINY = 3;
+    private static final int K_MIN = -324;
+    private static final int K_MAX = 292;
+    private static final long MASK_63 = (1L << 63) - 1;
+
+    /**
+     * For {@code k} from {@link #K_MIN} to {@link #K_MAX}: {@code g = floor(10^-k 2^-r) + 1} with {@code r} such that
+     * {@code 2^125 <= 10^-k 2^-r < 2^126}, stored as the upper bits {@code floor(g / 2^63)} at index
+     * {@code 2 * (k - K_MIN)} and the lower 63 bits at index {@code 2 * (k - K_MIN) + 1}.
+     */
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+    static {
+        final BigInteger mask63 = BigInteger.valueOf(MASK_63);
+        // Negative k: g - 1 = floor(10^-k 2^-r), with 10^-k computed incrementally
+        BigInteger powerOfTen = BigInteger.ONE;
+        for (int k = 0; k >= K_MIN; k--) {
+            final int r = flog2pow10(-k) - 125;
+            setG(k, r >= 0 ? powerOfTen.shiftRight(r) : powerOfTen.shiftLeft(-r), mask63);
+            powerOfTen = powerOfTen.multiply(BigInteger.TEN);
+        }
+        // Positive k: g - 1 = floor(2^-r / 10^k) = floor(floor(2^M / 10^k) / 2^(M + r)), with floor(2^M / 10^k)
+        // computed incrementally by dividing by 10 (as floor(floor(x) / 10) == floor(x / 10))
+        final int m = 125 - flog2pow10(-K_MAX);
+        BigInteger scaledInverse = BigInteger.ONE.shiftLeft(m);
+        for (int k = 1; k <= K_MAX; k++) {
+            scaledInverse = scaledInverse.divide(BigInteger.TEN);
+            final int r = flog2pow10(-k) - 125;
+            setG(k, scaledInverse.shiftRight(m + r), mask63);
+        }
+    }
+
+    private static void setG(final int k, final BigInteger gMinusOne, final BigInteger mask63) {
+        final BigInteger g = gMinusOne.add(BigInteger.ONE);
+        G[2 * (k - K_MIN)] = g.shiftRight(63).longValueExact();
+        G[2 * (k - K_MIN) + 1] = g.and(mask63).longValue();
+    }
+
+    private DoubleToDecimal() {
+        // no instances
+    }
+
+    /**
+     * Converts a finite double to a decimal.
+     * <p>
+     * The result is equal to {@code valueOf(new BigDecimal(Double.toString(value)), overflowHandling)} when using
+     * the shortest representation of {@code Double.toString} (Java 19 and higher), except that the value is rounded
+     * once to fit both the precision and the exponent range of the decimal format. As with {@code BigDecimal},
+     * {@code -0.0} is converted to positive zero.
+     * </p>
+     *
+     * @param decimalFactory
+     *         Decimal factory of the target decimal type
+     * @param value
+     *         Finite double value (not NaN or infinity)
+     * @param overflowHandling
+     *         Handling of overflows
+     * @return Decimal, or +/-Infinity for overflow with {@link OverflowHandling#ROUND_TO_INFINITY}
+     * @throws DecimalOverflowException
+     *         If {@code OverflowHandling#THROW_EXCEPTION} and the value is out of range
+     */
+    static <T extends Decimal<T>> T valueOf(final DecimalFactory<T> decimalFactory, final double value,
+            final OverflowHandling overflowHandling) {
+        final long bits = Double.doubleToRawLongBits(value);
+        final int signum = bits < 0 ? Signum.NEGATIVE : Signum.POSITIVE;
+        final long t = bits & T_MASK;
+        final int bq = (int) (bits >>> P - 1) & BQ_MASK;
+        if (bq != 0) {
+            // normal value, with value = c 2^q and mq = -q
+            final int mq = -Q_MIN + 1 - bq;
+            final long c = C_MIN | t;
+            if (0 < mq && mq < P) {
+                final long f = c >> mq;
+                if (f << mq == c) {
+                    // integer value below 2^53
+                    return toDecimal(decimalFactory, signum, f, 0, overflowHandling);
+                }
+            }
+            return toDecimal(decimalFactory, signum, -mq, c, 0, overflowHandling);
+        } else if (t != 0) {
+            // subnormal value
+            return t < C_TINY
+                    ? toDecimal(decimalFactory, signum, Q_MIN, 10 * t, -1, overflowHandling)
+                    : toDecimal(decimalFactory, signum, Q_MIN, t, 0, overflowHandling);
+        }
+        // Same as BigDecimal.valueOf(0.0) and BigDecimal.valueOf(-0.0)
+        return DecimalParser.round(decimalFactory, Signum.POSITIVE, 0, 0, -1, 0, false, overflowHandling);
+    }
+
+    /**
+     * Determines the shortest decimal which rounds to the double {@code c 2^q}, closest to it if there are several.
+     * <p>
+     * This follows figures 7 and 9 of the Schubfach paper.
+     * </p>
+     *
+     * @param q
+     *         Binary exponent
+     * @param c
+     *         Binary significand
+     * @param dk
+     *         Correction of the decimal exponent ({@code -1} if {@code c} was scaled by 10, otherwise {@code 0})
+     */
+    private static <T extends Decimal<T>> T toDecimal(final DecimalFactory<T> decimalFactory, final int signum,
+            final int q, final long c, final int dk, final OverflowHandling overflowHandling) {
+        final int out = (int) c & 0x1;
+        final long cb = c << 2;
+        final long cbr = cb + 2;
+        final long cbl;
+        final int k;
+        if (c != C_MIN || q == Q_MIN) {
+            // regular spacing
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // irregular spacing
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        final int h = q + flog2pow10(-k) + 2;
+
+        final long g1 = G[2 * (k - K_MIN)];
+        final long g0 = G[2 * (k - K_MIN) + 1];
+
+        final long vb = rop(g1, g0, cb << h);
+        final long vbl = rop(g1, g0, cbl << h);
+        final long vbr = rop(g1, g0, cbr << h);
+
+        final long s = vb >> 2;
+        if (s >= 100) {
+            // sp10 = 10 floor(s / 10), using floor(s / 10) = floor(s 115_292_150_460_684_698 / 2^64) for s < 10^18
+            final long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            final long tp10 = sp10 + 10;
+            final boolean upin = vbl + out <= sp10 << 2;
+            final boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return toDecimal(decimalFactory, signum, upin ? sp10 : tp10, k, overflowHandling);
+            }
+        }
+
+        final long t = s + 1;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            // Exactly one of s and t is in the rounding interval
+            return toDecimal(decimalFactory, signum, uin ? s : t, k + dk, overflowHandling);
+        }
+        // Both are in the rounding interval: take the closest, or the even one if both are equally close
+        final long cmp = vb - (s + t << 1);
+        return toDecimal(decimalFactory, signum, cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk,
+                overflowHandling);
+    }
+
+    /**
+     * Converts the decimal {@code f 10^e} to the coefficient and exponent of {@code Double.toString}, and rounds it
+     * to the decimal format.
+     */
+    private static <T extends Decimal<T>> T toDecimal(final DecimalFactory<T> decimalFactory, final int signum,
+            long f, int e, final OverflowHandling overflowHandling) {
+        while (f % 10 == 0) {
+            f /= 10;
+            e++;
+        }
+        final int digits = DecimalParser.numberOfDigits(0, f);
+        // Double.toString formats 0.d1d2..dn 10^adjustedExponent with at least one fraction digit
+        final int adjustedExponent = e + digits;
+        final int scale;
+        if (0 < adjustedExponent && adjustedExponent <= 7) {
+            scale = Math.max(1, digits - adjustedExponent);
+        } else if (-3 < adjustedExponent && adjustedExponent <= 0) {
+            scale = digits - adjustedExponent;
+        } else {
+            scale = Math.max(1, digits - 1) - adjustedExponent + 1;
+        }
+        // At most 17 digits (with digits > 1), or at most 8 digits (when padded with zeroes)
+        final long coefficient = f * POWERS_OF_TEN[e + scale];
+
+        final int coefficientDigits = decimalFactory.getDecimalFormat().coefficientDigits;
+        final int droppedDigits = DecimalParser.numberOfDigits(0, coefficient) - coefficientDigits;
+        if (droppedDigits <= 0) {
+            return DecimalParser.round(decimalFactory, signum, 0, coefficient, -scale, 0, false, overflowHandling);
+        }
+        final long divisor = POWERS_OF_TEN[droppedDigits];
+        final long remainder = coefficient % divisor;
+        return DecimalParser.round(decimalFactory, signum, 0, coefficient / divisor, droppedDigits - scale,
+                (int) (remainder / POWERS_OF_TEN[droppedDigits - 1]), remainder % POWERS_OF_TEN[droppedDigits - 1] != 0,
+                overflowHandling);
+    }
+
+    /**
+     * Computes {@code rop(cp g 2^-127)} (round to odd), where {@code g = g1 2^63 + g0}.
+     */
+    private static long rop(final long g1, final long g0, final long cp) {
+        final long x1 = Math.multiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = Math.multiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * @return {@code floor(q log10(2))}
+     */
+    private static int flog10pow2(final int q) {
+        return (int) (q * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * @return {@code floor(q log10(2) + log10(3/4))}
+     */
+    private static int flog10threeQuartersPow2(final int q) {
+        return (int) (q * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * @return {@code floor(e log2(10))}
+     */
+    private static int flog2pow10(final int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+/**
+ * Determines if the exceptions of this library fill in their stack trace.
+ * <p>
+ * Overflow and values that cannot be converted are expected when converting bulk data, and filling in the stack trace
+ * is the most expensive part of creating an exception. By default {@link DecimalOverflowException} and
+ * {@link DecimalInconvertibleException} have no stack trace. Set system property {@value #PROPERTY_NAME} to
+ * {@code true} to enable stack traces (e.g. for debugging).
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+final class ExceptionStackTraces {
+
+    static final String PROPERTY_NAME = "org.firebirdsql.decimal.exceptionStackTrace";
+    static final boolean ENABLED = isEnabled();
+
+    private ExceptionStackTraces() {
+        // no instances
+    }
+
+    private static boolean isEnabled() {
+        try {
+            return Boolean.getBoolean(PROPERTY_NAME);
+        } catch (SecurityException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+
+/**
+ * Unsigned 128-bit integer, stored as two longs.
+ * <p>
+ * Used as the coefficient of Decimal128 values ({@code 10^34 < 2^113}), so conversion from and to the densely packed
+ * decimal encoding can be done with primitive arithmetic, only creating a {@link BigInteger} when needed.
+ * </p>
+ *
+ * @author Mark Rotteveel
+ */
+final class UnsignedInt128 {
+
+    static final UnsignedInt128 ZERO = new UnsignedInt128(0, 0);
+
+    /**
+     * {@code 10^18}, the largest power of ten that fits in a long; the split point of the decimal parts.
+     */
+    static final long TEN_POW_18 = 1_000_000_000_000_000_000L;
+
+    private static final long INT_MASK = 0xFFFF_FFFFL;
+    private static final VarHandle LONG_BIG_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    final long high;
+    final long low;
+
+    private UnsignedInt128(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Creates an unsigned 128-bit integer.
+     *
+     * @param high
+     *         Most significant 64 bits
+     * @param low
+     *         Least significant 64 bits
+     * @return Unsigned 128-bit integer
+     */
+    static UnsignedInt128 valueOf(long high, long low) {
+        return high == 0 && low == 0 ? ZERO : new UnsignedInt128(high, low);
+    }
+
+    /**
+     * Creates an unsigned 128-bit integer from the magnitude of {@code value}.
+     *
+     * @param value
+     *         Big integer value (the sign is ignored)
+     * @return Unsigned 128-bit integer with the absolute value of {@code value}
+     * @throws IllegalArgumentException
+     *         If the absolute value of {@code value} does not fit in 128 bits
+     */
+    static UnsignedInt128 valueOf(BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            return valueOf(0, Math.abs(value.longValue()));
+        }
+        final BigInteger magnitude = value.abs();
+        if (magnitude.bitLength() > 128) {
+            throw new IllegalArgumentException("Value " + value + " does not fit in 128 bits");
+        }
+        return valueOf(magnitude.shiftRight(Long.SIZE).longValue(), magnitude.longValue());
+    }
+
+    /**
+     * Creates an unsigned 128-bit integer from its decimal parts.
+     *
+     * @param upper
+     *         Upper part ({@code 0 <= upper < 2^63})
+     * @param lower
+     *         Lower part ({@code 0 <= lower < 10^18})
+     * @return Unsigned 128-bit integer with value {@code upper * 10^18 + lower}
+     */
+    static UnsignedInt128 fromDecimalParts(long upper, long lower) {
+        final long productLow = upper * TEN_POW_18;
+        final long resultLow = productLow + lower;
+        // carry if the unsigned addition overflowed
+        final long carry = Long.compareUnsigned(resultLow, productLow) < 0 ? 1 : 0;
+        return valueOf(Math.multiplyHigh(upper, TEN_POW_18) + carry, resultLow);
+    }
+
+    /**
+     * @return Upper decimal part of this value ({@code this / 10^18}), requires {@code this < 2^63 * 10^18}
+     * @see #fromDecimalParts(long, long)
+     */
+    long upperDecimalPart() {
+        return divideUnsigned(high, low, TEN_POW_18);
+    }
+
+    /**
+     * @return Lower decimal part of this value ({@code this % 10^18}), requires {@code this < 2^63 * 10^18}
+     * @see #fromDecimalParts(long, long)
+     */
+    long lowerDecimalPart() {
+        return low - upperDecimalPart() * TEN_POW_18;
+    }
+
+    /**
+     * @return {@code true} if this value is zero
+     */
+    boolean isZero() {
+        return (high | low) == 0;
+    }
+
+    /**
+     * Converts this value to a big integer.
+     *
+     * @param signum
+     *         Signum value (values other than {@link Signum#NEGATIVE} are considered positive!)
+     * @return Big integer with this value as magnitude
+     */
+    BigInteger toBigInteger(int signum) {
+        if (high == 0 && low >= 0) {
+            return BigInteger.valueOf(signum == Signum.NEGATIVE ? -low : low);
+        }
+        final byte[] magnitude = new byte[16];
+        LONG_BIG_ENDIAN.set(magnitude, 0, high);
+        LONG_BIG_ENDIAN.set(magnitude, 8, low);
+        return new BigInteger(signum == Signum.NEGATIVE ? -1 : 1, magnitude);
+    }
+
+    /**
+     * Divides the unsigned 128-bit value {@code high:low} by {@code divisor}.
+     * <p>
+     * Implementation of the unsigned 128-by-64-bit division from Hacker's Delight ({@code divlu}), using long
+     * arithmetic on 32-bit halves. The remainder can be calculated by the caller as {@code low - quotient * divisor}.
+     * </p>
+     *
+     * @param high
+     *         Most significant 64 bits of the dividend
+     * @param low
+     *         Least significant 64 bits of the dividend
+     * @param divisor
+     *         Divisor (unsigned, non-zero), must be (unsigned) greater than {@code high}, so the quotient fits in
+     *         64 bits
+     * @return Quotient (unsigned)
+     */
+    static long divideUnsigned(long high, long low, long divisor) {
+        assert Long.compareUnsigned(high, divisor) < 0 : "Quotient does not fit in 64 bits";
+        if (high == 0) {
+            return Long.divideUnsigned(low, divisor);
+        }
+        // normalize divisor, so its most significant bit is set
+        final int shift = Long.numberOfLeadingZeros(divisor);
+        final long normalizedDivisor = divisor << shift;
+        final long divisorHigh = normalizedDivisor >>> 32;
+        final long divisorLow = normalizedDivisor & INT_MASK;
+        final long dividendHigh = shift == 0 ? high : high << shift | low >>> Long.SIZE - shift;
+        final long dividendLow = low << shift;
+        final long dividendLowHigh = dividendLow >>> 32;
+        final long dividendLowLow = dividendLow & INT_MASK;
+
+        final long quotientHigh = estimateQuotientDigit(dividendHigh, dividendLowHigh, divisorHigh, divisorLow);
+        final long remainderHigh = (dividendHigh << 32) + dividendLowHigh - quotientHigh * normalizedDivisor;
+        final long quotientLow = estimateQuotientDigit(remainderHigh, dividendLowLow, divisorHigh, divisorLow);
+        return (quotientHigh << 32) + quotientLow;
+    }
+
+    /**
+     * Divides the unsigned value {@code (high:low) * 10^18 + lower} (up to 192 bits) by the unsigned 128-bit value
+     * {@code divisorHigh:divisorLow}.
+     * <p>
+     * Used for long division in base {@code 10^18}: {@code high:low} is the remainder of the previous step, and
+     * {@code lower} the next decimal part of the dividend. Implementation of a single step of algorithm D from
+     * Knuth (TAOCP vol. 2, 4.3.1) with 64-bit digits: the quotient is estimated from the two most significant digits
+     * of the normalized dividend and the most significant digit of the normalized divisor, and corrected at most
+     * twice. As the remainder is less than the divisor, it can be calculated by the caller from the least
+     * significant 128 bits of the dividend and of {@code quotient * divisor}.
+     * </p>
+     *
+     * @param high
+     *         Most significant 64 bits of the value to multiply by {@code 10^18}
+     * @param low
+     *         Least significant 64 bits of the value to multiply by {@code 10^18}
+     * @param lower
+     *         Value to add ({@code 0 <= lower < 10^18})
+     * @param divisorHigh
+     *         Most significant 64 bits of the divisor (less than {@code 2^63})
+     * @param divisorLow
+     *         Least significant 64 bits of the divisor
+     * @return Quotient, less than {@code 10^18} as {@code high:low} must be less than the divisor
+     */
+    static long divideScaled(long high, long low, long lower, long divisorHigh, long divisorLow) {
+        assert Long.compareUnsigned(high, divisorHigh) < 0
+                || high == divisorHigh && Long.compareUnsigned(low, divisorLow) < 0 : "Quotient exceeds 10^18";
+        final long productLow = low * TEN_POW_18;
+        final long dividend0 = productLow + lower;
+        long dividend1 = multiplyHighUnsigned(low, TEN_POW_18);
+        if (Long.compareUnsigned(dividend0, productLow) < 0) {
+            dividend1++;
+        }
+        final long productMiddle = high * TEN_POW_18;
+        dividend1 += productMiddle;
+        final long dividend2 = Math.multiplyHigh(high, TEN_POW_18)
+                + (Long.compareUnsigned(dividend1, productMiddle) < 0 ? 1 : 0);
+        if (divisorHigh == 0) {
+            // dividend < divisor * 10^18 fits in 128 bits
+            return divideUnsigned(dividend1, dividend0, divisorLow);
+        }
+
+        // normalize divisor, so its most significant bit is set
+        final int shift = Long.numberOfLeadingZeros(divisorHigh);
+        final long divisor1 = shift == 0 ? divisorHigh : divisorHigh << shift | divisorLow >>> Long.SIZE - shift;
+        final long divisor0 = divisorLow << shift;
+        final long normalized2 = shift == 0 ? dividend2 : dividend2 << shift | dividend1 >>> Long.SIZE - shift;
+        final long normalized1 = shift == 0 ? dividend1 : dividend1 << shift | dividend0 >>> Long.SIZE - shift;
+        final long normalized0 = dividend0 << shift;
+
+        long quotient = normalized2 == divisor1 ? -1L : divideUnsigned(normalized2, normalized1, divisor1);
+        // product of quotient and divisor, decremented by the divisor until it does not exceed the dividend
+        long product0 = quotient * divisor0;
+        final long product0High = multiplyHighUnsigned(quotient, divisor0);
+        long product1 = quotient * divisor1 + product0High;
+        long product2 = multiplyHighUnsigned(quotient, divisor1)
+                + (Long.compareUnsigned(product1, product0High) < 0 ? 1 : 0);
+        while (compareUnsigned(product2, product1, product0, normalized2, normalized1, normalized0) > 0) {
+            quotient--;
+            final long borrow0 = Long.compareUnsigned(product0, divisor0) < 0 ? 1 : 0;
+            product0 -= divisor0;
+            final long borrow1 = Long.compareUnsigned(product1, divisor1) < 0
+                    || product1 == divisor1 && borrow0 != 0 ? 1 : 0;
+            product1 = product1 - divisor1 - borrow0;
+            product2 -= borrow1;
+        }
+        return quotient;
+    }
+
+    /**
+     * Compares two unsigned 192-bit values.
+     */
+    private static int compareUnsigned(long x2, long x1, long x0, long y2, long y1, long y0) {
+        if (x2 != y2) {
+            return Long.compareUnsigned(x2, y2);
+        } else if (x1 != y1) {
+            return Long.compareUnsigned(x1, y1);
+        }
+        return Long.compareUnsigned(x0, y0);
+    }
+
+    /**
+     * Most significant 64 bits of the unsigned 128-bit product of two unsigned longs.
+     * <p>
+     * Equivalent of {@code Math.unsignedMultiplyHigh} (Java 18).
+     * </p>
+     *
+     * @param x
+     *         First value (unsigned)
+     * @param y
+     *         Second value (unsigned)
+     * @return Most significant 64 bits of {@code x * y}
+     */
+    static long multiplyHighUnsigned(long x, long y) {
+        return Math.multiplyHigh(x, y) + (x >> Long.SIZE - 1 & y) + (y >> Long.SIZE - 1 & x);
+    }
+
+    /**
+     * Calculates the next 32-bit quotient digit of {@code (dividend * 2^32 + nextDigit) / (divisorHigh:divisorLow)}.
+     */
+    private static long estimateQuotientDigit(long dividend, long nextDigit, long divisorHigh, long divisorLow) {
+        long quotient = Long.divideUnsigned(dividend, divisorHigh);
+        long remainder = dividend - quotient * divisorHigh;
+        while (quotient > INT_MASK
+                || Long.compareUnsigned(quotient * divisorLow, (remainder << 32) + nextDigit) > 0) {
+            quotient--;
+            remainder += divisorHigh;
+            if (remainder > INT_MASK) {
+                break;
+            }
+        }
+        return quotient;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UnsignedInt128 other)) return false;
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
+    }
+
+    @Override
+    public String toString() {
+        return toBigInteger(Signum.POSITIVE).toString();
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -25,9 +25,13 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -161,6 +165,27 @@ class Decimal128Test {
         }
     }
 
+    @Test
+    void toBigDecimal_cachesValue() {
+        Decimal128 decimal128Value = Decimal128.valueOf("1.23456E10");
+
+        assertSame(decimal128Value.toBigDecimal(), decimal128Value.toBigDecimal());
+    }
+
+    @Test
+    void fromRawBits_nonCanonicalDigitGroup_equalsCanonical() {
+        // the digit group 888 spans the high bits and the low bits
+        Decimal128 canonical = Decimal128.valueOf("888000000000000000000");
+        // replace digit group 888 (0x06E) with its non-canonical encoding 0x16E: 0x16 in high bits, 0xE in low bits
+        assertEquals(0x06L, canonical.toRawBitsHigh() & 0x3F, "precondition: high bits of digit group");
+        Decimal128 decoded = Decimal128.fromRawBits(canonical.toRawBitsHigh() | 0x10L, canonical.toRawBitsLow());
+
+        assertEquals(canonical, decoded);
+        assertEquals(canonical.hashCode(), decoded.hashCode());
+        assertEquals(canonical.toRawBitsHigh(), decoded.toRawBitsHigh());
+        assertEquals(new BigDecimal("888000000000000000000"), decoded.toBigDecimal());
+    }
+
     @Test
     void doubleValue_finiteValue() {
         String decimalString = "1.23456E10";
@@ -409,4 +434,185 @@ class Decimal128Test {
         assertEquals(new BigDecimal("1000000000000000000000000000000000E+1"), Decimal128.valueOf(value).toBigDecimal());
     }
 
+    @Test
+    void parseBytes_ByteBuffer_insufficientBytes_positionUnchanged() {
+        final ByteBuffer buffer = ByteBuffer.allocate(20).position(5);
+
+        assertThrows(BufferUnderflowException.class, () -> Decimal128.parseBytes(buffer));
+        assertEquals(5, buffer.position());
+    }
+
+    @Test
+    void writeTo_ByteBuffer_insufficientSpace_nothingWritten() {
+        final ByteBuffer buffer = ByteBuffer.allocate(20).position(5);
+
+        assertThrows(BufferOverflowException.class, () -> Decimal128.valueOf("-1.5").writeTo(buffer));
+        assertEquals(5, buffer.position());
+        assertTrue(Arrays.equals(new byte[20], buffer.array()), "buffer not modified");
+    }
+
+    @Test
+    void parseBytes_offset_outOfBounds() {
+        final byte[] src = new byte[20];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal128.parseBytes(src, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal128.parseBytes(src, -1));
+    }
+
+    @Test
+    void toBytes_offset_outOfBounds_nothingWritten() {
+        final byte[] dest = new byte[20];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal128.valueOf("-1.5").toBytes(dest, 5));
+        assertTrue(Arrays.equals(new byte[20], dest), "dest not modified");
+    }
+
+    @Test
+    void encodeAll_parseAll_roundTrip() {
+        final Decimal128[] values = { Decimal128.valueOf("1.23"), NEGATIVE_ZERO, Decimal128.NEGATIVE_INFINITY,
+                Decimal128.valueOf("-9.87E+12"), Decimal128.POSITIVE_SIGNALING_NAN };
+        final byte[] packed = new byte[1 + values.length * 16];
+
+        assertEquals(values.length * 16, Decimal128.encodeAll(values, packed, 1));
+
+        final Decimal128[] result = new Decimal128[values.length];
+        Decimal128.parseAll(packed, 1, values.length, result);
+        assertTrue(Arrays.equals(values, result), "Expected " + Arrays.toString(values));
+        for (int idx = 0; idx < values.length; idx++) {
+            final int start = 1 + idx * 16;
+            assertTrue(Arrays.equals(values[idx].toBytes(), Arrays.copyOfRange(packed, start, start + 16)),
+                    "Unexpected encoding of " + values[idx]);
+        }
+    }
+
+    @Test
+    void encodeAll_parseAll_BigDecimal_roundTrip() {
+        final BigDecimal[] values = { new BigDecimal("1.23"), BigDecimal.ZERO, new BigDecimal("-9.87E+12") };
+        final byte[] packed = new byte[values.length * 16];
+
+        assertEquals(values.length * 16, Decimal128.encodeAll(values, packed, 0));
+
+        final BigDecimal[] result = new BigDecimal[values.length];
+        Decimal128.parseAll(packed, 0, values.length, result);
+        assertTrue(Arrays.equals(values, result), "Expected " + Arrays.toString(values));
+    }
+
+    @Test
+    void parseAll_BigDecimal_special_throwsDecimalInconvertibleException() {
+        final byte[] packed = new byte[2 * 16];
+        Decimal128.encodeAll(new Decimal128[] { Decimal128.valueOf("1"), Decimal128.NEGATIVE_NAN }, packed, 0);
+
+        final var exception = assertThrows(DecimalInconvertibleException.class,
+                () -> Decimal128.parseAll(packed, 0, 2, new BigDecimal[2]));
+        assertEquals(DecimalType.NAN, exception.getDecimalType());
+        assertEquals(Signum.NEGATIVE, exception.getSignum());
+    }
+
+    @Test
+    void parseAll_outOfBounds() {
+        final byte[] packed = new byte[3 * 16];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal128.parseAll(packed, 1, 3, new Decimal128[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal128.parseAll(packed, 0, 3, new Decimal128[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal128.parseAll(packed, 0, -1, new Decimal128[2]));
+    }
+
+    @Test
+    void encodeAll_outOfBounds_nothingWritten() {
+        final byte[] dest = new byte[2 * 16];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal128.encodeAll(
+                new Decimal128[] { Decimal128.valueOf("1"), Decimal128.valueOf("2") }, dest, 1));
+        assertTrue(Arrays.equals(new byte[2 * 16], dest), "dest not modified");
+    }
+
+    @Test
+    void valueOf_long_int_sameAsBigDecimal() {
+        final long[] unscaledValues = { 0, 1, -1, 5, 1024, 1025, -128, -129, 12345, 9_999_999, 10_000_000,
+                99_999_995, 1_234_567_890_123_456_789L, 9_999_999_999_999_999L, 99_999_999_999_999_995L,
+                Long.MAX_VALUE, Long.MIN_VALUE, -Long.MAX_VALUE };
+        final int[] scales = { 0, 1, 2, 4, -3, 18, 100, 398, 6176, 7000, -90, -369, -6111, -7000 };
+        for (long unscaledValue : unscaledValues) {
+            for (int scale : scales) {
+                assertEquals(Decimal128.valueOf(BigDecimal.valueOf(unscaledValue, scale)),
+                        Decimal128.valueOf(unscaledValue, scale), unscaledValue + "E" + -scale);
+            }
+        }
+    }
+
+    @Test
+    void valueOf_long_int_overflow_ThrowException() {
+        assertThrows(DecimalOverflowException.class,
+                () -> Decimal128.valueOf(1, -7000, OverflowHandling.THROW_EXCEPTION));
+    }
+
+    @Test
+    void tryValueOf_overflow_null() {
+        assertNull(Decimal128.tryValueOf(new BigDecimal("1E+6145")));
+        assertNull(Decimal128.tryValueOf(new BigDecimal("-1E+6145")));
+        assertNull(Decimal128.tryValueOf(new BigDecimal("1E+6145").toBigInteger()));
+        assertNull(Decimal128.tryValueOf("1E+6145"));
+        assertNull(Decimal128.tryValueOf("-1E+6145"));
+    }
+
+    @Test
+    void tryValueOf_inRange_sameAsValueOf() {
+        assertEquals(Decimal128.valueOf("9.999999999999999999999999999999999E+6144"),
+                Decimal128.tryValueOf(new BigDecimal("9.999999999999999999999999999999999E+6144")));
+        assertEquals(Decimal128.valueOf("1.23456789012345678901234567890123475E+5"),
+                Decimal128.tryValueOf("1.23456789012345678901234567890123475E+5"));
+        assertEquals(Decimal128.valueOf(BigInteger.TEN), Decimal128.tryValueOf(BigInteger.TEN));
+        assertEquals(Decimal128.valueOf(0.1), Decimal128.tryValueOf(0.1));
+        assertEquals(Decimal128.valueOf("1E-7000"), Decimal128.tryValueOf("1E-7000"));
+    }
+
+    @Test
+    void tryValueOf_specialValues() {
+        assertSame(Decimal128.POSITIVE_INFINITY, Decimal128.tryValueOf("Infinity"));
+        assertSame(Decimal128.NEGATIVE_INFINITY, Decimal128.tryValueOf("-inf"));
+        assertSame(Decimal128.POSITIVE_NAN, Decimal128.tryValueOf("NaN"));
+        assertSame(Decimal128.NEGATIVE_INFINITY, Decimal128.tryValueOf(Double.NEGATIVE_INFINITY));
+        assertSame(Decimal128.POSITIVE_NAN, Decimal128.tryValueOf(Double.NaN));
+    }
+
+    @Test
+    void tryToBigDecimal() {
+        assertEquals(new BigDecimal("1.25"), Decimal128.valueOf("1.25").tryToBigDecimal());
+        assertNull(Decimal128.POSITIVE_INFINITY.tryToBigDecimal());
+        assertNull(Decimal128.NEGATIVE_NAN.tryToBigDecimal());
+        assertNull(Decimal128.POSITIVE_SIGNALING_NAN.tryToBigDecimal());
+    }
+
+    @Test
+    void cachedValues_sharedInstance() {
+        for (int value = -128; value <= 1024; value++) {
+            final Decimal128 cached = Decimal128.valueOf(value, 0);
+            assertSame(cached, Decimal128.valueOf(String.valueOf(value)));
+            assertSame(cached, Decimal128.valueOf(BigDecimal.valueOf(value)));
+            assertSame(cached, Decimal128.parseBytes(cached.toBytes()));
+        }
+        for (int scale = 1; scale <= 4; scale++) {
+            for (int coefficient = 0; coefficient <= 100; coefficient++) {
+                final Decimal128 cached = Decimal128.valueOf(coefficient, scale);
+                assertSame(cached, Decimal128.valueOf(BigDecimal.valueOf(coefficient, scale).toString()));
+                assertSame(cached, Decimal128.parseBytes(cached.toBytes()));
+            }
+        }
+        assertSame(Decimal128.valueOf(10, 1), Decimal128.valueOf(1.0));
+        assertSame(Decimal128.valueOf(5, 0), Decimal128.valueOf(-5, 0).negate());
+    }
+
+    @Test
+    void valueOf_BigDecimal_roundsOnce() {
+        // Subnormal values and coefficients beyond the truncation to 35 digits must not be rounded twice
+        assertEquals("4.28996099758609299112886335093197E-6144",
+                Decimal128.valueOf(new BigDecimal("4.289960997586092991128863350931974992972E-6144")).toString());
+        assertEquals("1.000000000000000000000000000000001", Decimal128.valueOf(
+                new BigDecimal("1.000000000000000000000000000000000500000000000000000001")).toString());
+        assertEquals("1.000000000000000000000000000000000", Decimal128.valueOf(
+                new BigDecimal("1.000000000000000000000000000000000500000000000000000000")).toString());
+        assertEquals("-Infinity",
+                Decimal128.valueOf(new BigDecimal("-9.99999999999999999999999999999999995E+6144")).toString());
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -87,6 +87,9 @@ class Decimal128ValueOfTest {
                 testCase("1200000000000000000000000000000000E-6209", "1E-6176"),
                 testCase("1000000000000000000000000000000000E-6210", "0E-6176"),
                 testCase("1230000000000000000000000000000000E-6210", "0E-6176"),
+                // Rounding half even once, not first to the precision and then to the exponent range
+                testCase("12345678901234567890123456789012450001E-6181",
+                        "1.23456789012345678901234567890125E-6144"),
                 // specials
                 testCase("+Inf", "+Infinity"),
                 testCase("+inf", "+Infinity"),
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -28,6 +28,7 @@ import java.math.BigInteger;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -399,4 +400,157 @@ class Decimal32Test {
         assertEquals(new BigDecimal("1000000E+1"), Decimal32.valueOf(value).toBigDecimal());
     }
 
+    @Test
+    void encodeAll_parseAll_roundTrip() {
+        final Decimal32[] values = { Decimal32.valueOf("1.23"), NEGATIVE_ZERO, Decimal32.NEGATIVE_INFINITY,
+                Decimal32.valueOf("-9.87E+12"), Decimal32.POSITIVE_SIGNALING_NAN };
+        final byte[] packed = new byte[1 + values.length * 4];
+
+        assertEquals(values.length * 4, Decimal32.encodeAll(values, packed, 1));
+
+        final Decimal32[] result = new Decimal32[values.length];
+        Decimal32.parseAll(packed, 1, values.length, result);
+        assertTrue(Arrays.equals(values, result), "Expected " + Arrays.toString(values));
+        for (int idx = 0; idx < values.length; idx++) {
+            final int start = 1 + idx * 4;
+            assertTrue(Arrays.equals(values[idx].toBytes(), Arrays.copyOfRange(packed, start, start + 4)),
+                    "Unexpected encoding of " + values[idx]);
+        }
+    }
+
+    @Test
+    void encodeAll_parseAll_BigDecimal_roundTrip() {
+        final BigDecimal[] values = { new BigDecimal("1.23"), BigDecimal.ZERO, new BigDecimal("-9.87E+12") };
+        final byte[] packed = new byte[values.length * 4];
+
+        assertEquals(values.length * 4, Decimal32.encodeAll(values, packed, 0));
+
+        final BigDecimal[] result = new BigDecimal[values.length];
+        Decimal32.parseAll(packed, 0, values.length, result);
+        assertTrue(Arrays.equals(values, result), "Expected " + Arrays.toString(values));
+    }
+
+    @Test
+    void parseAll_BigDecimal_special_throwsDecimalInconvertibleException() {
+        final byte[] packed = new byte[2 * 4];
+        Decimal32.encodeAll(new Decimal32[] { Decimal32.valueOf("1"), Decimal32.NEGATIVE_NAN }, packed, 0);
+
+        final var exception = assertThrows(DecimalInconvertibleException.class,
+                () -> Decimal32.parseAll(packed, 0, 2, new BigDecimal[2]));
+        assertEquals(DecimalType.NAN, exception.getDecimalType());
+        assertEquals(Signum.NEGATIVE, exception.getSignum());
+    }
+
+    @Test
+    void parseAll_outOfBounds() {
+        final byte[] packed = new byte[3 * 4];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal32.parseAll(packed, 1, 3, new Decimal32[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal32.parseAll(packed, 0, 3, new Decimal32[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal32.parseAll(packed, 0, -1, new Decimal32[2]));
+    }
+
+    @Test
+    void encodeAll_outOfBounds_nothingWritten() {
+        final byte[] dest = new byte[2 * 4];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal32.encodeAll(
+                new Decimal32[] { Decimal32.valueOf("1"), Decimal32.valueOf("2") }, dest, 1));
+        assertTrue(Arrays.equals(new byte[2 * 4], dest), "dest not modified");
+    }
+
+    @Test
+    void valueOf_long_int_sameAsBigDecimal() {
+        final long[] unscaledValues = { 0, 1, -1, 5, 1024, 1025, -128, -129, 12345, 9_999_999, 10_000_000,
+                99_999_995, 1_234_567_890_123_456_789L, 9_999_999_999_999_999L, 99_999_999_999_999_995L,
+                Long.MAX_VALUE, Long.MIN_VALUE, -Long.MAX_VALUE };
+        final int[] scales = { 0, 1, 2, 4, -3, 18, 100, 398, 6176, 7000, -90, -369, -6111, -7000 };
+        for (long unscaledValue : unscaledValues) {
+            for (int scale : scales) {
+                assertEquals(Decimal32.valueOf(BigDecimal.valueOf(unscaledValue, scale)),
+                        Decimal32.valueOf(unscaledValue, scale), unscaledValue + "E" + -scale);
+            }
+        }
+    }
+
+    @Test
+    void valueOf_long_int_overflow_ThrowException() {
+        assertThrows(DecimalOverflowException.class,
+                () -> Decimal32.valueOf(1, -7000, OverflowHandling.THROW_EXCEPTION));
+    }
+
+    @Test
+    void tryValueOf_overflow_null() {
+        assertNull(Decimal32.tryValueOf(new BigDecimal("1E+97")));
+        assertNull(Decimal32.tryValueOf(new BigDecimal("-1E+97")));
+        assertNull(Decimal32.tryValueOf(new BigDecimal("1E+97").toBigInteger()));
+        assertNull(Decimal32.tryValueOf("1E+97"));
+        assertNull(Decimal32.tryValueOf("-1E+97"));
+    }
+
+    @Test
+    void tryValueOf_inRange_sameAsValueOf() {
+        assertEquals(Decimal32.valueOf("9.999999E+96"), Decimal32.tryValueOf(new BigDecimal("9.999999E+96")));
+        assertEquals(Decimal32.valueOf("1.2345675E+5"), Decimal32.tryValueOf("1.2345675E+5"));
+        assertEquals(Decimal32.valueOf(BigInteger.TEN), Decimal32.tryValueOf(BigInteger.TEN));
+        assertEquals(Decimal32.valueOf(0.1), Decimal32.tryValueOf(0.1));
+        assertEquals(Decimal32.valueOf("1E-7000"), Decimal32.tryValueOf("1E-7000"));
+    }
+
+    @Test
+    void tryValueOf_specialValues() {
+        assertSame(Decimal32.POSITIVE_INFINITY, Decimal32.tryValueOf("Infinity"));
+        assertSame(Decimal32.NEGATIVE_INFINITY, Decimal32.tryValueOf("-inf"));
+        assertSame(Decimal32.POSITIVE_NAN, Decimal32.tryValueOf("NaN"));
+        assertSame(Decimal32.NEGATIVE_INFINITY, Decimal32.tryValueOf(Double.NEGATIVE_INFINITY));
+        assertSame(Decimal32.POSITIVE_NAN, Decimal32.tryValueOf(Double.NaN));
+    }
+
+    @Test
+    void tryToBigDecimal() {
+        assertEquals(new BigDecimal("1.25"), Decimal32.valueOf("1.25").tryToBigDecimal());
+        assertNull(Decimal32.POSITIVE_INFINITY.tryToBigDecimal());
+        assertNull(Decimal32.NEGATIVE_NAN.tryToBigDecimal());
+        assertNull(Decimal32.POSITIVE_SIGNALING_NAN.tryToBigDecimal());
+    }
+
+    @Test
+    void exceptions_noStackTraceByDefault() {
+        final DecimalOverflowException overflowException = assertThrows(DecimalOverflowException.class,
+                () -> Decimal32.valueOf("1E+97", OverflowHandling.THROW_EXCEPTION));
+        assertEquals(0, overflowException.getStackTrace().length);
+        final DecimalInconvertibleException inconvertibleException = assertThrows(
+                DecimalInconvertibleException.class, Decimal32.POSITIVE_INFINITY::toBigDecimal);
+        assertEquals(0, inconvertibleException.getStackTrace().length);
+    }
+
+    @Test
+    void cachedValues_sharedInstance() {
+        for (int value = -128; value <= 1024; value++) {
+            final Decimal32 cached = Decimal32.valueOf(value, 0);
+            assertSame(cached, Decimal32.valueOf(String.valueOf(value)));
+            assertSame(cached, Decimal32.valueOf(BigDecimal.valueOf(value)));
+            assertSame(cached, Decimal32.parseBytes(cached.toBytes()));
+        }
+        for (int scale = 1; scale <= 4; scale++) {
+            for (int coefficient = 0; coefficient <= 100; coefficient++) {
+                final Decimal32 cached = Decimal32.valueOf(coefficient, scale);
+                assertSame(cached, Decimal32.valueOf(BigDecimal.valueOf(coefficient, scale).toString()));
+                assertSame(cached, Decimal32.parseBytes(cached.toBytes()));
+            }
+        }
+        assertSame(Decimal32.valueOf(10, 1), Decimal32.valueOf(1.0));
+        assertSame(Decimal32.valueOf(5, 0), Decimal32.valueOf(-5, 0).negate());
+    }
+
+    @Test
+    void valueOf_BigDecimal_roundsOnce() {
+        // Subnormal values and coefficients beyond the truncation to 35 digits must not be rounded twice
+        assertEquals("-4.7973E-97", Decimal32.valueOf(new BigDecimal("-4.7973499279318913699046E-97")).toString());
+        assertEquals("1.000000",
+                Decimal32.valueOf(new BigDecimal("1.00000049999999999999999999999999999999999999")).toString());
+        assertEquals("1.000001",
+                Decimal32.valueOf(new BigDecimal("1.00000050000000000000000000000000000000000001")).toString());
+    }
+
 }
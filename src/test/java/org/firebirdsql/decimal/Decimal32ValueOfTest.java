@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -87,6 +87,8 @@ class Decimal32ValueOfTest {
                 testCase("1200000E-107", "1E-101"),
                 testCase("1000000E-108", "0E-101"),
                 testCase("1230000E-108", "0E-101"),
+                // Rounding half even once, not first to the precision and then to the exponent range
+                testCase("12345650001E-106", "1.23457E-96"),
                 // specials
                 testCase("+Inf", "+Infinity"),
                 testCase("+inf", "+Infinity"),
@@ -27,11 +27,16 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import static org.firebirdsql.decimal.util.ByteArrayHelper.hexToBytes;
+import static org.firebirdsql.decimal.util.ByteArrayHelper.reverse;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class Decimal64ByteConversionTest {
@@ -58,6 +63,119 @@ class Decimal64ByteConversionTest {
         assertArrayEquals(targetBytes, result);
     }
 
+    @SuppressWarnings("unused")
+    @ParameterizedTest(name = "{index}: value {0} ({2})")
+    @MethodSource("data")
+    void testConversionFromBytesWithOffsetToDecimal64(String description, byte @Nullable [] sourceBytes,
+            Decimal64 decimalValue, byte @Nullable [] targetBytes) {
+        assumeTrue(sourceBytes != null, "No source bytes for " + description);
+        byte[] src = new byte[sourceBytes.length + 3];
+        Arrays.fill(src, (byte) -1);
+        System.arraycopy(sourceBytes, 0, src, 2, sourceBytes.length);
+
+        assertEquals(decimalValue, Decimal64.parseBytes(src, 2), "Expected " + description);
+    }
+
+    @SuppressWarnings("unused")
+    @ParameterizedTest(name = "{index}: value {0} ({2})")
+    @MethodSource("data")
+    void testConversionFromDecimal64ToBytesWithOffset(String description, byte @Nullable [] sourceBytes,
+            Decimal64 decimalValue, byte @Nullable [] targetBytes) {
+        assumeTrue(targetBytes != null, "No target bytes for " + description);
+        byte[] dest = new byte[targetBytes.length + 3];
+
+        assertEquals(targetBytes.length, decimalValue.toBytes(dest, 2), "bytes written");
+
+        assertArrayEquals(targetBytes, Arrays.copyOfRange(dest, 2, 2 + targetBytes.length));
+        assertEquals(0, dest[0] | dest[1] | dest[dest.length - 1], "bytes outside range modified");
+    }
+
+    @SuppressWarnings("unused")
+    @ParameterizedTest(name = "{index}: value {0} ({2})")
+    @MethodSource("data")
+    void testConversionFromLittleEndianBytesToDecimal64(String description, byte @Nullable [] sourceBytes,
+            Decimal64 decimalValue, byte @Nullable [] targetBytes) {
+        assumeTrue(sourceBytes != null, "No source bytes for " + description);
+        byte[] littleEndianBytes = reverse(sourceBytes);
+        byte[] src = new byte[sourceBytes.length + 1];
+        System.arraycopy(littleEndianBytes, 0, src, 1, littleEndianBytes.length);
+
+        assertEquals(decimalValue, Decimal64.parseBytes(littleEndianBytes, ByteOrder.LITTLE_ENDIAN),
+                "Expected " + description);
+        assertEquals(decimalValue, Decimal64.parseBytes(src, 1, ByteOrder.LITTLE_ENDIAN),
+                "Expected with offset " + description);
+    }
+
+    @SuppressWarnings("unused")
+    @ParameterizedTest(name = "{index}: value {0} ({2})")
+    @MethodSource("data")
+    void testConversionFromDecimal64ToLittleEndianBytes(String description, byte @Nullable [] sourceBytes,
+            Decimal64 decimalValue, byte @Nullable [] targetBytes) {
+        assumeTrue(targetBytes != null, "No target bytes for " + description);
+        byte[] dest = new byte[targetBytes.length + 1];
+
+        assertArrayEquals(reverse(targetBytes), decimalValue.toBytes(ByteOrder.LITTLE_ENDIAN));
+        decimalValue.toBytes(dest, 1, ByteOrder.LITTLE_ENDIAN);
+        assertArrayEquals(reverse(targetBytes), Arrays.copyOfRange(dest, 1, dest.length));
+    }
+
+    @SuppressWarnings("unused")
+    @ParameterizedTest(name = "{index}: value {0} ({2})")
+    @MethodSource("data")
+    void testConversionFromRawBitsToDecimal64(String description, byte @Nullable [] sourceBytes,
+            Decimal64 decimalValue, byte @Nullable [] targetBytes) {
+        assumeTrue(sourceBytes != null, "No source bytes for " + description);
+        long bits = ByteBuffer.wrap(sourceBytes).getLong();
+
+        assertEquals(decimalValue, Decimal64.fromRawBits(bits), "Expected " + description);
+    }
+
+    @SuppressWarnings("unused")
+    @ParameterizedTest(name = "{index}: value {0} ({2})")
+    @MethodSource("data")
+    void testConversionFromDecimal64ToRawBits(String description, byte @Nullable [] sourceBytes,
+            Decimal64 decimalValue, byte @Nullable [] targetBytes) {
+        assumeTrue(targetBytes != null, "No target bytes for " + description);
+        ByteBuffer expected = ByteBuffer.wrap(targetBytes);
+
+        assertEquals(expected.getLong(), decimalValue.toRawBits());
+    }
+
+    @SuppressWarnings("unused")
+    @ParameterizedTest(name = "{index}: value {0} ({2})")
+    @MethodSource("data")
+    void testConversionFromByteBufferToDecimal64(String description, byte @Nullable [] sourceBytes,
+            Decimal64 decimalValue, byte @Nullable [] targetBytes) {
+        assumeTrue(sourceBytes != null, "No source bytes for " + description);
+        ByteBuffer bigEndian = ByteBuffer.allocateDirect(sourceBytes.length + 2);
+        bigEndian.put((byte) 1).put(sourceBytes).put((byte) 2).position(1);
+        ByteBuffer littleEndian = ByteBuffer.wrap(reverse(sourceBytes)).order(ByteOrder.LITTLE_ENDIAN);
+
+        assertEquals(decimalValue, Decimal64.parseBytes(bigEndian), "Expected big-endian " + description);
+        assertEquals(sourceBytes.length + 1, bigEndian.position(), "position");
+        assertEquals(decimalValue, Decimal64.parseBytes(littleEndian), "Expected little-endian " + description);
+        assertFalse(littleEndian.hasRemaining(), "hasRemaining");
+    }
+
+    @SuppressWarnings("unused")
+    @ParameterizedTest(name = "{index}: value {0} ({2})")
+    @MethodSource("data")
+    void testConversionFromDecimal64ToByteBuffer(String description, byte @Nullable [] sourceBytes,
+            Decimal64 decimalValue, byte @Nullable [] targetBytes) {
+        assumeTrue(targetBytes != null, "No target bytes for " + description);
+        ByteBuffer bigEndian = ByteBuffer.allocateDirect(targetBytes.length + 1).position(1);
+        ByteBuffer littleEndian = ByteBuffer.allocate(targetBytes.length).order(ByteOrder.LITTLE_ENDIAN);
+
+        decimalValue.writeTo(bigEndian);
+        decimalValue.writeTo(littleEndian);
+
+        assertFalse(bigEndian.hasRemaining(), "hasRemaining");
+        byte[] bigEndianResult = new byte[targetBytes.length];
+        bigEndian.position(1).get(bigEndianResult);
+        assertArrayEquals(targetBytes, bigEndianResult);
+        assertArrayEquals(reverse(targetBytes), littleEndian.array());
+    }
+
     static Stream<Arguments> data() {
         return Stream.of(
                 testCase("POSITIVE_INFINITY",
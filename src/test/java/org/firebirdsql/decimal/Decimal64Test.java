@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018-2023 Firebird development team and individual contributors
+ * Copyright (c) 2018-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -28,6 +28,7 @@ import java.math.BigInteger;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -169,6 +170,26 @@ class Decimal64Test {
         }
     }
 
+    @Test
+    void toBigDecimal_cachesValue() {
+        Decimal64 decimal64Value = Decimal64.valueOf("1.23456E10");
+
+        assertSame(decimal64Value.toBigDecimal(), decimal64Value.toBigDecimal());
+    }
+
+    @Test
+    void fromRawBits_nonCanonicalDigitGroup_equalsCanonical() {
+        Decimal64 canonical = Decimal64.valueOf("12888");
+        // replace digit group 888 (0x06E) with its non-canonical encoding 0x36E
+        long nonCanonicalBits = canonical.toRawBits() | 0x300L;
+        Decimal64 decoded = Decimal64.fromRawBits(nonCanonicalBits);
+
+        assertEquals(canonical, decoded);
+        assertEquals(canonical.hashCode(), decoded.hashCode());
+        assertEquals(canonical.toRawBits(), decoded.toRawBits());
+        assertEquals(new BigDecimal("12888"), decoded.toBigDecimal());
+    }
+
     @Test
     void doubleValue_finiteValue() {
         String decimalString = "1.23456E10";
@@ -401,4 +422,149 @@ class Decimal64Test {
         assertEquals(new BigDecimal("1000000000000000E+1"), Decimal64.valueOf(value).toBigDecimal());
     }
 
+    @Test
+    void encodeAll_parseAll_roundTrip() {
+        final Decimal64[] values = { Decimal64.valueOf("1.23"), NEGATIVE_ZERO, Decimal64.NEGATIVE_INFINITY,
+                Decimal64.valueOf("-9.87E+12"), Decimal64.POSITIVE_SIGNALING_NAN };
+        final byte[] packed = new byte[1 + values.length * 8];
+
+        assertEquals(values.length * 8, Decimal64.encodeAll(values, packed, 1));
+
+        final Decimal64[] result = new Decimal64[values.length];
+        Decimal64.parseAll(packed, 1, values.length, result);
+        assertTrue(Arrays.equals(values, result), "Expected " + Arrays.toString(values));
+        for (int idx = 0; idx < values.length; idx++) {
+            final int start = 1 + idx * 8;
+            assertTrue(Arrays.equals(values[idx].toBytes(), Arrays.copyOfRange(packed, start, start + 8)),
+                    "Unexpected encoding of " + values[idx]);
+        }
+    }
+
+    @Test
+    void encodeAll_parseAll_BigDecimal_roundTrip() {
+        final BigDecimal[] values = { new BigDecimal("1.23"), BigDecimal.ZERO, new BigDecimal("-9.87E+12") };
+        final byte[] packed = new byte[values.length * 8];
+
+        assertEquals(values.length * 8, Decimal64.encodeAll(values, packed, 0));
+
+        final BigDecimal[] result = new BigDecimal[values.length];
+        Decimal64.parseAll(packed, 0, values.length, result);
+        assertTrue(Arrays.equals(values, result), "Expected " + Arrays.toString(values));
+    }
+
+    @Test
+    void parseAll_BigDecimal_special_throwsDecimalInconvertibleException() {
+        final byte[] packed = new byte[2 * 8];
+        Decimal64.encodeAll(new Decimal64[] { Decimal64.valueOf("1"), Decimal64.NEGATIVE_NAN }, packed, 0);
+
+        final var exception = assertThrows(DecimalInconvertibleException.class,
+                () -> Decimal64.parseAll(packed, 0, 2, new BigDecimal[2]));
+        assertEquals(DecimalType.NAN, exception.getDecimalType());
+        assertEquals(Signum.NEGATIVE, exception.getSignum());
+    }
+
+    @Test
+    void parseAll_outOfBounds() {
+        final byte[] packed = new byte[3 * 8];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.parseAll(packed, 1, 3, new Decimal64[3]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.parseAll(packed, 0, 3, new Decimal64[2]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.parseAll(packed, 0, -1, new Decimal64[2]));
+    }
+
+    @Test
+    void encodeAll_outOfBounds_nothingWritten() {
+        final byte[] dest = new byte[2 * 8];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.encodeAll(
+                new Decimal64[] { Decimal64.valueOf("1"), Decimal64.valueOf("2") }, dest, 1));
+        assertTrue(Arrays.equals(new byte[2 * 8], dest), "dest not modified");
+    }
+
+    @Test
+    void valueOf_long_int_sameAsBigDecimal() {
+        final long[] unscaledValues = { 0, 1, -1, 5, 1024, 1025, -128, -129, 12345, 9_999_999, 10_000_000,
+                99_999_995, 1_234_567_890_123_456_789L, 9_999_999_999_999_999L, 99_999_999_999_999_995L,
+                Long.MAX_VALUE, Long.MIN_VALUE, -Long.MAX_VALUE };
+        final int[] scales = { 0, 1, 2, 4, -3, 18, 100, 398, 6176, 7000, -90, -369, -6111, -7000 };
+        for (long unscaledValue : unscaledValues) {
+            for (int scale : scales) {
+                assertEquals(Decimal64.valueOf(BigDecimal.valueOf(unscaledValue, scale)),
+                        Decimal64.valueOf(unscaledValue, scale), unscaledValue + "E" + -scale);
+            }
+        }
+    }
+
+    @Test
+    void valueOf_long_int_overflow_ThrowException() {
+        assertThrows(DecimalOverflowException.class,
+                () -> Decimal64.valueOf(1, -7000, OverflowHandling.THROW_EXCEPTION));
+    }
+
+    @Test
+    void tryValueOf_overflow_null() {
+        assertNull(Decimal64.tryValueOf(new BigDecimal("1E+385")));
+        assertNull(Decimal64.tryValueOf(new BigDecimal("-1E+385")));
+        assertNull(Decimal64.tryValueOf(new BigDecimal("1E+385").toBigInteger()));
+        assertNull(Decimal64.tryValueOf("1E+385"));
+        assertNull(Decimal64.tryValueOf("-1E+385"));
+    }
+
+    @Test
+    void tryValueOf_inRange_sameAsValueOf() {
+        assertEquals(Decimal64.valueOf("9.999999999999999E+384"),
+                Decimal64.tryValueOf(new BigDecimal("9.999999999999999E+384")));
+        assertEquals(Decimal64.valueOf("1.23456789012345675E+5"), Decimal64.tryValueOf("1.23456789012345675E+5"));
+        assertEquals(Decimal64.valueOf(BigInteger.TEN), Decimal64.tryValueOf(BigInteger.TEN));
+        assertEquals(Decimal64.valueOf(0.1), Decimal64.tryValueOf(0.1));
+        assertEquals(Decimal64.valueOf("1E-7000"), Decimal64.tryValueOf("1E-7000"));
+    }
+
+    @Test
+    void tryValueOf_specialValues() {
+        assertSame(Decimal64.POSITIVE_INFINITY, Decimal64.tryValueOf("Infinity"));
+        assertSame(Decimal64.NEGATIVE_INFINITY, Decimal64.tryValueOf("-inf"));
+        assertSame(Decimal64.POSITIVE_NAN, Decimal64.tryValueOf("NaN"));
+        assertSame(Decimal64.NEGATIVE_INFINITY, Decimal64.tryValueOf(Double.NEGATIVE_INFINITY));
+        assertSame(Decimal64.POSITIVE_NAN, Decimal64.tryValueOf(Double.NaN));
+    }
+
+    @Test
+    void tryToBigDecimal() {
+        assertEquals(new BigDecimal("1.25"), Decimal64.valueOf("1.25").tryToBigDecimal());
+        assertNull(Decimal64.POSITIVE_INFINITY.tryToBigDecimal());
+        assertNull(Decimal64.NEGATIVE_NAN.tryToBigDecimal());
+        assertNull(Decimal64.POSITIVE_SIGNALING_NAN.tryToBigDecimal());
+    }
+
+    @Test
+    void cachedValues_sharedInstance() {
+        for (int value = -128; value <= 1024; value++) {
+            final Decimal64 cached = Decimal64.valueOf(value, 0);
+            assertSame(cached, Decimal64.valueOf(String.valueOf(value)));
+            assertSame(cached, Decimal64.valueOf(BigDecimal.valueOf(value)));
+            assertSame(cached, Decimal64.parseBytes(cached.toBytes()));
+        }
+        for (int scale = 1; scale <= 4; scale++) {
+            for (int coefficient = 0; coefficient <= 100; coefficient++) {
+                final Decimal64 cached = Decimal64.valueOf(coefficient, scale);
+                assertSame(cached, Decimal64.valueOf(BigDecimal.valueOf(coefficient, scale).toString()));
+                assertSame(cached, Decimal64.parseBytes(cached.toBytes()));
+            }
+        }
+        assertSame(Decimal64.valueOf(10, 1), Decimal64.valueOf(1.0));
+        assertSame(Decimal64.valueOf(5, 0), Decimal64.valueOf(-5, 0).negate());
+    }
+
+    @Test
+    void valueOf_BigDecimal_roundsOnce() {
+        // Subnormal values and coefficients beyond the truncation to 35 digits must not be rounded twice
+        assertEquals("-7.89740499269889E-384",
+                Decimal64.valueOf(new BigDecimal("-7.8974049926988853954911013368E-384")).toString());
+        assertEquals("1.000000000000000",
+                Decimal64.valueOf(new BigDecimal("1.00000000000000049999999999999999999999999999")).toString());
+        assertEquals("1.000000000000001",
+                Decimal64.valueOf(new BigDecimal("1.00000000000000050000000000000000000000000001")).toString());
+    }
+
 }
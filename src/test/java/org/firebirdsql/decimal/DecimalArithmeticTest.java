@@ -0,0 +1,563 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link DecimalArithmetic}, through the arithmetic methods of the decimal types.
+ */
+class DecimalArithmeticTest {
+
+    private static final int RANDOM_ITERATIONS = 50_000;
+
+    @ParameterizedTest
+    @MethodSource("addCases")
+    void decimal32_add(String x, String y, String expected) {
+        assertEquals(expected, Decimal32.valueOf(x).add(Decimal32.valueOf(y)).toString(), x + " + " + y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("addCases")
+    void decimal64_add(String x, String y, String expected) {
+        assertEquals(expected, Decimal64.valueOf(x).add(Decimal64.valueOf(y)).toString(), x + " + " + y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("addCases")
+    void decimal128_add(String x, String y, String expected) {
+        assertEquals(expected, Decimal128.valueOf(x).add(Decimal128.valueOf(y)).toString(), x + " + " + y);
+    }
+
+    static Stream<Arguments> addCases() {
+        return Stream.of(
+                Arguments.of("1", "2", "3"),
+                Arguments.of("1.5", "2.25", "3.75"),
+                Arguments.of("1E+2", "1", "101"),
+                Arguments.of("1.00", "-1", "0.00"),
+                Arguments.of("-1.00", "1", "0.00"),
+                Arguments.of("0", "0", "0"),
+                Arguments.of("-0", "-0E+3", "-0"),
+                Arguments.of("-0", "0", "0"),
+                Arguments.of("0E+2", "-0E-2", "0.00"),
+                Arguments.of("0E-1", "12", "12.0"),
+                Arguments.of("-0E+1", "12", "12"),
+                Arguments.of("NaN", "1", "+NaN"),
+                Arguments.of("1", "-NaN", "-NaN"),
+                Arguments.of("NaN", "-sNaN", "-NaN"),
+                Arguments.of("-sNaN", "NaN", "-NaN"),
+                Arguments.of("Infinity", "1", "+Infinity"),
+                Arguments.of("1", "-Infinity", "-Infinity"),
+                Arguments.of("Infinity", "Infinity", "+Infinity"),
+                Arguments.of("-Infinity", "Infinity", "+NaN"),
+                Arguments.of("Infinity", "NaN", "+NaN"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal64AddRoundingCases")
+    void decimal64_add_rounding(String x, String y, String expected) {
+        assertEquals(expected, Decimal64.valueOf(x).add(Decimal64.valueOf(y)).toString(), x + " + " + y);
+    }
+
+    static Stream<Arguments> decimal64AddRoundingCases() {
+        return Stream.of(
+                Arguments.of("9999999999999999", "1", "1.000000000000000E+16"),
+                Arguments.of("1234567890123456", "0.5", "1234567890123456"),
+                Arguments.of("1234567890123457", "0.5", "1234567890123458"),
+                Arguments.of("1234567890123456", "0.5000000000000001", "1234567890123457"),
+                Arguments.of("1234567890123456", "1E-300", "1234567890123456"),
+                Arguments.of("1E+16", "-1E-300", "1.000000000000000E+16"),
+                Arguments.of("1E+16", "-0.5", "1.000000000000000E+16"),
+                Arguments.of("1E+16", "-0.5000000000000001", "9999999999999999"),
+                Arguments.of("1E+16", "-1", "9999999999999999"),
+                Arguments.of("9.999999999999999E+384", "1E+369", "+Infinity"),
+                Arguments.of("-9.999999999999999E+384", "-4.9E+368", "-9.999999999999999E+384"),
+                Arguments.of("1E-398", "-1E-398", "0E-398"),
+                Arguments.of("1E+369", "1E+369", "2E+369"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("subtractCases")
+    void decimal64_subtract(String x, String y, String expected) {
+        assertEquals(expected, Decimal64.valueOf(x).subtract(Decimal64.valueOf(y)).toString(), x + " - " + y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("subtractCases")
+    void decimal128_subtract(String x, String y, String expected) {
+        assertEquals(expected, Decimal128.valueOf(x).subtract(Decimal128.valueOf(y)).toString(), x + " - " + y);
+    }
+
+    static Stream<Arguments> subtractCases() {
+        return Stream.of(
+                Arguments.of("3", "2", "1"),
+                Arguments.of("2", "3", "-1"),
+                Arguments.of("1.30", "1.3", "0.00"),
+                Arguments.of("-0", "0", "-0"),
+                Arguments.of("0", "-0", "0"),
+                Arguments.of("-0", "-0", "0"),
+                Arguments.of("Infinity", "Infinity", "+NaN"),
+                Arguments.of("Infinity", "-Infinity", "+Infinity"),
+                Arguments.of("1", "Infinity", "-Infinity"),
+                Arguments.of("1", "NaN", "+NaN"),
+                Arguments.of("1", "-sNaN", "-NaN"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("multiplyCases")
+    void decimal32_multiply(String x, String y, String expected) {
+        assertEquals(expected, Decimal32.valueOf(x).multiply(Decimal32.valueOf(y)).toString(), x + " * " + y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("multiplyCases")
+    void decimal64_multiply(String x, String y, String expected) {
+        assertEquals(expected, Decimal64.valueOf(x).multiply(Decimal64.valueOf(y)).toString(), x + " * " + y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("multiplyCases")
+    void decimal128_multiply(String x, String y, String expected) {
+        assertEquals(expected, Decimal128.valueOf(x).multiply(Decimal128.valueOf(y)).toString(), x + " * " + y);
+    }
+
+    static Stream<Arguments> multiplyCases() {
+        return Stream.of(
+                Arguments.of("2", "3", "6"),
+                Arguments.of("1.20", "3", "3.60"),
+                Arguments.of("-1.5", "2.5", "-3.75"),
+                Arguments.of("0", "-2", "-0"),
+                Arguments.of("-0", "-0E+2", "0E+2"),
+                Arguments.of("0.00", "1E+3", "0E+1"),
+                Arguments.of("NaN", "2", "+NaN"),
+                Arguments.of("2", "-NaN", "-NaN"),
+                Arguments.of("NaN", "-sNaN", "-NaN"),
+                Arguments.of("Infinity", "-2", "-Infinity"),
+                Arguments.of("-Infinity", "-Infinity", "+Infinity"),
+                Arguments.of("Infinity", "0", "+NaN"),
+                Arguments.of("-0E+5", "-Infinity", "+NaN"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal64MultiplyRoundingCases")
+    void decimal64_multiply_rounding(String x, String y, String expected) {
+        assertEquals(expected, Decimal64.valueOf(x).multiply(Decimal64.valueOf(y)).toString(), x + " * " + y);
+    }
+
+    static Stream<Arguments> decimal64MultiplyRoundingCases() {
+        return Stream.of(
+                Arguments.of("9999999999999999", "9999999999999999", "9.999999999999998E+31"),
+                Arguments.of("1234567890123456", "1234567890123456", "1.524157875323882E+30"),
+                Arguments.of("1.000000000000001", "1.000000000000001", "1.000000000000002"),
+                Arguments.of("1E+300", "1E+100", "+Infinity"),
+                Arguments.of("-1E+300", "1E+100", "-Infinity"),
+                Arguments.of("1E+200", "1E+100", "1E+300"),
+                Arguments.of("1E-300", "1E-100", "0E-398"),
+                Arguments.of("-1E-300", "1E-100", "-0E-398"),
+                Arguments.of("5E-200", "1E-199", "0E-398"),
+                Arguments.of("6E-200", "1E-199", "1E-398"),
+                Arguments.of("1.5E-200", "1E-198", "2E-398"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal128AddRoundingCases")
+    void decimal128_add_rounding(String x, String y, String expected) {
+        assertEquals(expected, Decimal128.valueOf(x).add(Decimal128.valueOf(y)).toString(), x + " + " + y);
+    }
+
+    static Stream<Arguments> decimal128AddRoundingCases() {
+        return Stream.of(
+                Arguments.of("9999999999999999999999999999999999", "1", "1.000000000000000000000000000000000E+34"),
+                Arguments.of("1234567890123456789012345678901234", "0.5", "1234567890123456789012345678901234"),
+                Arguments.of("1234567890123456789012345678901235", "0.5", "1234567890123456789012345678901236"),
+                Arguments.of("1234567890123456789012345678901234", "0.5000000000000000000000000000000001",
+                        "1234567890123456789012345678901235"),
+                Arguments.of("1E+34", "-0.5", "1.000000000000000000000000000000000E+34"),
+                Arguments.of("1E+34", "-0.5000000000000000000000000000000001", "9999999999999999999999999999999999"),
+                Arguments.of("1E+34", "-1E-6000", "1.000000000000000000000000000000000E+34"),
+                Arguments.of("1E+34", "-1", "9999999999999999999999999999999999"),
+                Arguments.of("9.999999999999999999999999999999999E+6144", "1E+6111", "+Infinity"),
+                Arguments.of("1E-6176", "-1E-6176", "0E-6176"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal128MultiplyRoundingCases")
+    void decimal128_multiply_rounding(String x, String y, String expected) {
+        assertEquals(expected, Decimal128.valueOf(x).multiply(Decimal128.valueOf(y)).toString(), x + " * " + y);
+    }
+
+    static Stream<Arguments> decimal128MultiplyRoundingCases() {
+        return Stream.of(
+                Arguments.of("9999999999999999999999999999999999", "9999999999999999999999999999999999",
+                        "9.999999999999999999999999999999998E+67"),
+                Arguments.of("1000000000000000000000000000000001", "1000000000000000000000000000000001",
+                        "1.000000000000000000000000000000002E+66"),
+                Arguments.of("1.000000000000000000000000000000001", "1.000000000000000000000000000000001",
+                        "1.000000000000000000000000000000002"),
+                Arguments.of("1.000000000000000050000000000000000", "1.000000000000000050000000000000000",
+                        "1.000000000000000100000000000000002"),
+                Arguments.of("123456789012345678", "1000000000000000001", "1.234567890123456781234567890123457E+35"),
+                Arguments.of("1E+6000", "1E+200", "+Infinity"),
+                Arguments.of("-1E-6000", "1E-200", "-0E-6176"),
+                Arguments.of("1.5E-6000", "1E-176", "2E-6176"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("divideCases")
+    void decimal32_divide(String x, String y, String expected) {
+        assertEquals(expected, Decimal32.valueOf(x).divide(Decimal32.valueOf(y)).toString(), x + " / " + y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("divideCases")
+    void decimal64_divide(String x, String y, String expected) {
+        assertEquals(expected, Decimal64.valueOf(x).divide(Decimal64.valueOf(y)).toString(), x + " / " + y);
+    }
+
+    @ParameterizedTest
+    @MethodSource("divideCases")
+    void decimal128_divide(String x, String y, String expected) {
+        assertEquals(expected, Decimal128.valueOf(x).divide(Decimal128.valueOf(y)).toString(), x + " / " + y);
+    }
+
+    static Stream<Arguments> divideCases() {
+        return Stream.of(
+                Arguments.of("6", "3", "2"),
+                Arguments.of("1", "4", "0.25"),
+                Arguments.of("1.00", "4", "0.25"),
+                Arguments.of("12", "12", "1"),
+                Arguments.of("8.00", "2", "4.00"),
+                Arguments.of("1000", "100", "10"),
+                Arguments.of("1E+3", "1E+1", "1E+2"),
+                Arguments.of("2.40", "-2", "-1.20"),
+                Arguments.of("2", "0.5", "4"),
+                Arguments.of("0", "5", "0"),
+                Arguments.of("0.00", "-5", "-0.00"),
+                Arguments.of("-0", "-1E+2", "0.00"),
+                Arguments.of("1", "0", "+Infinity"),
+                Arguments.of("-1", "0", "-Infinity"),
+                Arguments.of("1", "-0", "-Infinity"),
+                Arguments.of("0", "0", "+NaN"),
+                Arguments.of("-0", "0", "+NaN"),
+                Arguments.of("NaN", "0", "+NaN"),
+                Arguments.of("2", "-NaN", "-NaN"),
+                Arguments.of("-sNaN", "NaN", "-NaN"),
+                Arguments.of("Infinity", "-2", "-Infinity"),
+                Arguments.of("-Infinity", "0", "-Infinity"),
+                Arguments.of("Infinity", "Infinity", "+NaN"),
+                Arguments.of("NaN", "Infinity", "+NaN"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal64DivideRoundingCases")
+    void decimal64_divide_rounding(String x, String y, String expected) {
+        assertEquals(expected, Decimal64.valueOf(x).divide(Decimal64.valueOf(y)).toString(), x + " / " + y);
+    }
+
+    static Stream<Arguments> decimal64DivideRoundingCases() {
+        return Stream.of(
+                Arguments.of("1", "3", "0.3333333333333333"),
+                Arguments.of("2", "3", "0.6666666666666667"),
+                Arguments.of("-2", "3", "-0.6666666666666667"),
+                Arguments.of("1", "7", "0.1428571428571429"),
+                Arguments.of("9999999999999999", "1E-16", "9.999999999999999E+31"),
+                Arguments.of("1", "9999999999999999", "1.000000000000000E-16"),
+                Arguments.of("5", "1E+17", "5E-17"),
+                Arguments.of("2", "1.00000000000000E-12", "2E+12"),
+                Arguments.of("1E+300", "1E-100", "+Infinity"),
+                Arguments.of("-1E+300", "1E-100", "-Infinity"),
+                Arguments.of("1E-300", "1E+100", "0E-398"),
+                Arguments.of("-1E-300", "1E+100", "-0E-398"),
+                Arguments.of("1", "Infinity", "0E-398"),
+                Arguments.of("-1", "Infinity", "-0E-398"),
+                Arguments.of("1E+369", "1E-15", "1.000000000000000E+384"),
+                Arguments.of("1.5E-380", "1E+18", "2E-398"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal128DivideRoundingCases")
+    void decimal128_divide_rounding(String x, String y, String expected) {
+        assertEquals(expected, Decimal128.valueOf(x).divide(Decimal128.valueOf(y)).toString(), x + " / " + y);
+    }
+
+    static Stream<Arguments> decimal128DivideRoundingCases() {
+        return Stream.of(
+                Arguments.of("1", "3", "0.3333333333333333333333333333333333"),
+                Arguments.of("2", "3", "0.6666666666666666666666666666666667"),
+                Arguments.of("9999999999999999999999999999999999", "3", "3333333333333333333333333333333333"),
+                Arguments.of("9999999999999999999999999999999999", "9999999999999999999999999999999998",
+                        "1.000000000000000000000000000000000"),
+                Arguments.of("1", "9999999999999999999999999999999999", "1.000000000000000000000000000000000E-34"),
+                Arguments.of("1234567890123456789012345678901234", "1234567890123456789",
+                        "1000000000000000.000010000000000000"),
+                Arguments.of("123456789012345678901234567890", "1234567890123456789012345678.9", "1.0E+2"),
+                Arguments.of("1", "Infinity", "0E-6176"),
+                Arguments.of("1E+6000", "1E-200", "+Infinity"),
+                Arguments.of("1E-6000", "1E+200", "0E-6176"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fmaCases")
+    void decimal64_fma(String a, String b, String c, String expected) {
+        assertEquals(expected,
+                Decimal64.fma(Decimal64.valueOf(a), Decimal64.valueOf(b), Decimal64.valueOf(c)).toString(),
+                a + " * " + b + " + " + c);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fmaCases")
+    void decimal128_fma(String a, String b, String c, String expected) {
+        assertEquals(expected,
+                Decimal128.fma(Decimal128.valueOf(a), Decimal128.valueOf(b), Decimal128.valueOf(c)).toString(),
+                a + " * " + b + " + " + c);
+    }
+
+    static Stream<Arguments> fmaCases() {
+        return Stream.of(
+                Arguments.of("2", "3", "4", "10"),
+                Arguments.of("19.99", "3", "4.95", "64.92"),
+                Arguments.of("1.5", "-2", "3", "0.0"),
+                Arguments.of("-1", "1", "-0", "-1"),
+                Arguments.of("0", "-1", "0", "0"),
+                Arguments.of("0", "-1", "-0", "-0"),
+                Arguments.of("-0", "-1", "-0", "0"),
+                Arguments.of("0E+2", "1", "0E-3", "0.000"),
+                Arguments.of("NaN", "1", "2", "+NaN"),
+                Arguments.of("1", "2", "-NaN", "-NaN"),
+                Arguments.of("-NaN", "2", "sNaN", "+NaN"),
+                Arguments.of("sNaN", "-sNaN", "NaN", "+NaN"),
+                Arguments.of("Infinity", "0", "1", "+NaN"),
+                Arguments.of("0", "-Infinity", "Infinity", "+NaN"),
+                Arguments.of("Infinity", "0", "-NaN", "-NaN"),
+                Arguments.of("Infinity", "-2", "1", "-Infinity"),
+                Arguments.of("Infinity", "2", "-Infinity", "+NaN"),
+                Arguments.of("-Infinity", "2", "-Infinity", "-Infinity"),
+                Arguments.of("1E+10", "2", "-Infinity", "-Infinity"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal64FmaRoundingCases")
+    void decimal64_fma_rounding(String a, String b, String c, String expected) {
+        assertEquals(expected,
+                Decimal64.fma(Decimal64.valueOf(a), Decimal64.valueOf(b), Decimal64.valueOf(c)).toString(),
+                a + " * " + b + " + " + c);
+    }
+
+    static Stream<Arguments> decimal64FmaRoundingCases() {
+        return Stream.of(
+                // single rounding: 1.000000000000001^2 - 1 is not 2E-15
+                Arguments.of("1.000000000000001", "1.000000000000001", "-1", "2.000000000000001E-15"),
+                Arguments.of("9999999999999999", "9999999999999999", "-9.999999999999998E+31", "1"),
+                Arguments.of("1234567890123456", "0.5", "0.5", "617283945061728.5"),
+                Arguments.of("3333333333333333", "3", "0.5", "1.000000000000000E+16"),
+                Arguments.of("3333333333333333", "3", "-0.5", "9999999999999998"),
+                Arguments.of("1E+300", "1E+100", "-1E+369", "+Infinity"),
+                Arguments.of("1E-300", "1E-100", "0", "0E-398"),
+                Arguments.of("1E-300", "1E-100", "-0", "0E-398"),
+                Arguments.of("-1E-300", "1E-100", "-0", "-0E-398"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal128FmaRoundingCases")
+    void decimal128_fma_rounding(String a, String b, String c, String expected) {
+        assertEquals(expected,
+                Decimal128.fma(Decimal128.valueOf(a), Decimal128.valueOf(b), Decimal128.valueOf(c)).toString(),
+                a + " * " + b + " + " + c);
+    }
+
+    static Stream<Arguments> decimal128FmaRoundingCases() {
+        return Stream.of(
+                Arguments.of("1.000000000000000000000000000000001", "1.000000000000000000000000000000001", "-1",
+                        "2.000000000000000000000000000000001E-33"),
+                Arguments.of("9999999999999999999999999999999999", "9999999999999999999999999999999999",
+                        "-9.999999999999999999999999999999998E+67", "1"),
+                Arguments.of("123456789012345678", "1000000000000000001", "-123456789012345678123456789012345000",
+                        "678"),
+                Arguments.of("3333333333333333333333333333333333", "3", "0.5",
+                        "1.000000000000000000000000000000000E+34"),
+                Arguments.of("3333333333333333333333333333333333", "3", "-0.5", "9999999999999999999999999999999998"),
+                Arguments.of("1E+6000", "1E+200", "-1E+6111", "+Infinity"),
+                Arguments.of("-1E-6000", "1E-200", "-0", "-0E-6176"));
+    }
+
+    @Test
+    void decimal32_randomValues_sameAsBigDecimal() {
+        final Random random = new Random(1357);
+        for (int i = 0; i < RANDOM_ITERATIONS; i++) {
+            final Decimal32 x = randomDecimal(random, DecimalFormat.Decimal32, Decimal32::valueOf);
+            final Decimal32 y = randomDecimal(random, DecimalFormat.Decimal32, Decimal32::valueOf);
+            assertArithmeticSameAsBigDecimal(x, y, Decimal32::valueOf,
+                    Decimal32::add, Decimal32::subtract, Decimal32::multiply);
+            assertDivideSameAsBigDecimal(x, y, Decimal32::valueOf, Decimal32::divide);
+        }
+    }
+
+    @Test
+    void decimal64_randomValues_sameAsBigDecimal() {
+        final Random random = new Random(2468);
+        for (int i = 0; i < RANDOM_ITERATIONS; i++) {
+            final Decimal64 x = randomDecimal(random, DecimalFormat.Decimal64, Decimal64::valueOf);
+            final Decimal64 y = randomDecimal(random, DecimalFormat.Decimal64, Decimal64::valueOf);
+            assertArithmeticSameAsBigDecimal(x, y, Decimal64::valueOf,
+                    Decimal64::add, Decimal64::subtract, Decimal64::multiply);
+            assertDivideSameAsBigDecimal(x, y, Decimal64::valueOf, Decimal64::divide);
+            final Decimal64 z = randomDecimal(random, DecimalFormat.Decimal64, Decimal64::valueOf);
+            assertFmaSameAsBigDecimal(x, y, z, Decimal64::valueOf, Decimal64::fma);
+        }
+    }
+
+    @Test
+    void decimal128_randomValues_sameAsBigDecimal() {
+        final Random random = new Random(3579);
+        for (int i = 0; i < RANDOM_ITERATIONS; i++) {
+            final Decimal128 x = randomDecimal(random, DecimalFormat.Decimal128, Decimal128::valueOf);
+            final Decimal128 y = randomDecimal(random, DecimalFormat.Decimal128, Decimal128::valueOf);
+            assertArithmeticSameAsBigDecimal(x, y, Decimal128::valueOf,
+                    Decimal128::add, Decimal128::subtract, Decimal128::multiply);
+            assertDivideSameAsBigDecimal(x, y, Decimal128::valueOf, Decimal128::divide);
+            final Decimal128 z = randomDecimal(random, DecimalFormat.Decimal128, Decimal128::valueOf);
+            assertFmaSameAsBigDecimal(x, y, z, Decimal128::valueOf, Decimal128::fma);
+        }
+    }
+
+    /**
+     * Random finite value, with exponents close together or near the limits of the format in most cases.
+     */
+    static <T extends Decimal<T>> T randomDecimal(Random random, DecimalFormat decimalFormat,
+            Function<BigDecimal, T> valueOf) {
+        final int digits = decimalFormat.coefficientDigits;
+        final int minExponent = -decimalFormat.eLimit / 2 - digits + 1;
+        final int maxExponent = minExponent + decimalFormat.eLimit;
+        final BigInteger coefficient = switch (random.nextInt(4)) {
+            case 0 -> BigInteger.valueOf(random.nextInt(1000));
+            case 1 -> BigInteger.TEN.pow(digits).subtract(BigInteger.valueOf(random.nextInt(1000) + 1));
+            default -> new BigInteger(random.nextInt(digits) + 1 > 18 ? 120 : 64, random)
+                    .mod(BigInteger.TEN.pow(random.nextInt(digits) + 1));
+        };
+        final int exponent = switch (random.nextInt(4)) {
+            case 0 -> minExponent + random.nextInt(2 * digits);
+            case 1 -> maxExponent - random.nextInt(2 * digits);
+            case 2 -> random.nextInt(maxExponent - minExponent + 1) + minExponent;
+            default -> random.nextInt(2 * digits + 1) - digits;
+        };
+        final BigDecimal value = new BigDecimal(random.nextBoolean() ? coefficient : coefficient.negate(), -exponent);
+        final T decimal = valueOf.apply(value);
+        // Negative zero is not produced through BigDecimal
+        return coefficient.signum() == 0 && random.nextBoolean() ? decimal.negate() : decimal;
+    }
+
+    /**
+     * Asserts that the result of an operation on finite values is the exact BigDecimal result rounded once (by
+     * {@code valueOf(BigDecimal)}), including its exponent.
+     *
+     * @param zeroSignum
+     *         Expected signum if the exact result is zero
+     */
+    static <T extends Decimal<T>> void assertSameAsBigDecimal(T x, T y, BinaryOperator<T> operation,
+            BinaryOperator<BigDecimal> bigDecimalOperation, Function<BigDecimal, T> valueOf, int zeroSignum) {
+        final BigDecimal exact = bigDecimalOperation.apply(x.toBigDecimal(), y.toBigDecimal());
+        T expected = valueOf.apply(exact);
+        if (exact.signum() == 0 && zeroSignum == Signum.NEGATIVE) {
+            expected = expected.negate();
+        }
+        assertEquals(expected.toString(), operation.apply(x, y).toString(), x + ", " + y);
+    }
+
+    static <T extends Decimal<T>> void assertArithmeticSameAsBigDecimal(T x, T y, Function<BigDecimal, T> valueOf,
+            BinaryOperator<T> add, BinaryOperator<T> subtract, BinaryOperator<T> multiply) {
+        final int xSignum = x.signum();
+        final int ySignum = y.signum();
+        assertSameAsBigDecimal(x, y, add, BigDecimal::add, valueOf,
+                xSignum == Signum.NEGATIVE && ySignum == Signum.NEGATIVE ? Signum.NEGATIVE : Signum.POSITIVE);
+        assertSameAsBigDecimal(x, y, subtract, BigDecimal::subtract, valueOf,
+                xSignum == Signum.NEGATIVE && ySignum == Signum.POSITIVE ? Signum.NEGATIVE : Signum.POSITIVE);
+        assertSameAsBigDecimal(x, y, multiply, BigDecimal::multiply, valueOf,
+                xSignum == ySignum ? Signum.POSITIVE : Signum.NEGATIVE);
+    }
+
+    /**
+     * Asserts that the quotient of finite values is the exact quotient rounded once (by {@code valueOf(BigDecimal)}),
+     * with the ideal exponent for an exact quotient.
+     */
+    static <T extends Decimal<T>> void assertDivideSameAsBigDecimal(T x, T y, Function<BigDecimal, T> valueOf,
+            BinaryOperator<T> divide) {
+        if (y.isEquivalentToZero()) {
+            return;
+        }
+        final BigDecimal dividend = x.toBigDecimal();
+        final BigDecimal divisor = y.toBigDecimal();
+        BigDecimal quotient;
+        try {
+            // Exact quotient with the preferred scale
+            quotient = dividend.divide(divisor);
+        } catch (ArithmeticException e) {
+            // Non-terminating: truncate the magnitude to more digits than the precision, with a sticky digit
+            final BigInteger[] quotientAndRemainder = dividend.unscaledValue().abs().multiply(BigInteger.TEN.pow(80))
+                    .divideAndRemainder(divisor.unscaledValue().abs());
+            quotient = new BigDecimal(quotientAndRemainder[0].multiply(BigInteger.TEN).add(BigInteger.ONE),
+                    dividend.scale() - divisor.scale() + 81);
+            if (dividend.signum() != divisor.signum()) {
+                quotient = quotient.negate();
+            }
+        }
+        T expected = valueOf.apply(quotient);
+        if (quotient.signum() == 0 && x.signum() != y.signum()) {
+            expected = expected.negate();
+        }
+        assertEquals(expected.toString(), divide.apply(x, y).toString(), x + " / " + y);
+    }
+
+    /**
+     * Asserts that the fused multiply-add of finite values is the exact BigDecimal result rounded once (by
+     * {@code valueOf(BigDecimal)}).
+     */
+    static <T extends Decimal<T>> void assertFmaSameAsBigDecimal(T a, T b, T c, Function<BigDecimal, T> valueOf,
+            TernaryOperator<T> fma) {
+        final BigDecimal exact = a.toBigDecimal().multiply(b.toBigDecimal()).add(c.toBigDecimal());
+        T expected = valueOf.apply(exact);
+        final int productSignum = a.signum() == b.signum() ? Signum.POSITIVE : Signum.NEGATIVE;
+        if (exact.signum() == 0 && productSignum == Signum.NEGATIVE && c.signum() == Signum.NEGATIVE) {
+            expected = expected.negate();
+        }
+        assertEquals(expected.toString(), fma.apply(a, b, c).toString(), a + " * " + b + " + " + c);
+    }
+
+    @FunctionalInterface
+    interface TernaryOperator<T> {
+
+        T apply(T a, T b, T c);
+
+    }
+
+}
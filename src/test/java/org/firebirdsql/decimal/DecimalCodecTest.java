@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2023 Firebird development team and individual contributors
+ * Copyright (c) 2017-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -28,25 +28,38 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class DecimalCodecTest {
 
     @Test
-    void testCalculateExponent() {
-        assertEquals(0b01000001, DecimalCodec.decodeExponent(new byte[] { -1, 0b0100 }, 1, 6));
-        assertEquals(0b01000011, DecimalCodec.decodeExponent(new byte[] { -1, 0b1111 }, 1, 6));
-        assertEquals(0b01000010, DecimalCodec.decodeExponent(new byte[] { -1, 0b01000 }, 1, 6));
-        assertEquals(0b01000100, DecimalCodec.decodeExponent(new byte[] { -1, 0b010000 }, 1, 6));
-        assertEquals(0b01001000, DecimalCodec.decodeExponent(new byte[] { -1, 0b0100000 }, 1, 6));
-        assertEquals(0b01010000, DecimalCodec.decodeExponent(new byte[] { -1, 0b01000000 }, 1, 6));
-        assertEquals(0b01100000, DecimalCodec.decodeExponent(new byte[] { -1, (byte) 0b10000000 }, 1, 6));
-        assertEquals(0b0110000, DecimalCodec.decodeExponent(new byte[] { -1, (byte) 0b10000000 }, 1, 5));
-        assertEquals(0b011000, DecimalCodec.decodeExponent(new byte[] { -1, (byte) 0b10000000 }, 1, 4));
-        assertEquals(0b01100, DecimalCodec.decodeExponent(new byte[] { -1, (byte) 0b10000000 }, 1, 3));
-        assertEquals(0b0110, DecimalCodec.decodeExponent(new byte[] { -1, (byte) 0b10000000 }, 1, 2));
-        assertEquals(0b011, DecimalCodec.decodeExponent(new byte[] { -1, (byte) 0b10000000 }, 1, 1));
-        assertEquals(0b01, DecimalCodec.decodeExponent(new byte[] { -1, (byte) 0b10000000 }, 1, 0));
-        assertEquals(0b0100001111, DecimalCodec.decodeExponent(new byte[] { -1, 0b1111 }, 1, 8));
-        assertEquals(0b0100001100, DecimalCodec.decodeExponent(new byte[] { -1, 0b1100 }, 1, 8));
-        assertEquals(0b01000011111, DecimalCodec.decodeExponent(new byte[] { -1, 0b1111, -1 }, 1, 9));
-        assertEquals(0b01000011001, DecimalCodec.decodeExponent(new byte[] { -1, 0b1100, -1 }, 1, 9));
-        assertEquals(0b010000110011, DecimalCodec.decodeExponent(new byte[] { -1, 0b1100, -1 }, 1, 10));
+    void exponent_decimal32() {
+        assertExponent(0, Decimal32.valueOf("1"));
+        assertExponent(5, Decimal32.valueOf("1E+5"));
+        assertExponent(-2, Decimal32.valueOf("-1.25"));
+        assertExponent(-101, Decimal32.valueOf("1E-101"));
+        // first digit 8 or 9: exponent MSBs in the second and third bits of the combination field
+        assertExponent(90, Decimal32.valueOf("9.999999E+96"));
+        assertExponent(-101, Decimal32.valueOf(8_000_000, 101));
     }
 
-}
\ No newline at end of file
+    @Test
+    void exponent_decimal64() {
+        assertExponent(0, Decimal64.valueOf("1"));
+        assertExponent(5, Decimal64.valueOf("1E+5"));
+        assertExponent(-2, Decimal64.valueOf("-1.25"));
+        assertExponent(-398, Decimal64.valueOf("1E-398"));
+        assertExponent(369, Decimal64.valueOf("9.999999999999999E+384"));
+        assertExponent(-398, Decimal64.valueOf(8_000_000_000_000_000L, 398));
+    }
+
+    @Test
+    void exponent_decimal128() {
+        assertExponent(0, Decimal128.valueOf("1"));
+        assertExponent(5, Decimal128.valueOf("1E+5"));
+        assertExponent(-2, Decimal128.valueOf("-1.25"));
+        assertExponent(-6176, Decimal128.valueOf("1E-6176"));
+        assertExponent(6111, Decimal128.valueOf("9.999999999999999999999999999999999E+6144"));
+        assertExponent(-6176, Decimal128.valueOf("8.000000000000000000000000000000000E-6143"));
+    }
+
+    private static <T extends Decimal<T>> void assertExponent(final int expected, final T decimal) {
+        assertEquals(expected, decimal.getDecimalCodec().exponent(decimal));
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link DecimalFormatter}, through {@code toString()}, {@code appendTo}, {@code writeAscii} and
+ * {@code toPlainString()}.
+ */
+class DecimalFormatterTest {
+
+    @ParameterizedTest
+    @MethodSource("decimal32Values")
+    void decimal32_format(String value, String expectedString, String expectedPlainString) throws IOException {
+        assertFormat(Decimal32.valueOf(value), expectedString, expectedPlainString);
+    }
+
+    static Stream<Arguments> decimal32Values() {
+        return Stream.of(
+                Arguments.of("0", "0", "0"),
+                Arguments.of("-0", "-0", "-0"),
+                Arguments.of("0E+3", "0E+3", "0"),
+                Arguments.of("-0E-8", "-0E-8", "-0.00000000"),
+                Arguments.of("123", "123", "123"),
+                Arguments.of("-1.23", "-1.23", "-1.23"),
+                Arguments.of("1.23E+3", "1.23E+3", "1230"),
+                Arguments.of("0.000001", "0.000001", "0.000001"),
+                Arguments.of("1E-7", "1E-7", "0.0000001"),
+                Arguments.of("1.2345E-9", "1.2345E-9", "0.0000000012345"),
+                Arguments.of("12E-1", "1.2", "1.2"),
+                Arguments.of("9999999E+90", "9.999999E+96", "9999999" + "0".repeat(90)),
+                Arguments.of("1E-101", "1E-101", "0." + "0".repeat(100) + "1"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decimal128Values")
+    void decimal128_format(String value, String expectedString, String expectedPlainString) throws IOException {
+        assertFormat(Decimal128.valueOf(value), expectedString, expectedPlainString);
+    }
+
+    static Stream<Arguments> decimal128Values() {
+        return Stream.of(
+                Arguments.of("1234567890123456789012345678901234", "1234567890123456789012345678901234",
+                        "1234567890123456789012345678901234"),
+                Arguments.of("-1.000000000000000000000000000000001E-6143", "-1.000000000000000000000000000000001E-6143",
+                        "-0." + "0".repeat(6142) + "1000000000000000000000000000000001"),
+                Arguments.of("123456789012345678901234.5678901234", "123456789012345678901234.5678901234",
+                        "123456789012345678901234.5678901234"),
+                Arguments.of("1000000000000000000", "1000000000000000000", "1000000000000000000"),
+                Arguments.of("1000000000000000000E-19", "0.1000000000000000000", "0.1000000000000000000"),
+                Arguments.of("9.999999999999999999999999999999999E+6144", "9.999999999999999999999999999999999E+6144",
+                        "9999999999999999999999999999999999" + "0".repeat(6111)));
+    }
+
+    @Test
+    void specials_format() throws IOException {
+        assertFormat(Decimal32.POSITIVE_INFINITY, "+Infinity", "+Infinity");
+        assertFormat(Decimal64.NEGATIVE_INFINITY, "-Infinity", "-Infinity");
+        assertFormat(Decimal128.POSITIVE_NAN, "+NaN", "+NaN");
+        assertFormat(Decimal32.NEGATIVE_NAN, "-NaN", "-NaN");
+        assertFormat(Decimal64.POSITIVE_SIGNALING_NAN, "+sNaN", "+sNaN");
+        assertFormat(Decimal128.NEGATIVE_SIGNALING_NAN, "-sNaN", "-sNaN");
+    }
+
+    @Test
+    void appendTo_appendsToExistingContent() throws IOException {
+        final Decimal64 decimal = Decimal64.valueOf("-12.50");
+
+        assertEquals("x=-12.50", decimal.appendTo(new StringBuilder("x=")).toString());
+        assertEquals("x=-12.50", decimal.appendPlainTo(new StringBuilder("x=")).toString());
+        final StringWriter writer = new StringWriter().append("x=");
+        assertSame(writer, decimal.appendTo(writer));
+        assertEquals("x=-12.50", writer.toString());
+    }
+
+    @Test
+    void writeAscii_insufficientSpace_writesNothing() {
+        final Decimal128 decimal = Decimal128.valueOf("-1.234567890123456789012345678901234E-6000");
+        final int length = decimal.toString().length();
+        final byte[] dest = new byte[length + 2];
+
+        assertThrows(IndexOutOfBoundsException.class, () -> decimal.writeAscii(dest, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> decimal.writeAscii(dest, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal32.NEGATIVE_INFINITY.writeAscii(new byte[8], 0));
+        assertArrayEquals(new byte[length + 2], dest);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(length - 1);
+        assertThrows(BufferOverflowException.class, () -> decimal.writeAscii(buffer));
+        assertEquals(0, buffer.position());
+        assertArrayEquals(new byte[length - 1], buffer.array());
+    }
+
+    @Test
+    void writeAscii_readOnlyBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocate(100).asReadOnlyBuffer();
+
+        assertThrows(ReadOnlyBufferException.class, () -> Decimal64.valueOf("1.5").writeAscii(buffer));
+    }
+
+    @Test
+    void randomValues_sameAsBigDecimal() throws IOException {
+        final Random random = new Random(8765);
+        assertSameAsBigDecimal(random, 4, Decimal32::parseBytes);
+        assertSameAsBigDecimal(random, 8, Decimal64::parseBytes);
+        assertSameAsBigDecimal(random, 16, Decimal128::parseBytes);
+    }
+
+    private static void assertSameAsBigDecimal(Random random, int byteLength, Function<byte[], Decimal<?>> parser)
+            throws IOException {
+        final byte[] bytes = new byte[byteLength];
+        for (int i = 0; i < 10_000; i++) {
+            random.nextBytes(bytes);
+            if (i % 2 == 0) {
+                // Exponents around zero, for plain notation and short plain strings
+                bytes[0] = (byte) (bytes[0] & 0b1000_0011 | 0b0010_0000);
+            }
+            final Decimal<?> decimal = parser.apply(bytes);
+            if (decimal.getType() != DecimalType.FINITE) {
+                continue;
+            }
+            final BigDecimal bigDecimal = decimal.toBigDecimal();
+            final String prefix = decimal.signum() == Signum.NEGATIVE && bigDecimal.signum() == 0 ? "-" : "";
+
+            assertFormat(decimal, prefix + bigDecimal, prefix + bigDecimal.toPlainString());
+        }
+    }
+
+    private static void assertFormat(Decimal<?> decimal, String expectedString, String expectedPlainString)
+            throws IOException {
+        assertEquals(expectedString, decimal.toString(), "toString");
+        assertEquals(expectedString, decimal.appendTo(new StringBuilder()).toString(), "appendTo(StringBuilder)");
+        assertEquals(expectedString, decimal.appendTo(new StringWriter()).toString(), "appendTo(Writer)");
+        final CharBuffer charBuffer = CharBuffer.allocate(DecimalFormatter.MAX_SCIENTIFIC_LENGTH);
+        decimal.appendTo(charBuffer);
+        assertEquals(expectedString, charBuffer.flip().toString(), "appendTo(Appendable)");
+        final byte[] expectedBytes = expectedString.getBytes(StandardCharsets.US_ASCII);
+        // Exact size and with extra space before and after
+        final byte[] exact = new byte[expectedBytes.length];
+        assertEquals(expectedBytes.length, decimal.writeAscii(exact, 0), "writeAscii(byte[], int) length");
+        assertArrayEquals(expectedBytes, exact, "writeAscii(byte[], int)");
+        final byte[] larger = new byte[expectedBytes.length + 10];
+        assertEquals(expectedBytes.length, decimal.writeAscii(larger, 5), "writeAscii(byte[], int) length");
+        assertArrayEquals(expectedBytes, Arrays.copyOfRange(larger, 5, 5 + expectedBytes.length),
+                "writeAscii(byte[], int)");
+        for (ByteBuffer buffer : List.of(ByteBuffer.allocate(100), ByteBuffer.allocateDirect(100),
+                ByteBuffer.allocate(expectedBytes.length))) {
+            assertEquals(expectedBytes.length, decimal.writeAscii(buffer), "writeAscii(ByteBuffer) length");
+            final byte[] written = new byte[buffer.flip().remaining()];
+            buffer.get(written);
+            assertArrayEquals(expectedBytes, written, "writeAscii(ByteBuffer)");
+        }
+        assertEquals(expectedPlainString, decimal.toPlainString(), "toPlainString");
+        assertEquals(expectedPlainString, decimal.appendPlainTo(new StringBuilder()).toString(), "appendPlainTo");
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalInternerTest {
+
+    @Test
+    void parseBytes_returnsSharedInstance() {
+        final DecimalInterner<Decimal64> interner = Decimal64.newInterner(64);
+        final byte[] bytes = Decimal64.valueOf("123.45").toBytes();
+
+        final Decimal64 first = interner.parseBytes(bytes);
+        final Decimal64 second = interner.parseBytes(bytes.clone());
+
+        assertSame(first, second);
+        assertEquals(Decimal64.valueOf("123.45"), first);
+        assertEquals(1, interner.hitCount());
+        assertEquals(1, interner.missCount());
+        assertEquals(0.5, interner.hitRate());
+    }
+
+    @Test
+    void hitRate_nothingLookedUp() {
+        assertEquals(0.0, Decimal64.newInterner(8).hitRate());
+    }
+
+    @Test
+    void parseBytes_offsetAndByteOrder() {
+        final DecimalInterner<Decimal128> interner = Decimal128.newInterner(64);
+        final Decimal128 value = Decimal128.valueOf("-1.234567890123456789012345678901234E+6000");
+        final byte[] bigEndian = new byte[20];
+        final byte[] littleEndian = new byte[20];
+        value.toBytes(bigEndian, 3, ByteOrder.BIG_ENDIAN);
+        value.toBytes(littleEndian, 1, ByteOrder.LITTLE_ENDIAN);
+
+        final Decimal128 first = interner.parseBytes(bigEndian, 3, ByteOrder.BIG_ENDIAN);
+
+        assertEquals(value, first);
+        assertSame(first, interner.parseBytes(littleEndian, 1, ByteOrder.LITTLE_ENDIAN));
+        assertThrows(IndexOutOfBoundsException.class, () -> interner.parseBytes(bigEndian, 5, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    void parseBytes_wrongLength() {
+        final DecimalInterner<Decimal32> interner = Decimal32.newInterner(8);
+
+        assertThrows(IllegalArgumentException.class, () -> interner.parseBytes(new byte[8]));
+    }
+
+    @Test
+    void parseBytes_special() {
+        final DecimalInterner<Decimal32> interner = Decimal32.newInterner(8);
+
+        assertSame(Decimal32.NEGATIVE_INFINITY, interner.parseBytes(Decimal32.NEGATIVE_INFINITY.toBytes()));
+        assertSame(Decimal32.NEGATIVE_INFINITY, interner.parseBytes(Decimal32.NEGATIVE_INFINITY.toBytes()));
+    }
+
+    @Test
+    void intern_returnsFirstInstance() {
+        final DecimalInterner<Decimal64> interner = Decimal64.newInterner(8);
+        final Decimal64 first = Decimal64.valueOf("9876.54321");
+        final Decimal64 second = Decimal64.valueOf("9876.54321");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.parseBytes(second.toBytes()));
+    }
+
+    @Test
+    void maximumSize_bounded() {
+        final DecimalInterner<Decimal64> interner = Decimal64.newInterner(100);
+        assertEquals(128, interner.maximumSize());
+
+        final Decimal64 first = interner.parseBytes(Decimal64.valueOf(1_000_000, 2).toBytes());
+        for (int value = 1; value <= 1000; value++) {
+            interner.parseBytes(Decimal64.valueOf(1_000_000 + value, 2).toBytes());
+        }
+
+        assertEquals(1001, interner.missCount());
+        assertNotSame(first, interner.parseBytes(Decimal64.valueOf(1_000_000, 2).toBytes()));
+    }
+
+    @Test
+    void eviction_referencedEntrySurvives() {
+        // A single set, so eviction order is deterministic
+        final DecimalInterner<Decimal64> interner = Decimal64.newInterner(ClockTable.WAYS);
+        final Decimal64 referenced = interner.intern(Decimal64.valueOf(5000, 0));
+        for (int value = 1; value < ClockTable.WAYS; value++) {
+            interner.intern(Decimal64.valueOf(5000 + value, 0));
+        }
+        assertSame(referenced, interner.intern(Decimal64.valueOf(5000, 0)));
+
+        interner.intern(Decimal64.valueOf(6000, 0));
+
+        assertSame(referenced, interner.intern(Decimal64.valueOf(5000, 0)));
+        final Decimal64 unreferenced = Decimal64.valueOf(5001, 0);
+        assertSame(unreferenced, interner.intern(unreferenced));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1, (1 << 24) + 1 })
+    void newInterner_invalidMaximumSize(int maximumSize) {
+        assertThrows(IllegalArgumentException.class, () -> Decimal128.newInterner(maximumSize));
+    }
+
+}
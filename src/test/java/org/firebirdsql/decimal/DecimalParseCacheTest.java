@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DecimalParseCacheTest {
+
+    @Test
+    void valueOf_returnsCachedDecimal() {
+        final DecimalParseCache<Decimal128> cache = Decimal128.newParseCache(64);
+
+        final Decimal128 first = cache.valueOf("1234.5678");
+        final Decimal128 second = cache.valueOf(new String("1234.5678".toCharArray()));
+
+        assertSame(first, second);
+        assertEquals(Decimal128.valueOf("1234.5678"), first);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.5, cache.hitRate());
+    }
+
+    @Test
+    void hitRate_nothingParsed() {
+        assertEquals(0.0, Decimal64.newParseCache(8).hitRate());
+    }
+
+    @Test
+    void valueOf_overflowHandlingIsPartOfKey() {
+        final DecimalParseCache<Decimal32> cache = Decimal32.newParseCache(8);
+
+        assertSame(Decimal32.POSITIVE_INFINITY, cache.valueOf("1E+200"));
+        assertThrows(DecimalOverflowException.class,
+                () -> cache.valueOf("1E+200", OverflowHandling.THROW_EXCEPTION));
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void valueOf_invalid_notCached() {
+        final DecimalParseCache<Decimal64> cache = Decimal64.newParseCache(8);
+
+        assertThrows(NumberFormatException.class, () -> cache.valueOf("12x"));
+        assertThrows(NumberFormatException.class, () -> cache.valueOf("12x"));
+        assertEquals(0, cache.hitCount());
+        assertEquals(2, cache.missCount());
+    }
+
+    @Test
+    void maximumSize_bounded() {
+        final DecimalParseCache<Decimal64> cache = Decimal64.newParseCache(100);
+        assertEquals(128, cache.maximumSize());
+
+        final Decimal64 first = cache.valueOf("10000.00");
+        for (int value = 1; value <= 1000; value++) {
+            cache.valueOf((10000 + value) + ".00");
+        }
+
+        assertEquals(1001, cache.missCount());
+        assertNotSame(first, cache.valueOf("10000.00"));
+    }
+
+    @Test
+    void valueOf_similarStrings_halfCapacityAllCached() {
+        // Similar literals must spread over all sets, so nothing is evicted while the cache is half empty
+        final DecimalParseCache<Decimal64> cache = Decimal64.newParseCache(4096);
+        final int count = cache.maximumSize() / 2;
+        for (int pass = 0; pass < 2; pass++) {
+            for (int cents = 100; cents < 100 + count; cents++) {
+                cache.valueOf(cents / 100 + "." + String.format("%02d", cents % 100));
+            }
+        }
+
+        assertEquals(count, cache.missCount());
+        assertEquals(count, cache.hitCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1, (1 << 24) + 1 })
+    void newParseCache_invalidMaximumSize(int maximumSize) {
+        assertThrows(IllegalArgumentException.class, () -> Decimal32.newParseCache(maximumSize));
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link DecimalParser}, through {@code valueOf(CharSequence, int, int)}, {@code valueOf(String)} and
+ * {@code valueOf(byte[], int, int)}.
+ */
+class DecimalParserTest {
+
+    @Test
+    void valueOf_charSequenceRange() {
+        final StringBuilder value = new StringBuilder("id=42;amount=-123.4500E+3;currency=EUR");
+
+        assertEquals(Decimal32.valueOf("-123.4500E+3"), Decimal32.valueOf(value, 13, 25));
+        assertEquals(Decimal64.valueOf("-123.4500E+3"), Decimal64.valueOf(value, 13, 25));
+        assertEquals(Decimal128.valueOf("-123.4500E+3"), Decimal128.valueOf(value, 13, 25));
+    }
+
+    @Test
+    void valueOf_charSequenceRange_special() {
+        final String value = "a,-Infinity,b";
+
+        assertEquals(Decimal64.NEGATIVE_INFINITY, Decimal64.valueOf(value, 2, 11));
+    }
+
+    @Test
+    void valueOf_charSequenceRange_outOfBounds() {
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.valueOf("123", -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.valueOf("123", 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.valueOf("123", 2, 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "+", "-", ".", "-.", "e5", ".e5", "1e", "1e+", "1E-", "1..2", "1.2.3", "1e5.0",
+            "1e5e6", " 1", "1 ", "1_000", "0x10", "1e12345678901", "-i", "1e+-5" })
+    void valueOf_invalid_throwsNumberFormatException(String value) {
+        assertThrows(NumberFormatException.class, () -> Decimal32.valueOf(value));
+        assertThrows(NumberFormatException.class, () -> Decimal64.valueOf(value));
+        assertThrows(NumberFormatException.class, () -> Decimal128.valueOf(value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1.", ".5", "-.5", "+1.e3", "00012.3400", "0.000", "-0E-5", "1E+0000000012",
+            "\u0661\u0662\u0663.\u0664" })
+    void valueOf_sameAsBigDecimal(String value) {
+        assertEquals(Decimal64.valueOf(new BigDecimal(value)).toBigDecimal(), Decimal64.valueOf(value).toBigDecimal());
+    }
+
+    @Test
+    void valueOf_negativeZeroPreserved() {
+        assertEquals(Signum.NEGATIVE, Decimal64.valueOf("-0.00").signum());
+        assertEquals(Signum.NEGATIVE, Decimal32.valueOf("-1E-200").signum());
+        assertEquals(Signum.POSITIVE, Decimal128.valueOf("+0E+10").signum());
+    }
+
+    @Test
+    void valueOf_outOfRange_throwException() {
+        assertThrows(DecimalOverflowException.class,
+                () -> Decimal64.valueOf("1234567890123456E+370", OverflowHandling.THROW_EXCEPTION));
+        assertThrows(DecimalOverflowException.class, () -> Decimal128.valueOf(
+                "-99999999999999999999999999999999995E+6111", OverflowHandling.THROW_EXCEPTION));
+    }
+
+    @Test
+    void valueOf_roundingCarry() {
+        assertEquals("1.000000E+7", Decimal32.valueOf("9999999.5").toString());
+        assertEquals("1.000000000000000000000000000000000E+34",
+                Decimal128.valueOf("9999999999999999999999999999999999.5").toString());
+        assertEquals("+Infinity", Decimal32.valueOf("9.9999995E+96").toString());
+    }
+
+    @Test
+    void valueOf_randomValues_sameAsBigDecimalRounding() {
+        final Random random = new Random(4321);
+        for (int i = 0; i < 2000; i++) {
+            final StringBuilder digits = new StringBuilder();
+            final int digitCount = 1 + random.nextInt(45);
+            for (int j = 0; j < digitCount; j++) {
+                digits.append((char) ('0' + (random.nextInt(3) == 0 ? 9 : random.nextInt(10))));
+            }
+            final String value = (random.nextBoolean() ? "-" : "") + digits + "E" + (random.nextInt(100) - 60);
+
+            assertRoundedOnce(DecimalFormat.Decimal32, Decimal32.valueOf(value), value);
+            assertRoundedOnce(DecimalFormat.Decimal64, Decimal64.valueOf(value), value);
+            assertRoundedOnce(DecimalFormat.Decimal128, Decimal128.valueOf(value), value);
+        }
+    }
+
+    @Test
+    void valueOf_asciiRange() {
+        final byte[] value = "id=42;amount=-123.4500E+3;currency=EUR".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(Decimal32.valueOf("-123.4500E+3"), Decimal32.valueOf(value, 13, 12));
+        assertEquals(Decimal64.valueOf("-123.4500E+3"), Decimal64.valueOf(value, 13, 12));
+        assertEquals(Decimal128.valueOf("-123.4500E+3"), Decimal128.valueOf(value, 13, 12));
+    }
+
+    @Test
+    void valueOf_asciiRange_special() {
+        final byte[] value = "a,-Infinity,b".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(Decimal64.NEGATIVE_INFINITY, Decimal64.valueOf(value, 2, 9));
+    }
+
+    @Test
+    void valueOf_asciiRange_outOfBounds() {
+        final byte[] value = { '1', '2', '3' };
+
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.valueOf(value, -1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.valueOf(value, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> Decimal64.valueOf(value, 2, -1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "+", "-", ".", "-.", "e5", ".e5", "1e", "1e+", "1E-", "1..2", "1.2.3", "1e5.0",
+            "1e5e6", " 1", "1 ", "1_000", "0x10", "1e12345678901", "-i", "1e+-5", "12345678:", "1234567/90",
+            "\u0661\u0662\u0663" })
+    void valueOf_asciiInvalid_throwsNumberFormatException(String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(NumberFormatException.class, () -> Decimal32.valueOf(bytes, 0, bytes.length));
+        assertThrows(NumberFormatException.class, () -> Decimal64.valueOf(bytes, 0, bytes.length));
+        assertThrows(NumberFormatException.class, () -> Decimal128.valueOf(bytes, 0, bytes.length));
+    }
+
+    @Test
+    void valueOf_asciiRandomValues_sameAsString() {
+        final Random random = new Random(9876);
+        for (int i = 0; i < 5000; i++) {
+            final StringBuilder value = new StringBuilder(random.nextBoolean() ? "-" : "");
+            final int digitCount = 1 + random.nextInt(60);
+            final int pointPosition = random.nextInt(digitCount + 8);
+            final int leadingZeroes = random.nextInt(4) == 0 ? random.nextInt(20) : 0;
+            for (int j = 0; j < digitCount; j++) {
+                if (j == pointPosition) {
+                    value.append('.');
+                }
+                value.append((char) ('0' + (j < leadingZeroes ? 0 : random.nextInt(10))));
+            }
+            if (random.nextBoolean()) {
+                value.append('E').append(random.nextInt(200) - 100);
+            }
+            final byte[] bytes = ("[" + value + "]").getBytes(StandardCharsets.US_ASCII);
+            final String expected = value.toString();
+
+            assertEquals(Decimal32.valueOf(expected), Decimal32.valueOf(bytes, 1, value.length()), expected);
+            assertEquals(Decimal64.valueOf(expected), Decimal64.valueOf(bytes, 1, value.length()), expected);
+            assertEquals(Decimal128.valueOf(expected), Decimal128.valueOf(bytes, 1, value.length()), expected);
+        }
+    }
+
+    private static void assertRoundedOnce(DecimalFormat decimalFormat, Decimal<?> decimal, String value) {
+        // exponents stay in range, so only rounding to precision applies
+        final BigDecimal expectedValue = new BigDecimal(value)
+                .round(new MathContext(decimalFormat.coefficientDigits, RoundingMode.HALF_EVEN));
+
+        assertEquals(expectedValue, decimal.toBigDecimal(), value);
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link DecimalToDouble}, through {@code doubleValue()}.
+ */
+class DecimalToDoubleTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "-0", "0E-6176", "1", "-0.1", "0.3", "1E22", "1E23", "9007199254740993",
+            "9007199254740993E1", "9007199254740995", "123456789012345678901234567890",
+            "2.2250738585072011E-308", "2.2250738585072012E-308", "2.2250738585072013E-308",
+            "4.9406564584124654E-324", "2.4703282292062327E-324", "2.4703282292062328E-324", "1E-400",
+            "-1E-400", "1.7976931348623157E308", "1.7976931348623158E308", "1.7976931348623159E308", "1E+400",
+            "-9.999999999999999999999999999999999E+6144", "1.000000000000000000000000000000001E-6143",
+            "7.2057594037927933E16", "7.20575940379279350000000000000001E16" })
+    void doubleValue_sameAsBigDecimal(String value) {
+        final Decimal128 decimal128 = Decimal128.valueOf(value);
+
+        assertEquals(decimal128.toBigDecimal().doubleValue(), decimal128.doubleValue(), value);
+        final Decimal64 decimal64 = Decimal64.valueOf(value);
+        if (decimal64.getType() == DecimalType.FINITE) {
+            assertEquals(decimal64.toBigDecimal().doubleValue(), decimal64.doubleValue(), value);
+        }
+    }
+
+    @Test
+    void doubleValue_negativeUnderflow_negativeZero() {
+        assertEquals(-0.0, Decimal128.valueOf("-1E-400").doubleValue());
+    }
+
+    @Test
+    void doubleValue_randomValues_sameAsBigDecimal() {
+        final Random random = new Random(2468);
+        final byte[] bytes = new byte[16];
+        for (int i = 0; i < 20_000; i++) {
+            random.nextBytes(bytes);
+            // Exponents within or near the range of double
+            bytes[0] = (byte) (bytes[0] & 0b1000_0011 | 0b0010_0000);
+            bytes[1] = (byte) (bytes[1] & 0b0000_1111 | 0b0100_0000 | (i & 1) << 7);
+            final Decimal128 decimal128 = Decimal128.parseBytes(bytes);
+
+            assertEquals(decimal128.toBigDecimal().doubleValue(), decimal128.doubleValue(), decimal128.toString());
+            final Decimal64 decimal64 = Decimal64.valueOf(decimal128);
+            if (decimal64.getType() == DecimalType.FINITE) {
+                assertEquals(decimal64.toBigDecimal().doubleValue(), decimal64.doubleValue(), decimal64.toString());
+            }
+        }
+    }
+
+    @Test
+    void doubleValue_halfwayBetweenDoubles_sameAsBigDecimal() {
+        final Random random = new Random(1122);
+        for (int i = 0; i < 5_000; i++) {
+            final double value = Math.abs(Double.longBitsToDouble(random.nextLong()));
+            if (!Double.isFinite(value) || value == Double.MAX_VALUE) {
+                continue;
+            }
+            final BigDecimal halfway = new BigDecimal(value).add(new BigDecimal(Math.nextUp(value)))
+                    .divide(BigDecimal.valueOf(2));
+            for (RoundingMode roundingMode : new RoundingMode[] { RoundingMode.DOWN, RoundingMode.UP }) {
+                for (int digits : new int[] { 17, 19, 20, 34 }) {
+                    final Decimal128 decimal = Decimal128.valueOf(halfway.round(new MathContext(digits, roundingMode)));
+
+                    assertEquals(decimal.toBigDecimal().doubleValue(), decimal.doubleValue(), decimal.toString());
+                }
+            }
+        }
+    }
+
+}
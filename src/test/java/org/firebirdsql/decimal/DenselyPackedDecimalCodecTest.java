@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DenselyPackedDecimalCodecTest {
+
+    @Test
+    void decodeDigitGroups_canonicalDigitGroups() {
+        final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(4);
+        for (int value = 0; value < 1000; value++) {
+            final byte[] decBytes = new byte[2];
+            codec.encodeValue(BigInteger.valueOf(value), decBytes);
+            final long dpdBits = (decBytes[0] & 0xFF) << 8 | (decBytes[1] & 0xFF);
+
+            assertEquals(value, DenselyPackedDecimalCodec.decodeDigitGroups(0, dpdBits, 1), "value " + value);
+        }
+    }
+
+    @ParameterizedTest(name = "{index}: 0x{0} -> {1}")
+    @MethodSource("nonCanonicalDigitGroups")
+    void decodeDigitGroups_nonCanonicalDigitGroups(String dpdHex, long expectedValue) {
+        final long dpdBits = HexFormat.fromHexDigits(dpdHex);
+
+        assertEquals(expectedValue, DenselyPackedDecimalCodec.decodeDigitGroups(0, dpdBits, 1));
+    }
+
+    static Stream<Arguments> nonCanonicalDigitGroups() {
+        return Stream.of(
+                Arguments.of("16E", 888), Arguments.of("26E", 888), Arguments.of("36E", 888),
+                Arguments.of("16F", 889), Arguments.of("26F", 889), Arguments.of("36F", 889),
+                Arguments.of("17E", 898), Arguments.of("27E", 898), Arguments.of("37E", 898),
+                Arguments.of("17F", 899), Arguments.of("27F", 899), Arguments.of("37F", 899),
+                Arguments.of("1EE", 988), Arguments.of("2EE", 988), Arguments.of("3EE", 988),
+                Arguments.of("1EF", 989), Arguments.of("2EF", 989), Arguments.of("3EF", 989),
+                Arguments.of("1FE", 998), Arguments.of("2FE", 998), Arguments.of("3FE", 998),
+                Arguments.of("1FF", 999), Arguments.of("2FF", 999), Arguments.of("3FF", 999));
+    }
+
+    @ParameterizedTest(name = "{index}: 0x{0} -> {1}")
+    @MethodSource("nonCanonicalDigitGroups")
+    void canonicalizeDigitGroups_nonCanonicalDigitGroups(String dpdHex, long expectedValue) {
+        final long dpdBits = HexFormat.fromHexDigits(dpdHex);
+
+        assertEquals(DenselyPackedDecimalCodec.encodeDigitGroups(expectedValue, 1),
+                DenselyPackedDecimalCodec.canonicalizeDigitGroups(dpdBits, 1));
+    }
+
+    @Test
+    void canonicalizeDigitGroups_canonicalDigitGroupsUnchanged() {
+        for (int value = 0; value < 1000; value++) {
+            final long dpdBits = DenselyPackedDecimalCodec.encodeDigitGroups(value, 1);
+
+            assertEquals(dpdBits, DenselyPackedDecimalCodec.canonicalizeDigitGroups(dpdBits, 1), "value " + value);
+        }
+    }
+
+    @Test
+    void canonicalizeDigitGroups_multipleGroups_keepsHigherBits() {
+        // digit groups 0x3FF (999), 0x001 (1) and 0x16E (888), with all bits above the digit groups set
+        final long dpdBits = -1L << 30 | 0x3FFL << 20 | 0x001L << 10 | 0x16EL;
+        final long expectedBits = -1L << 30 | 0x0FFL << 20 | 0x001L << 10 | 0x06EL;
+
+        assertEquals(expectedBits, DenselyPackedDecimalCodec.canonicalizeDigitGroups(dpdBits, 3));
+    }
+
+    @Test
+    void decodeDigitGroups_decimal64Coefficient() {
+        // coefficient continuation of 263934b9c1e28e56 (1234567890123456), first digit 1 is in the combination field
+        final long dpdBits = 0x263934b9c1e28e56L & ((1L << 50) - 1);
+
+        assertEquals(1234567890123456L, DenselyPackedDecimalCodec.decodeDigitGroups(1, dpdBits, 5));
+    }
+
+    @Test
+    void decodeDigitGroups_ignoresHigherBits() {
+        assertEquals(9_999_999L, DenselyPackedDecimalCodec.decodeDigitGroups(9, 0xFFFF_FFFF_FFFF_FFFFL, 2));
+    }
+
+    @Test
+    void encodeDigitGroups_decimal64Coefficient() {
+        final long expectedDpdBits = 0x263934b9c1e28e56L & ((1L << 50) - 1);
+
+        assertEquals(expectedDpdBits, DenselyPackedDecimalCodec.encodeDigitGroups(1234567890123456L, 5));
+    }
+
+    @Test
+    void encodeDigitGroups_roundTrip() {
+        final long[] values = { 0, 1, 999, 1000, 9_999_999L, 12_345_678_901_234L, 999_999_999_999_999_999L };
+        for (long value : values) {
+            final long dpdBits = DenselyPackedDecimalCodec.encodeDigitGroups(value, 6);
+
+            assertEquals(value, DenselyPackedDecimalCodec.decodeDigitGroups(0, dpdBits, 6), "value " + value);
+        }
+    }
+
+    @Test
+    void encodeDigitGroups_ignoresMostSignificantDigit() {
+        assertEquals(0b0000011001_0011111111, DenselyPackedDecimalCodec.encodeDigitGroups(9_019_999L, 2));
+    }
+
+    @Test
+    void decodeValue_16Digits_negative() {
+        final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(16);
+        final byte[] decBytes = HexFormat.of().parseHex("263934b9c1e28e56");
+
+        assertEquals(new BigInteger("-1234567890123456"), codec.decodeValue(Signum.NEGATIVE, 1, decBytes));
+    }
+
+    @Test
+    void decodeValue_16Digits_zero() {
+        final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(16);
+
+        assertEquals(BigInteger.ZERO, codec.decodeValue(Signum.NEGATIVE, 0, new byte[8]));
+    }
+
+    @ParameterizedTest(name = "{index}: {0} digits, value {1}")
+    @MethodSource("largeValues")
+    void encodeValue_decodeValue_roundTrip(int numberOfDigits, String value, int expectedFirstDigit) {
+        final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(numberOfDigits);
+        final BigInteger expectedValue = new BigInteger(value);
+        final byte[] decBytes = new byte[(numberOfDigits / 3 * 10 + 7) / 8];
+
+        final int firstDigit = codec.encodeValue(expectedValue, decBytes);
+
+        assertEquals(expectedFirstDigit, firstDigit, "firstDigit");
+        final int signum = expectedValue.signum() == -1 ? Signum.NEGATIVE : Signum.POSITIVE;
+        assertEquals(expectedValue, codec.decodeValue(signum, firstDigit, decBytes));
+    }
+
+    static Stream<Arguments> largeValues() {
+        return Stream.of(
+                Arguments.of(22, "1", 0),
+                Arguments.of(22, "1234567890123456789012", 1),
+                Arguments.of(22, "-9999999999999999999999", 9),
+                Arguments.of(34, "0", 0),
+                Arguments.of(34, "1000000000000000000", 0),
+                Arguments.of(34, "9223372036854775807", 0),
+                Arguments.of(34, "-9223372036854775808", 0),
+                Arguments.of(34, "1234567890123456789012345678901234", 1),
+                Arguments.of(34, "-9999999999999999999999999999999999", 9),
+                Arguments.of(40, "123456789012345678901", 0),
+                Arguments.of(40, "-1234567890123456789012345678901234567890", 1),
+                Arguments.of(40, "9999999999999999999999999999999999999999", 9));
+    }
+
+    @Test
+    void decodeValue_34Digits_negative() {
+        final DenselyPackedDecimalCodec codec = new DenselyPackedDecimalCodec(34);
+        // coefficient continuation of decimal128 2608134b9c1e28e56f3c127177823534 (1234567890123456789012345678901234)
+        final byte[] decBytes = HexFormat.of().parseHex("2608134b9c1e28e56f3c127177823534");
+
+        assertEquals(new BigInteger("-1234567890123456789012345678901234"),
+                codec.decodeValue(Signum.NEGATIVE, 1, decBytes));
+    }
+
+}
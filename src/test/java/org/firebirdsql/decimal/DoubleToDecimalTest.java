@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link DoubleToDecimal}, through {@code valueOf(double)}.
+ */
+class DoubleToDecimalTest {
+
+    @ParameterizedTest
+    @MethodSource("knownValues")
+    void valueOf_knownValues(double value, String expectedDecimal128, String expectedDecimal32) {
+        assertEquals(expectedDecimal128, Decimal128.valueOf(value).toString());
+        assertEquals(expectedDecimal32, Decimal32.valueOf(value).toString());
+    }
+
+    static Stream<Arguments> knownValues() {
+        return Stream.of(
+                // Scale as in BigDecimal.valueOf(double), including the trailing zero of Double.toString
+                Arguments.of(0.0, "0.0", "0.0"),
+                Arguments.of(-0.0, "0.0", "0.0"),
+                Arguments.of(1.0, "1.0", "1.0"),
+                Arguments.of(-100.0, "-100.0", "-100.0"),
+                Arguments.of(1234567.0, "1234567.0", "1234567"),
+                Arguments.of(1.0E7, "1.0E+7", "1.0E+7"),
+                Arguments.of(1.5E10, "1.5E+10", "1.5E+10"),
+                Arguments.of(0.1, "0.1", "0.1"),
+                Arguments.of(0.001, "0.001", "0.001"),
+                Arguments.of(1.0E-4, "0.00010", "0.00010"),
+                Arguments.of(1.2345E-4, "0.00012345", "0.00012345"),
+                Arguments.of(123456.789, "123456.789", "123456.8"),
+                // Shortest representation
+                Arguments.of(2.0E-3, "0.002", "0.002"),
+                Arguments.of(1.0E23, "1.0E+23", "1.0E+23"),
+                Arguments.of(9.007199254740993E15, "9007199254740992", "9.007199E+15"),
+                Arguments.of(Double.MAX_VALUE, "1.7976931348623157E+308", "+Infinity"),
+                Arguments.of(Double.MIN_NORMAL, "2.2250738585072014E-308", "0E-101"),
+                Arguments.of(Double.MIN_VALUE, "4.9E-324", "0E-101"),
+                Arguments.of(2 * Double.MIN_VALUE, "9.9E-324", "0E-101"),
+                // Rounded once to the subnormal range of Decimal32
+                Arguments.of(1.3425547357079374E-96, "1.3425547357079374E-96", "1.34255E-96"));
+    }
+
+    @Test
+    void valueOf_randomValues_roundTrip() {
+        final Random random = new Random(1357);
+        for (int i = 0; i < 20_000; i++) {
+            final double value = i % 2 == 0
+                    ? Double.longBitsToDouble(random.nextLong())
+                    : random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+            if (!Double.isFinite(value)) {
+                continue;
+            }
+            final Decimal128 decimal128 = Decimal128.valueOf(value);
+
+            assertEquals(value, decimal128.doubleValue(), "round trip of " + value);
+            // Rounding to precision is the same as parsing the (exact) shortest representation
+            final String shortest = decimal128.toString();
+            assertEquals(Decimal64.valueOf(shortest), Decimal64.valueOf(value), shortest);
+            assertEquals(Decimal32.valueOf(shortest), Decimal32.valueOf(value), shortest);
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019-2023 Firebird development team and individual contributors
+ * Copyright (c) 2019-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -58,4 +58,11 @@ class ExamplesTest {
         byte[] bytes = decimal32.toBytes();
         assertArrayEquals(new byte[] { (byte) 0xa1, (byte) 0xc0, 0x03, (byte) 0xd0 }, bytes);
     }
+
+    @Test
+    void decimal64Arithmetic() {
+        Decimal64 total = Decimal64.valueOf("19.99").multiply(Decimal64.valueOf("3"))
+                .add(Decimal64.valueOf("4.95"));
+        assertEquals("64.92", total.toString());
+    }
 }
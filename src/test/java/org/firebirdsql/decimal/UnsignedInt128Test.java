@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Firebird development team and individual contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.firebirdsql.decimal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnsignedInt128Test {
+
+    private static final BigInteger TWO_POW_64 = BigInteger.ONE.shiftLeft(64);
+    private static final BigInteger TEN_POW_18 = BigInteger.valueOf(UnsignedInt128.TEN_POW_18);
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0", "1", "-1", "9223372036854775807", "-9223372036854775808", "18446744073709551615",
+            "18446744073709551616", "9999999999999999999999999999999999", "-9999999999999999999999999999999999",
+            "340282366920938463463374607431768211455" })
+    void valueOf_toBigInteger_roundTrip(String value) {
+        final BigInteger expectedValue = new BigInteger(value);
+        final UnsignedInt128 unsignedInt128 = UnsignedInt128.valueOf(expectedValue);
+
+        assertEquals(expectedValue.abs(), unsignedInt128.toBigInteger(Signum.POSITIVE));
+        assertEquals(expectedValue.abs().negate(), unsignedInt128.toBigInteger(Signum.NEGATIVE));
+    }
+
+    @Test
+    void valueOf_tooLarge() {
+        assertThrows(IllegalArgumentException.class, () -> UnsignedInt128.valueOf(TWO_POW_64.pow(2)));
+        assertThrows(IllegalArgumentException.class, () -> UnsignedInt128.valueOf(TWO_POW_64.pow(2).negate()));
+    }
+
+    @Test
+    void valueOf_highAndLow() {
+        final UnsignedInt128 value = UnsignedInt128.valueOf(1, -1);
+
+        assertEquals(TWO_POW_64.shiftLeft(1).subtract(BigInteger.ONE), value.toBigInteger(Signum.POSITIVE));
+    }
+
+    @Test
+    void fromDecimalParts_maximumDecimal128Coefficient() {
+        final UnsignedInt128 value = UnsignedInt128.fromDecimalParts(9_999_999_999_999_999L, 999_999_999_999_999_999L);
+
+        assertEquals(new BigInteger("9999999999999999999999999999999999"), value.toBigInteger(Signum.POSITIVE));
+        assertEquals(9_999_999_999_999_999L, value.upperDecimalPart());
+        assertEquals(999_999_999_999_999_999L, value.lowerDecimalPart());
+    }
+
+    @Test
+    void fromDecimalParts_randomValues() {
+        final Random random = new Random(1234);
+        for (int i = 0; i < 1000; i++) {
+            final long upper = random.nextLong() & Long.MAX_VALUE;
+            final long lower = Math.floorMod(random.nextLong(), UnsignedInt128.TEN_POW_18);
+            final BigInteger expectedValue = BigInteger.valueOf(upper).multiply(TEN_POW_18)
+                    .add(BigInteger.valueOf(lower));
+
+            final UnsignedInt128 value = UnsignedInt128.fromDecimalParts(upper, lower);
+
+            assertEquals(expectedValue, value.toBigInteger(Signum.POSITIVE));
+            assertEquals(upper, value.upperDecimalPart());
+            assertEquals(lower, value.lowerDecimalPart());
+        }
+    }
+
+    @Test
+    void divideUnsigned_randomValues() {
+        final Random random = new Random(4321);
+        for (int i = 0; i < 10_000; i++) {
+            long divisor = random.nextLong() >>> random.nextInt(64);
+            if (divisor == 0) {
+                divisor = 1;
+            }
+            final long high = Long.remainderUnsigned(random.nextLong(), divisor);
+            final long low = random.nextLong();
+            final BigInteger bigDivisor = new BigInteger(Long.toUnsignedString(divisor));
+            final BigInteger dividend = new BigInteger(Long.toUnsignedString(high)).shiftLeft(64)
+                    .add(new BigInteger(Long.toUnsignedString(low)));
+
+            final long quotient = UnsignedInt128.divideUnsigned(high, low, divisor);
+
+            assertEquals(dividend.divide(bigDivisor).toString(), Long.toUnsignedString(quotient),
+                    "dividend " + dividend + ", divisor " + bigDivisor);
+        }
+    }
+
+    @Test
+    void divideScaled_randomValues() {
+        final Random random = new Random(5678);
+        for (int i = 0; i < 10_000; i++) {
+            // Divisor of up to 113 bits (the maximum Decimal128 coefficient), and a smaller value to scale
+            final BigInteger bigDivisor = new BigInteger(1 + random.nextInt(113), random).add(BigInteger.ONE);
+            final BigInteger value = new BigInteger(bigDivisor.bitLength(), random).mod(bigDivisor);
+            final long lower = Math.floorMod(random.nextLong(), UnsignedInt128.TEN_POW_18);
+            final BigInteger dividend = value.multiply(TEN_POW_18).add(BigInteger.valueOf(lower));
+
+            final long quotient = UnsignedInt128.divideScaled(value.shiftRight(64).longValue(), value.longValue(),
+                    lower, bigDivisor.shiftRight(64).longValue(), bigDivisor.longValue());
+
+            assertEquals(dividend.divide(bigDivisor).longValue(), quotient,
+                    "dividend " + dividend + ", divisor " + bigDivisor);
+        }
+    }
+
+    @Test
+    void multiplyHighUnsigned_randomValues() {
+        final Random random = new Random(8765);
+        for (int i = 0; i < 10_000; i++) {
+            final long x = random.nextLong();
+            final long y = random.nextLong();
+            final BigInteger product = new BigInteger(Long.toUnsignedString(x))
+                    .multiply(new BigInteger(Long.toUnsignedString(y)));
+
+            assertEquals(product.shiftRight(64).longValue(), UnsignedInt128.multiplyHighUnsigned(x, y));
+        }
+    }
+
+    @Test
+    void isZero() {
+        assertTrue(UnsignedInt128.ZERO.isZero());
+        assertFalse(UnsignedInt128.valueOf(1, 0).isZero());
+    }
+
+}
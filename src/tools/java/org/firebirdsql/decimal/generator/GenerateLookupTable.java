@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017-2023 Firebird development team and individual contributors
+ * Copyright (c) 2017-2026 Firebird development team and individual contributors
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
@@ -24,28 +24,29 @@ package org.firebirdsql.decimal.generator;
 import static org.firebirdsql.decimal.generator.LookupConstants.DPD2BIN;
 
 /**
- * Generates a lookup table from DPD encoding of three digits to those three digits as characters.
+ * Generates the lookup table {@code DPD_2_BIN} of {@code DenselyPackedDecimalCodec} from DPD encoding of three digits
+ * to the binary value of those three digits.
  *
  * @author Mark Rotteveel
  */
 public class GenerateLookupTable {
 
+    private static final int VALUES_FIRST_LINE = 8;
+    private static final int VALUES_PER_LINE = 13;
+
     public static void main(String[] args) {
+        System.out.print("    private static final int[] DPD_2_BIN = {");
         for (int index = 0; index < DPD2BIN.length; index++) {
-            if (index % 12 == 0) {
-                System.out.println();
-            }
-            System.out.print(toThreeDigitString(DPD2BIN[index]));
-            if (index < DPD2BIN.length - 1) {
-                System.out.print(" + ");
+            if (index == 0) {
+                System.out.print(DPD2BIN[index]);
+            } else if ((index - VALUES_FIRST_LINE) % VALUES_PER_LINE == 0) {
+                System.out.println(",");
+                System.out.printf("            %3d", DPD2BIN[index]);
             } else {
-                System.out.println();
+                System.out.printf(",%5d", DPD2BIN[index]);
             }
         }
-    }
-
-    private static String toThreeDigitString(int value) {
-        return String.format("\"%03d\"", value);
+        System.out.println("};");
     }
 
 }
@@ -50,4 +50,19 @@ public final class ByteArrayHelper {
         return HexFormat.of().parseHex(hexString);
     }
 
+    /**
+     * Creates a copy of a byte array with the bytes in reverse order.
+     *
+     * @param bytes
+     *         byte array
+     * @return new byte array with the bytes of {@code bytes} in reverse order
+     */
+    public static byte[] reverse(byte[] bytes) {
+        final byte[] reversed = new byte[bytes.length];
+        for (int idx = 0; idx < bytes.length; idx++) {
+            reversed[idx] = bytes[bytes.length - 1 - idx];
+        }
+        return reversed;
+    }
+
 }